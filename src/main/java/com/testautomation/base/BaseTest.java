@@ -1,15 +1,37 @@
 package com.testautomation.base;
 
-import com.testautomation.utils.ExtentReportManager;
+import com.testautomation.config.ConfigManager;
+import com.testautomation.lifecycle.TestLifecycleBus;
+import com.testautomation.metrics.ActionLatencyRegistry;
+import com.testautomation.metrics.MetricsEndpoint;
+import com.testautomation.network.HarManager;
+import com.testautomation.network.NetworkAccounting;
+import com.testautomation.pages.AppReadiness;
+import com.testautomation.pages.BasePage;
+import com.testautomation.pages.LandingPage;
+import com.testautomation.pages.SelectorPreflight;
+import com.testautomation.perf.PerformanceBudgets;
+import com.testautomation.perf.WebPerfHistory;
+import com.testautomation.server.AppServer;
+import com.testautomation.metrics.StepTracker;
+import com.testautomation.metrics.jfr.PageActionEvent;
+import com.testautomation.utils.ImageArtifactProcessor;
+import com.testautomation.utils.ReportFlushScheduler;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
+import org.testng.ITestContext;
 import org.testng.ITestResult;
 import org.testng.annotations.AfterMethod;
 import org.testng.annotations.AfterSuite;
 import org.testng.annotations.BeforeMethod;
 import org.testng.annotations.BeforeSuite;
+import org.testng.annotations.Test;
 
 import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
 
 public class BaseTest {
     protected static final Logger logger = LogManager.getLogger(BaseTest.class);
@@ -17,11 +39,14 @@ public class BaseTest {
     @BeforeSuite
     public void setUpSuite() {
         logger.info("Setting up test suite");
+        MetricsEndpoint.start();
+        AppServer.startShared();
         PlaywrightManager.setUp();
+        SelectorPreflight.run(PlaywrightManager.getPage());
     }
 
     @BeforeMethod
-    public void setUp(Method method) {
+    public void setUp(Method method, ITestContext context) {
         logger.info("Setting up test method: {} in thread: {}", method.getName(), Thread.currentThread().getName());
         
         // Ensure Playwright is set up for this thread if not already done
@@ -29,32 +54,84 @@ public class BaseTest {
             logger.info("Playwright not initialized for thread {}, setting up now", Thread.currentThread().getName());
             PlaywrightManager.setUp();
         }
+        EmulationManager.apply(context.getCurrentXmlTest().getParameter("emulation.profile"));
         
-        ExtentReportManager.createTest(method.getName());
+        Test test = method.getAnnotation(Test.class);
+        TestLifecycleBus.publishStart(getClass().getName(), method.getName(), test != null ? test.description() : null);
     }
 
     @AfterMethod
     public void tearDown(Method method, ITestResult result) {
         logger.info("Tearing down test method: {} in thread: {}", method.getName(), Thread.currentThread().getName());
         
-        ExtentReportManager.cleanup();
-        ExtentReportManager.flush();
+        TestLifecycleBus.publishFinish(result);
     }
 
     @AfterSuite
     public void tearDownSuite() {
         logger.info("Tearing down test suite");
+        TestLifecycleBus.publishSuiteFinish();
+        ImageArtifactProcessor.awaitCompletion(ConfigManager.getIntProperty("screenshot.artifacts.await.ms", 30000));
+        ReportFlushScheduler.flushNow();
         PlaywrightManager.tearDown();
+        AppServer.stopAll();
+        MetricsEndpoint.stop();
+        enforceSuiteChecks(PerformanceBudgets::enforce, WebPerfHistory::enforce, NetworkAccounting::enforce,
+                HarManager::enforce);
+    }
+
+    /**
+     * Runs every suite-end check before failing, so one breach does not hide the others.
+     */
+    private static void enforceSuiteChecks(Runnable... checks) {
+        List<AssertionError> failures = new ArrayList<>();
+        for (Runnable check : Arrays.asList(checks)) {
+            try {
+                check.run();
+            } catch (AssertionError e) {
+                failures.add(e);
+            }
+        }
+        if (failures.size() == 1) {
+            throw failures.get(0);
+        }
+        if (!failures.isEmpty()) {
+            AssertionError combined = new AssertionError(failures.size() + " suite check(s) failed: "
+                    + failures.stream().map(Throwable::getMessage).collect(Collectors.joining(" | ")));
+            failures.forEach(combined::addSuppressed);
+            throw combined;
+        }
     }
 
     protected void navigateToUrl(String url) {
+        navigateToUrl(url, BasePage.class);
+    }
+
+    /**
+     * Navigates and waits until the screen of {@code landingPage} is ready (see {@link AppReadiness});
+     * a page object without {@code @ReadySignals} waits for the configured {@code ready.fallback}.
+     */
+    protected void navigateToUrl(String url, Class<? extends BasePage> landingPage) {
         logger.info("Navigating to URL: {}", url);
-        PlaywrightManager.getPage().navigate(url);
-        PlaywrightManager.getPage().waitForLoadState();
+        StepTracker.Step step = StepTracker.begin("navigate", "navigate", url);
+        PageActionEvent event = new PageActionEvent(BaseTest.class.getSimpleName(), "navigate", url);
+        event.begin();
+        long start = System.nanoTime();
+        try {
+            PlaywrightManager.getPage().navigate(url);
+            AppReadiness.await(PlaywrightManager.getPage(), landingPage);
+        } finally {
+            ActionLatencyRegistry.record(BaseTest.class.getSimpleName(), "navigate", url, System.nanoTime() - start);
+            event.commit();
+            StepTracker.end(step);
+        }
     }
 
+    /**
+     * Opens the app on the embedded app server, or {@code app.url} when the server is disabled.
+     */
     protected void navigateToApp() {
-        String appUrl = com.testautomation.config.ConfigManager.getProperty("app.url");
-        navigateToUrl(appUrl);
+        String appUrl = AppServer.getAppUrl();
+        navigateToUrl(appUrl != null ? appUrl : ConfigManager.getProperty("app.url"), LandingPage.class);
     }
 }
\ No newline at end of file
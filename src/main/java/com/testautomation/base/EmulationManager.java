@@ -0,0 +1,109 @@
+package com.testautomation.base;
+
+import com.google.gson.JsonObject;
+import com.microsoft.playwright.CDPSession;
+import com.microsoft.playwright.Page;
+import com.testautomation.config.ConfigManager;
+import com.testautomation.metrics.ActionLatencyRegistry;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * Applies an {@link EmulationProfile} to the current thread's page via a Chromium DevTools session.
+ * <p>
+ * The profile comes from the TestNG {@code emulation.profile} parameter (see testng-emulation.xml) or the
+ * {@code emulation.profile} property. On Firefox and WebKit there is no DevTools protocol, so the test runs
+ * unthrottled and the active profile stays {@link EmulationProfile#NONE}. The active profile is what timings
+ * are tagged with.
+ */
+public class EmulationManager {
+    private static final Logger logger = LogManager.getLogger(EmulationManager.class);
+    private static final ThreadLocal<EmulationProfile> active = ThreadLocal.withInitial(() -> EmulationProfile.NONE);
+    private static final ThreadLocal<CDPSession> session = new ThreadLocal<>();
+    private static final ThreadLocal<Page> sessionPage = new ThreadLocal<>();
+
+    public static EmulationProfile getActiveProfile() {
+        return active.get();
+    }
+
+    /**
+     * @return {@code key} qualified with the active profile (like {@code PageMetrics.getPageKey}), so throttled
+     *         runs of a test are recorded and compared apart from unthrottled ones
+     */
+    public static String qualify(String key) {
+        return qualify(key, active.get().getId());
+    }
+
+    /**
+     * @return {@code key} qualified with the profile {@code profileId}; unchanged when it is null or {@code none}
+     */
+    public static String qualify(String key, String profileId) {
+        return profileId == null || EmulationProfile.NONE.getId().equals(profileId) ? key : key + " [" + profileId + "]";
+    }
+
+    /**
+     * Applies the profile to the current page unless it is already active there.
+     *
+     * @param requested profile id; null or blank falls back to {@code emulation.profile}
+     */
+    public static void apply(String requested) {
+        EmulationProfile profile = EmulationProfile.fromId(requested != null && !requested.isBlank()
+                ? requested : ConfigManager.getProperty("emulation.profile", "none"));
+        Page page = PlaywrightManager.getPage();
+        if (page == null || (profile == active.get() && page == sessionPage.get())) {
+            return;
+        }
+        if (profile != EmulationProfile.NONE && !isChromium()) {
+            logger.warn("Emulation profile '{}' needs Chromium; running {} unthrottled",
+                    profile.getId(), ConfigManager.getProperty("browser.name", "chromium"));
+            profile = EmulationProfile.NONE;
+        }
+        if (profile != EmulationProfile.NONE || sessionPage.get() == page) {
+            send(page, profile);
+        }
+        active.set(profile);
+        ActionLatencyRegistry.setProfile(profile.getId());
+    }
+
+    public static void reset() {
+        CDPSession current = session.get();
+        if (current != null) {
+            try {
+                current.detach();
+            } catch (Exception e) {
+                logger.debug("Error detaching DevTools session in thread {}", Thread.currentThread().getName(), e);
+            }
+        }
+        session.remove();
+        sessionPage.remove();
+        active.remove();
+        ActionLatencyRegistry.setProfile(EmulationProfile.NONE.getId());
+    }
+
+    private static void send(Page page, EmulationProfile profile) {
+        CDPSession cdp = session.get();
+        if (cdp == null || sessionPage.get() != page) {
+            cdp = PlaywrightManager.getContext().newCDPSession(page);
+            cdp.send("Network.enable");
+            session.set(cdp);
+            sessionPage.set(page);
+        }
+        JsonObject network = new JsonObject();
+        network.addProperty("offline", false);
+        network.addProperty("latency", profile.getLatencyMs());
+        network.addProperty("downloadThroughput", profile.getDownloadBytesPerSecond());
+        network.addProperty("uploadThroughput", profile.getUploadBytesPerSecond());
+        cdp.send("Network.emulateNetworkConditions", network);
+
+        JsonObject cpu = new JsonObject();
+        cpu.addProperty("rate", profile.getCpuSlowdown());
+        cdp.send("Emulation.setCPUThrottlingRate", cpu);
+        logger.info("Applied emulation profile '{}' ({}) in thread {}", profile.getId(), profile.describe(),
+                Thread.currentThread().getName());
+    }
+
+    private static boolean isChromium() {
+        return PlaywrightManager.getBrowser() != null
+                && "chromium".equals(PlaywrightManager.getBrowser().browserType().name());
+    }
+}
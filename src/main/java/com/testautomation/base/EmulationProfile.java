@@ -0,0 +1,85 @@
+package com.testautomation.base;
+
+import java.util.Locale;
+
+/**
+ * Named device/network conditions applied to a browser context through the Chromium DevTools protocol.
+ * Throughputs are bytes per second ({@code -1} disables throttling); latency is added round-trip time.
+ */
+public enum EmulationProfile {
+    NONE("none", 0, -1, -1, 1),
+    SLOW_3G("slow-3g", 2000, 50_000, 50_000, 1),
+    FAST_4G("fast-4g", 170, 1_125_000, 187_500, 1),
+    CPU_4X("cpu-4x", 0, -1, -1, 4),
+    SLOW_3G_CPU_4X("slow-3g-cpu-4x", 2000, 50_000, 50_000, 4),
+    FAST_4G_CPU_4X("fast-4g-cpu-4x", 170, 1_125_000, 187_500, 4);
+
+    private final String id;
+    private final double latencyMs;
+    private final double downloadBytesPerSecond;
+    private final double uploadBytesPerSecond;
+    private final double cpuSlowdown;
+
+    EmulationProfile(String id, double latencyMs, double downloadBytesPerSecond, double uploadBytesPerSecond,
+                     double cpuSlowdown) {
+        this.id = id;
+        this.latencyMs = latencyMs;
+        this.downloadBytesPerSecond = downloadBytesPerSecond;
+        this.uploadBytesPerSecond = uploadBytesPerSecond;
+        this.cpuSlowdown = cpuSlowdown;
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public double getLatencyMs() {
+        return latencyMs;
+    }
+
+    public double getDownloadBytesPerSecond() {
+        return downloadBytesPerSecond;
+    }
+
+    public double getUploadBytesPerSecond() {
+        return uploadBytesPerSecond;
+    }
+
+    public double getCpuSlowdown() {
+        return cpuSlowdown;
+    }
+
+    public boolean throttlesNetwork() {
+        return latencyMs > 0 || downloadBytesPerSecond > 0 || uploadBytesPerSecond > 0;
+    }
+
+    public static EmulationProfile fromId(String id) {
+        if (id == null || id.isBlank()) {
+            return NONE;
+        }
+        for (EmulationProfile profile : values()) {
+            if (profile.id.equalsIgnoreCase(id.trim())) {
+                return profile;
+            }
+        }
+        throw new IllegalArgumentException("Unknown emulation profile: " + id);
+    }
+
+    public String describe() {
+        if (this == NONE) {
+            return "no throttling";
+        }
+        StringBuilder description = new StringBuilder();
+        if (throttlesNetwork()) {
+            description.append(String.format(Locale.ENGLISH, "%.0f ms RTT, %.0f/%.0f kbit/s down/up",
+                    latencyMs, downloadBytesPerSecond * 8 / 1000, uploadBytesPerSecond * 8 / 1000));
+        }
+        if (cpuSlowdown > 1) {
+            if (description.length() > 0) {
+                description.append(", ");
+            }
+            description.append(String.format(Locale.ENGLISH, "%.0fx CPU slowdown", cpuSlowdown));
+        }
+        return description.toString();
+    }
+}
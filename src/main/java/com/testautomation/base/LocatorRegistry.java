@@ -0,0 +1,37 @@
+package com.testautomation.base;
+
+import com.microsoft.playwright.Locator;
+import com.microsoft.playwright.Page;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Per-thread cache of {@link Locator}s built from page objects' selector constants, so repeated
+ * interactions reuse one Locator instead of handing Playwright the selector string again.
+ * <p>
+ * Entries are keyed by page object class and selector and belong to one {@link Page}: when the thread's
+ * page changes (new session, load-mode iteration) the cache starts over, so tests sharing a page keep their
+ * locators, and {@link #clear()} drops it when the session is closed. Locators point at the first match, like the selector-string
+ * calls they replace.
+ */
+public class LocatorRegistry {
+    private static final ThreadLocal<LocatorRegistry> current = ThreadLocal.withInitial(LocatorRegistry::new);
+
+    private Page page;
+    private final Map<Class<?>, Map<String, Locator>> locators = new HashMap<>();
+
+    public static Locator get(Page page, Class<?> pageClass, String selector) {
+        LocatorRegistry registry = current.get();
+        if (registry.page != page) {
+            registry.locators.clear();
+            registry.page = page;
+        }
+        return registry.locators.computeIfAbsent(pageClass, k -> new HashMap<>())
+                .computeIfAbsent(selector, k -> page.locator(selector).first());
+    }
+
+    public static void clear() {
+        current.remove();
+    }
+}
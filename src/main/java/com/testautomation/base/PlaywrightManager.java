@@ -2,6 +2,13 @@ package com.testautomation.base;
 
 import com.microsoft.playwright.*;
 import com.testautomation.config.ConfigManager;
+import com.testautomation.metrics.FrameworkMetrics;
+import com.testautomation.network.ApiMocks;
+import com.testautomation.network.HarManager;
+import com.testautomation.network.NetworkAccounting;
+import com.testautomation.network.StaticAssetCache;
+import com.testautomation.perf.WebPerfCollector;
+import com.testautomation.metrics.jfr.PlaywrightLifecycleEvent;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
@@ -11,44 +18,106 @@ public class PlaywrightManager {
     private static final ThreadLocal<Browser> browser = new ThreadLocal<>();
     private static final ThreadLocal<BrowserContext> context = new ThreadLocal<>();
     private static final ThreadLocal<Page> page = new ThreadLocal<>();
+    private static final ThreadLocal<Boolean> virtualUser = new ThreadLocal<>();
 
     public static void setUp() {
         logger.info("Setting up Playwright in thread: {}", Thread.currentThread().getName());
+        PlaywrightLifecycleEvent event = new PlaywrightLifecycleEvent("setUp");
+        event.begin();
         
         Playwright pw = Playwright.create();
         String browserName = ConfigManager.getProperty("browser.name", "chromium");
+        event.setBrowser(browserName);
         boolean headless = ConfigManager.getBooleanProperty("browser.headless", false);
         
+        Browser br = launchBrowser(pw);
+        BrowserContext ctx = newContext(br);
+        
+        Page pg = ctx.newPage();
+
+        playwright.set(pw);
+        browser.set(br);
+        context.set(ctx);
+        page.set(pg);
+        event.commit();
+        
+        logger.info("Playwright setup completed in thread: {} with browser: {} (headless: {})", 
+            Thread.currentThread().getName(), browserName, headless);
+    }
+
+    /**
+     * Launches the configured browser ({@code browser.name}, {@code browser.headless}) on {@code pw}.
+     * Used by {@link #setUp()} and by the load-mode browser pool.
+     */
+    public static Browser launchBrowser(Playwright pw) {
+        String browserName = ConfigManager.getProperty("browser.name", "chromium");
+        BrowserType.LaunchOptions options = new BrowserType.LaunchOptions()
+                .setHeadless(ConfigManager.getBooleanProperty("browser.headless", false));
+        
         Browser br;
         switch (browserName.toLowerCase()) {
             case "firefox":
-                br = pw.firefox().launch(new BrowserType.LaunchOptions().setHeadless(headless));
+                br = pw.firefox().launch(options);
                 break;
             case "webkit":
-                br = pw.webkit().launch(new BrowserType.LaunchOptions().setHeadless(headless));
+                br = pw.webkit().launch(options);
                 break;
             case "chromium":
             default:
-                br = pw.chromium().launch(new BrowserType.LaunchOptions().setHeadless(headless));
+                br = pw.chromium().launch(options);
                 break;
         }
-        
+        FrameworkMetrics.browserOpened();
+        return br;
+    }
+
+    /**
+     * Creates a browser context with the framework defaults (locale, timeouts, web performance observers,
+     * network accounting, HAR record/replay, the shared static asset cache, API mocks). Routes added last
+     * are consulted first, so API mocks answer before HAR replay sees a request.
+     */
+    public static BrowserContext newContext(Browser br) {
         BrowserContext ctx = br.newContext(new Browser.NewContextOptions()
                 .setLocale("en-US")
                 .setAcceptDownloads(true));
+        FrameworkMetrics.contextOpened();
+        WebPerfCollector.install(ctx);
+        NetworkAccounting.install(ctx);
+        HarManager.install(ctx);
+        StaticAssetCache.install(ctx);
+        ApiMocks.install(ctx);
         
         ctx.setDefaultNavigationTimeout(ConfigManager.getIntProperty("app.navigation.timeout", 45000));
         ctx.setDefaultTimeout(ConfigManager.getIntProperty("app.timeout", 15000));
-        
-        Page pg = ctx.newPage();
+        return ctx;
+    }
 
+    /**
+     * Makes a session owned elsewhere (a load-mode virtual user) the current thread's session so page
+     * objects can drive it. The manager does not close bound sessions; call {@link #unbind()} when done.
+     */
+    public static void bind(Playwright pw, Browser br, BrowserContext ctx, Page pg) {
         playwright.set(pw);
         browser.set(br);
         context.set(ctx);
         page.set(pg);
-        
-        logger.info("Playwright setup completed in thread: {} with browser: {} (headless: {})", 
-            Thread.currentThread().getName(), browserName, headless);
+        virtualUser.set(Boolean.TRUE);
+    }
+
+    public static void unbind() {
+        playwright.remove();
+        browser.remove();
+        context.remove();
+        page.remove();
+        virtualUser.remove();
+        LocatorRegistry.clear();
+    }
+
+    /**
+     * @return true when the current thread drives a bound load-mode session rather than a test session
+     */
+    public static boolean isVirtualUser() {
+        return virtualUser.get() != null;
     }
 
     public static Page getPage() {
@@ -69,6 +138,10 @@ public class PlaywrightManager {
 
     public static void tearDown() {
         logger.info("Tearing down Playwright in thread: {}", Thread.currentThread().getName());
+        PlaywrightLifecycleEvent event = new PlaywrightLifecycleEvent("tearDown");
+        event.begin();
+        EmulationManager.reset();
+        LocatorRegistry.clear();
         
         try {
             if (page.get() != null) {
@@ -83,6 +156,7 @@ public class PlaywrightManager {
             if (context.get() != null) {
                 context.get().close();
                 context.remove();
+                FrameworkMetrics.contextClosed();
             }
         } catch (Exception e) {
             logger.debug("Error closing context in thread {}", Thread.currentThread().getName(), e);
@@ -92,6 +166,7 @@ public class PlaywrightManager {
             if (browser.get() != null) {
                 browser.get().close();
                 browser.remove();
+                FrameworkMetrics.browserClosed();
             }
         } catch (Exception e) {
             logger.debug("Error closing browser in thread {}", Thread.currentThread().getName(), e);
@@ -105,6 +180,7 @@ public class PlaywrightManager {
         } catch (Exception e) {
             logger.debug("Error closing playwright in thread {}", Thread.currentThread().getName(), e);
         }
+        event.commit();
         
         logger.info("Playwright teardown completed in thread: {}", Thread.currentThread().getName());
     }
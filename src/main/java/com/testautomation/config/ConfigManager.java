@@ -11,6 +11,7 @@ public class ConfigManager {
     private static final Logger logger = LogManager.getLogger(ConfigManager.class);
     private static Properties properties;
     private static final String CONFIG_FILE = "config.properties";
+    private static String buildId;
 
     static {
         loadProperties();
@@ -100,4 +101,23 @@ public class ConfigManager {
     public static int getRetryTimeoutMs() {
         return getIntProperty("retry.timeout.ms", 5000);
     }
+
+    /**
+     * Identifier stamped on exported metrics and performance history ({@code -Dbuild.id}),
+     * or {@code local-<epoch ms>} fixed for the lifetime of the JVM.
+     */
+    public static synchronized String getBuildId() {
+        if (buildId == null) {
+            buildId = getProperty("build.id", "local-" + System.currentTimeMillis());
+        }
+        return buildId;
+    }
+
+    /**
+     * @return whether {@code build.id} was set, i.e. the run is a build worth keeping in performance history
+     */
+    public static boolean isBuildIdSet() {
+        String id = getProperty("build.id");
+        return id != null && !id.trim().isEmpty();
+    }
 }
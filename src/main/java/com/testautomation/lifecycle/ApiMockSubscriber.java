@@ -0,0 +1,26 @@
+package com.testautomation.lifecycle;
+
+import com.testautomation.network.ApiMocks;
+import com.testautomation.utils.ExtentReportManager;
+
+/**
+ * Scopes API mocks to the running test (per-test mocks and overrides) and notes on its report node how
+ * many backend calls were answered from fixtures.
+ */
+public class ApiMockSubscriber implements TestLifecycleListener {
+
+    @Override
+    public void onTestStart(TestExecution execution) {
+        String className = execution.getTestClassName();
+        ApiMocks.startTest(className.substring(className.lastIndexOf('.') + 1) + "." + execution.getMethodName());
+    }
+
+    @Override
+    public void onTestFinish(TestExecution execution) {
+        long[] result = ApiMocks.finishTest();
+        if (result != null && result[0] > 0) {
+            ExtentReportManager.logInfo("API mocks answered " + result[0] + " request(s)"
+                    + (result[1] > 0 ? " with " + result[1] + " ms injected latency" : ""));
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package com.testautomation.lifecycle;
+
+import com.microsoft.playwright.Page;
+import com.testautomation.base.PlaywrightManager;
+import com.testautomation.config.ConfigManager;
+import com.testautomation.utils.ExtentReportManager;
+import com.testautomation.utils.ScreenshotUtil;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+
+/**
+ * Captures the end-of-test screenshot and, on failure, the page source. Runs once per test.
+ */
+public class ArtifactSubscriber implements TestLifecycleListener {
+    private static final Logger logger = LogManager.getLogger(ArtifactSubscriber.class);
+
+    @Override
+    public void onTestSuccess(TestExecution execution) {
+        if (ConfigManager.getBooleanProperty("screenshot.on.success", true)) {
+            String screenshotPath = capture(execution.getMethodName() + "_success");
+            if (screenshotPath != null) {
+                logger.info("Success screenshot added to report: {}", screenshotPath);
+            }
+        }
+    }
+
+    @Override
+    public void onTestFailure(TestExecution execution) {
+        if (ConfigManager.getBooleanProperty("screenshot.on.failure", true)) {
+            String screenshotPath = capture(execution.getMethodName() + "_failure");
+            if (screenshotPath != null) {
+                logger.error("Failure screenshot added to report: {}", screenshotPath);
+            }
+        }
+        savePageSource(execution.getMethodName());
+    }
+
+    private String capture(String name) {
+        Page page = PlaywrightManager.getPage();
+        if (page == null) {
+            return null;
+        }
+        try {
+            String screenshotPath = ScreenshotUtil.takeScreenshot(page, name);
+            if (screenshotPath != null) {
+                ExtentReportManager.addScreenshot(screenshotPath);
+            }
+            return screenshotPath;
+        } catch (Exception e) {
+            logger.warn("Could not capture screenshot {}: {}", name, e.getMessage());
+            return null;
+        }
+    }
+
+    private void savePageSource(String methodName) {
+        Page page = PlaywrightManager.getPage();
+        if (page == null) {
+            return;
+        }
+        try {
+            String pageSource = page.content();
+            String pageSourcePath = "test-output/page-sources/" + methodName + "_failure.html";
+
+            Files.createDirectories(Paths.get("test-output/page-sources"));
+            Files.write(Paths.get(pageSourcePath), pageSource.getBytes(StandardCharsets.UTF_8));
+
+            ExtentReportManager.logFail("Page source saved: " + pageSourcePath);
+            logger.error("Page source saved: {}", pageSourcePath);
+        } catch (Exception e) {
+            logger.error("Could not capture page source: {}", e.getMessage());
+        }
+    }
+}
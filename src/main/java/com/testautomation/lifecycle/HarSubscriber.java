@@ -0,0 +1,39 @@
+package com.testautomation.lifecycle;
+
+import com.testautomation.network.HarManager;
+import com.testautomation.utils.ExtentReportManager;
+
+import java.util.List;
+
+/**
+ * Points HAR record/replay at the running test's class and marks requests that strict replay had to
+ * abort as failures in the "HAR Replay" category. Recordings are written when the suite finishes.
+ */
+public class HarSubscriber implements TestLifecycleListener {
+    public static final String CATEGORY = "HAR Replay";
+    private static final int MAX_LISTED = 10;
+
+    @Override
+    public void onTestStart(TestExecution execution) {
+        HarManager.startTest(execution.getTestClassName());
+    }
+
+    @Override
+    public void onTestFinish(TestExecution execution) {
+        List<String> unmatched = HarManager.finishTest();
+        if (unmatched.isEmpty()) {
+            return;
+        }
+        ExtentReportManager.assignCategory(CATEGORY);
+        ExtentReportManager.logFail(unmatched.size() + " request(s) had no recorded response and were aborted");
+        unmatched.stream().limit(MAX_LISTED).forEach(request -> ExtentReportManager.logFail("Not in HAR: "
+                + request.replace("&", "&amp;").replace("<", "&lt;").replace(">", "&gt;")));
+    }
+
+    @Override
+    public void onSuiteFinish() {
+        if (HarManager.isRecording()) {
+            HarManager.writeRecordings();
+        }
+    }
+}
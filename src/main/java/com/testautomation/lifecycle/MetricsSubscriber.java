@@ -0,0 +1,157 @@
+package com.testautomation.lifecycle;
+
+import com.testautomation.config.ConfigManager;
+import com.testautomation.metrics.ActionLatencyRegistry;
+import com.testautomation.metrics.FrameworkMetrics;
+import com.testautomation.metrics.LatencyHistogram;
+import com.testautomation.metrics.SelectorProfiler;
+import com.testautomation.utils.ExtentReportManager;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Makes the per-test framework overhead visible: how long each lifecycle subscriber spent on a test,
+ * logged on the test's report node and summarised across the suite. At suite end it also exports the
+ * action latency distributions and, in selector profiling mode, the selector profile, each as its own
+ * report section.
+ */
+public class MetricsSubscriber implements TestLifecycleListener {
+    private static final Logger logger = LogManager.getLogger(MetricsSubscriber.class);
+    private final LongAdder testCount = new LongAdder();
+    private final Map<String, LongAdder> totalNanosBySubscriber = new ConcurrentHashMap<>();
+
+    @Override
+    public void onTestStart(TestExecution execution) {
+        FrameworkMetrics.testStarted();
+    }
+
+    @Override
+    public void onTestFinish(TestExecution execution) {
+        testCount.increment();
+        FrameworkMetrics.testFinished(execution.getOutcome() != null ? execution.getOutcome().name() : "unknown");
+        long overheadNanos = 0;
+        StringBuilder breakdown = new StringBuilder();
+        for (Map.Entry<String, Long> entry : execution.getSubscriberNanos().entrySet()) {
+            overheadNanos += entry.getValue();
+            totalNanosBySubscriber.computeIfAbsent(entry.getKey(), k -> new LongAdder()).add(entry.getValue());
+            if (breakdown.length() > 0) {
+                breakdown.append(", ");
+            }
+            breakdown.append(entry.getKey()).append(' ').append(toMillis(entry.getValue())).append(" ms");
+        }
+        long wallNanos = System.nanoTime() - execution.getStartNanos();
+        String message = String.format(Locale.ENGLISH, "Framework overhead: %s ms of %s ms (%s)",
+                toMillis(overheadNanos), toMillis(wallNanos), breakdown);
+        ExtentReportManager.logInfo(message);
+        logger.debug("{} - {}", execution.getMethodName(), message);
+    }
+
+    @Override
+    public void onSuiteFinish() {
+        long tests = testCount.sum();
+        totalNanosBySubscriber.forEach((subscriber, nanos) ->
+                logger.info("Lifecycle overhead - {}: {} ms total, {} ms per test",
+                        subscriber, toMillis(nanos.sum()), toMillis(nanos.sum() / Math.max(1, tests))));
+
+        List<ActionLatencyRegistry.Entry> latencies = ActionLatencyRegistry.export();
+        if (!latencies.isEmpty()) {
+            ExtentReportManager.addReportSection("Action Latency", renderLatencyTable(latencies));
+        }
+        if (SelectorProfiler.isEnabled() && !SelectorProfiler.getStats().isEmpty()) {
+            SelectorProfiler.export();
+            ExtentReportManager.addReportSection("Selector Profile", renderSelectorProfile());
+        }
+    }
+
+    private String renderSelectorProfile() {
+        int top = ConfigManager.getIntProperty("selector.profiling.top", 10);
+        StringBuilder html = new StringBuilder("<b>Page objects by total selector resolution time</b>")
+                .append("<table style='width:100%;font-size:11px;border-collapse:collapse'>")
+                .append("<tr><th style='text-align:left'>Page</th><th>total ms</th><th>calls</th><th>retries</th>")
+                .append("<th>max matches</th></tr>");
+        SelectorProfiler.getPageTotals().forEach((page, totals) -> html.append("<tr><td>").append(escape(page))
+                .append("</td>").append(cell(formatMillis(totals[0]))).append(cell(Long.toString((long) totals[1])))
+                .append(cell(Long.toString((long) totals[2]))).append(cell(Long.toString((long) totals[3])))
+                .append("</tr>"));
+        html.append("</table>");
+        appendSelectorRanking(html, "Slowest selectors (mean resolution)", SelectorProfiler.slowest(top));
+        appendSelectorRanking(html, "Most ambiguous selectors (matched more than one element)",
+                SelectorProfiler.mostAmbiguous(top));
+        appendSelectorRanking(html, "Most retried selectors (no match yet when used)", SelectorProfiler.mostRetried(top));
+        return html.toString();
+    }
+
+    private void appendSelectorRanking(StringBuilder html, String title, List<SelectorProfiler.Stats> ranking) {
+        if (ranking.isEmpty()) {
+            return;
+        }
+        html.append("<b>").append(title).append("</b>")
+                .append("<table style='width:100%;font-size:11px;border-collapse:collapse'>")
+                .append("<tr><th style='text-align:left'>Page / selector</th><th>calls</th><th>mean ms</th>")
+                .append("<th>max ms</th><th>max matches</th><th>retries</th></tr>");
+        for (SelectorProfiler.Stats entry : ranking) {
+            html.append("<tr><td>").append(escape(entry.getPageClass())).append(" <code>")
+                    .append(escape(entry.getSelector())).append("</code>")
+                    .append("playwright".equals(entry.getEngine()) ? " (round-trip)" : "").append("</td>")
+                    .append(cell(Long.toString(entry.getCalls())))
+                    .append(cell(String.format(Locale.ENGLISH, "%.3f", entry.getMeanMs())))
+                    .append(cell(String.format(Locale.ENGLISH, "%.3f", entry.getMaxMs())))
+                    .append(cell(Integer.toString(entry.getMaxMatches())))
+                    .append(cell(Long.toString(entry.getRetries())))
+                    .append("</tr>");
+        }
+        html.append("</table>");
+    }
+
+    private String renderLatencyTable(List<ActionLatencyRegistry.Entry> entries) {
+        StringBuilder html = new StringBuilder("<table style='width:100%;font-size:11px;border-collapse:collapse'>")
+                .append("<tr><th style='text-align:left'>Action / page / selector</th><th>count</th><th>p50 ms</th>")
+                .append("<th>p95 ms</th><th>p99 ms</th><th>max ms</th></tr>");
+        for (ActionLatencyRegistry.Entry entry : entries) {
+            String label;
+            int indent;
+            if (entry.isActionRollup()) {
+                label = "<b>" + escape(entry.getAction()) + "</b>"
+                        + ("none".equals(entry.getProfile()) ? "" : " [" + escape(entry.getProfile()) + "]");
+                indent = 0;
+            } else if (entry.isPageRollup()) {
+                label = "<i>" + escape(entry.getPage()) + "</i>";
+                indent = 14;
+            } else {
+                label = escape(entry.getSelector().isEmpty() ? "(no selector)" : entry.getSelector());
+                indent = 28;
+            }
+            LatencyHistogram histogram = entry.getHistogram();
+            html.append("<tr><td style='padding-left:").append(indent).append("px'>").append(label).append("</td>")
+                    .append(cell(Long.toString(histogram.getCount())))
+                    .append(cell(formatMillis(histogram.getPercentileMillis(50))))
+                    .append(cell(formatMillis(histogram.getPercentileMillis(95))))
+                    .append(cell(formatMillis(histogram.getPercentileMillis(99))))
+                    .append(cell(formatMillis(histogram.getMaxMillis())))
+                    .append("</tr>");
+        }
+        return html.append("</table>").toString();
+    }
+
+    private static String cell(String value) {
+        return "<td style='text-align:right'>" + value + "</td>";
+    }
+
+    private static String formatMillis(double millis) {
+        return String.format(Locale.ENGLISH, "%.1f", millis);
+    }
+
+    private static String escape(String text) {
+        return text.replace("&", "&amp;").replace("<", "&lt;").replace(">", "&gt;").replace("'", "&#39;");
+    }
+
+    private static String toMillis(long nanos) {
+        return String.format(Locale.ENGLISH, "%.1f", nanos / 1_000_000.0);
+    }
+}
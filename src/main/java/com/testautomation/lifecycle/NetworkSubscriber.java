@@ -0,0 +1,132 @@
+package com.testautomation.lifecycle;
+
+import com.aventstack.extentreports.Status;
+import com.testautomation.base.EmulationManager;
+import com.testautomation.network.NetworkAccounting;
+import com.testautomation.network.NetworkUsage;
+import com.testautomation.network.StaticAssetCache;
+import com.testautomation.utils.ExtentReportManager;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Scopes network accounting to each test, attaches the test's request totals to its report node and
+ * marks limit breaches as failures in the "Network Limit" category. The suite fails on them at the end
+ * (see {@link NetworkAccounting#enforce()}). When the static asset cache is on, its hit rate and bytes saved
+ * get their own report section.
+ */
+public class NetworkSubscriber implements TestLifecycleListener {
+    public static final String CATEGORY = "Network Limit";
+    private static final Logger logger = LogManager.getLogger(NetworkSubscriber.class);
+
+    @Override
+    public void onTestStart(TestExecution execution) {
+        NetworkAccounting.startTest();
+    }
+
+    @Override
+    public void onTestFinish(TestExecution execution) {
+        String className = execution.getTestClassName();
+        String testKey = EmulationManager.qualify(
+                className.substring(className.lastIndexOf('.') + 1) + "." + execution.getMethodName());
+        NetworkAccounting.TestUsage result = NetworkAccounting.finishTest(testKey);
+        if (result == null || result.getUsage().getRequests() == 0) {
+            return;
+        }
+        ExtentReportManager.logInfo(render(result.getUsage()));
+        if (result.getBreaches().isEmpty()) {
+            return;
+        }
+        ExtentReportManager.assignCategory(CATEGORY);
+        for (String breach : result.getBreaches()) {
+            ExtentReportManager.logFail("Network limit breached: " + breach);
+            logger.warn("Network limit breached in {}: {}", testKey, breach);
+        }
+    }
+
+    @Override
+    public void onSuiteFinish() {
+        if (StaticAssetCache.getHits() + StaticAssetCache.getMisses() > 0) {
+            logger.info("Static asset cache: {}", StaticAssetCache.describe());
+            ExtentReportManager.addReportSection("Static Asset Cache", renderAssetCache());
+        }
+        List<NetworkAccounting.TestUsage> results = NetworkAccounting.getSuiteResults();
+        if (results.isEmpty()) {
+            return;
+        }
+        NetworkAccounting.export();
+        boolean breached = false;
+        StringBuilder html = new StringBuilder("<table style='width:100%;font-size:11px;border-collapse:collapse'>")
+                .append("<tr><th style='text-align:left'>Test</th><th>requests</th><th>failed</th><th>bytes</th></tr>");
+        for (NetworkAccounting.TestUsage result : results) {
+            NetworkUsage usage = result.getUsage();
+            boolean failed = !result.getBreaches().isEmpty();
+            breached |= failed;
+            html.append("<tr").append(failed ? " style='color:#f56c6c;font-weight:bold'" : "").append("><td>")
+                    .append(result.getTestKey()).append("</td>")
+                    .append(cell(Long.toString(usage.getRequests())))
+                    .append(cell(Long.toString(usage.getFailedRequests())))
+                    .append(cell(NetworkUsage.formatBytes(usage.getBytes())))
+                    .append("</tr>");
+        }
+        ExtentReportManager.addReportSection("Network Usage", html.append("</table>").toString(),
+                breached ? Status.FAIL : Status.INFO);
+    }
+
+    private String renderAssetCache() {
+        return "<table style='width:100%;font-size:11px;border-collapse:collapse'>"
+                + "<tr><th>hit rate</th><th>hits</th><th>misses</th><th>bytes saved</th><th>assets</th><th>stored</th><th>evicted</th></tr><tr>"
+                + cell(String.format(Locale.ENGLISH, "%.1f%%", StaticAssetCache.getHitRate() * 100))
+                + cell(Long.toString(StaticAssetCache.getHits()))
+                + cell(Long.toString(StaticAssetCache.getMisses()))
+                + cell(NetworkUsage.formatBytes(StaticAssetCache.getBytesSaved()))
+                + cell(Integer.toString(StaticAssetCache.getEntries()))
+                + cell(NetworkUsage.formatBytes(StaticAssetCache.getStoredBytes()))
+                + cell(Long.toString(StaticAssetCache.getEvictions()))
+                + "</tr></table>";
+    }
+
+    private String render(NetworkUsage usage) {
+        StringBuilder html = new StringBuilder("<b>Network:</b> ").append(usage.describe())
+                .append("<table style='width:100%;font-size:11px;border-collapse:collapse'>")
+                .append("<tr><th style='text-align:left'>Resource type</th><th>requests</th><th>failed</th><th>bytes</th></tr>");
+        for (Map.Entry<String, NetworkUsage.TypeTotals> type : usage.getByType().entrySet()) {
+            html.append("<tr><td>").append(type.getKey()).append("</td>")
+                    .append(cell(Long.toString(type.getValue().getRequests())))
+                    .append(cell(Long.toString(type.getValue().getFailed())))
+                    .append(cell(NetworkUsage.formatBytes(type.getValue().getBytes())))
+                    .append("</tr>");
+        }
+        html.append("</table>");
+        if (!usage.getSlowest().isEmpty()) {
+            html.append("Slowest:<ul>");
+            for (NetworkUsage.RequestRecord request : usage.getSlowest()) {
+                html.append("<li>").append(String.format(Locale.ENGLISH, "%.0f ms", request.getDurationMs()))
+                        .append(" ").append(request.getMethod()).append(" ").append(escape(request.getUrl())).append("</li>");
+            }
+            html.append("</ul>");
+        }
+        if (!usage.getFailed().isEmpty()) {
+            html.append("Failed:<ul>");
+            for (NetworkUsage.RequestRecord request : usage.getFailed()) {
+                html.append("<li>").append(request.getMethod()).append(" ").append(escape(request.getUrl()))
+                        .append(" - ").append(escape(String.valueOf(request.getError()))).append("</li>");
+            }
+            html.append("</ul>");
+        }
+        return html.toString();
+    }
+
+    private static String cell(String value) {
+        return "<td style='text-align:right'>" + value + "</td>";
+    }
+
+    private static String escape(String text) {
+        String shortened = text.length() > 200 ? text.substring(0, 200) + "..." : text;
+        return shortened.replace("&", "&amp;").replace("<", "&lt;").replace(">", "&gt;").replace("'", "&#39;");
+    }
+}
@@ -0,0 +1,61 @@
+package com.testautomation.lifecycle;
+
+import com.aventstack.extentreports.Status;
+import com.testautomation.base.EmulationManager;
+import com.testautomation.metrics.StepTracker;
+import com.testautomation.perf.PerformanceBudgets;
+import com.testautomation.perf.WebPerfCollector;
+import com.testautomation.utils.ExtentReportManager;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.List;
+
+/**
+ * Evaluates performance budgets when a test finishes. Breaches are logged as warnings in the
+ * "Performance Budget" category rather than failing the test, so they stay separate from functional
+ * failures; the suite fails on them at the end (see {@link PerformanceBudgets#enforce()}).
+ * <p>
+ * Registered after the step timing and web performance subscribers, so it runs before they release
+ * the test's timeline and samples.
+ */
+public class PerformanceBudgetSubscriber implements TestLifecycleListener {
+    public static final String CATEGORY = "Performance Budget";
+    private static final Logger logger = LogManager.getLogger(PerformanceBudgetSubscriber.class);
+
+    @Override
+    public void onTestFinish(TestExecution execution) {
+        if (PerformanceBudgets.getBudgets().isEmpty()) {
+            return;
+        }
+        String className = execution.getTestClassName();
+        String testKey = className.substring(className.lastIndexOf('.') + 1) + "." + execution.getMethodName();
+        List<PerformanceBudgets.Breach> breaches = PerformanceBudgets.evaluate(testKey,
+                EmulationManager.getActiveProfile().getId(), StepTracker.current(), WebPerfCollector.getTestSamples());
+        if (breaches.isEmpty()) {
+            return;
+        }
+        ExtentReportManager.assignCategory(CATEGORY);
+        for (PerformanceBudgets.Breach breach : breaches) {
+            ExtentReportManager.logWarning("Performance budget breached: " + breach);
+            logger.warn("Performance budget breached: {}", breach);
+        }
+    }
+
+    @Override
+    public void onSuiteFinish() {
+        List<PerformanceBudgets.Breach> breaches = PerformanceBudgets.getBreaches();
+        if (breaches.isEmpty()) {
+            return;
+        }
+        StringBuilder html = new StringBuilder("<table style='width:100%;font-size:11px;border-collapse:collapse'>")
+                .append("<tr><th style='text-align:left'>Budget</th><th style='text-align:left'>Test</th>")
+                .append("<th>measured</th><th>limit</th></tr>");
+        for (PerformanceBudgets.Breach breach : breaches) {
+            html.append("<tr><td>").append(breach.getBudget().getName()).append("</td><td>").append(breach.getTest())
+                    .append("</td><td style='text-align:right'>").append(breach.getMeasured())
+                    .append("</td><td style='text-align:right'>").append(breach.getLimit()).append("</td></tr>");
+        }
+        ExtentReportManager.addReportSection("Performance Budgets", html.append("</table>").toString(), Status.FAIL);
+    }
+}
@@ -0,0 +1,81 @@
+package com.testautomation.lifecycle;
+
+import com.testautomation.base.EmulationManager;
+import com.testautomation.base.EmulationProfile;
+import com.testautomation.utils.ExtentReportManager;
+import com.testautomation.utils.ReportFlushScheduler;
+
+/**
+ * Creates the report node for each test and records its outcome.
+ */
+public class ReportingSubscriber implements TestLifecycleListener {
+
+    @Override
+    public void onTestStart(TestExecution execution) {
+        String description = execution.getDescription();
+        if (description != null && !description.isEmpty()) {
+            ExtentReportManager.createTest(execution.getMethodName(), description);
+        } else {
+            ExtentReportManager.createTest(execution.getMethodName());
+        }
+        EmulationProfile profile = EmulationManager.getActiveProfile();
+        if (profile != EmulationProfile.NONE) {
+            ExtentReportManager.assignCategory("Profile: " + profile.getId());
+            ExtentReportManager.logInfo("Emulation profile: " + profile.getId() + " (" + profile.describe() + ")");
+        }
+    }
+
+    @Override
+    public void onTestSuccess(TestExecution execution) {
+        ExtentReportManager.logPass("Test execution completed successfully");
+    }
+
+    @Override
+    public void onTestFailure(TestExecution execution) {
+        ExtentReportManager.logFail("Test execution failed");
+
+        // Add comprehensive failure details
+        Throwable throwable = execution.getThrowable();
+        if (throwable != null) {
+            ExtentReportManager.logFail("Exception Type: " + throwable.getClass().getSimpleName());
+            ExtentReportManager.logFail("Exception Message: " + throwable.getMessage());
+            ExtentReportManager.logFail("Stack Trace: " + getStackTrace(throwable));
+        }
+    }
+
+    @Override
+    public void onTestSkipped(TestExecution execution) {
+        ExtentReportManager.logSkip("Test execution was skipped");
+
+        // Add reason for skipping
+        if (execution.getThrowable() != null) {
+            ExtentReportManager.logSkip("Skip reason: " + execution.getThrowable().getMessage());
+        }
+    }
+
+    @Override
+    public void onTestFinish(TestExecution execution) {
+        ExtentReportManager.cleanup();
+        ReportFlushScheduler.requestFlush();
+    }
+
+    private String getStackTrace(Throwable throwable) {
+        StringBuilder sb = new StringBuilder();
+        sb.append(throwable.toString()).append("\n");
+
+        for (StackTraceElement element : throwable.getStackTrace()) {
+            sb.append("    at ").append(element.toString()).append("\n");
+        }
+
+        // Add cause if present
+        Throwable cause = throwable.getCause();
+        if (cause != null) {
+            sb.append("Caused by: ").append(cause.toString()).append("\n");
+            for (StackTraceElement element : cause.getStackTrace()) {
+                sb.append("    at ").append(element.toString()).append("\n");
+            }
+        }
+
+        return sb.toString();
+    }
+}
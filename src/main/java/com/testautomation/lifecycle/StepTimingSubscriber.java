@@ -0,0 +1,106 @@
+package com.testautomation.lifecycle;
+
+import com.testautomation.base.EmulationManager;
+import com.testautomation.base.EmulationProfile;
+import com.testautomation.metrics.StepTracker;
+import com.testautomation.utils.ExtentReportManager;
+
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Starts a step timeline for every test and renders it into the report as a nested waterfall,
+ * followed by a summary of where the test's wall-clock time went.
+ */
+public class StepTimingSubscriber implements TestLifecycleListener {
+
+    @Override
+    public void onTestStart(TestExecution execution) {
+        StepTracker.startTest(execution.getMethodName());
+    }
+
+    @Override
+    public void onTestFinish(TestExecution execution) {
+        StepTracker.Timeline timeline = StepTracker.finishTest();
+        if (timeline == null || timeline.getRoot().getChildren().isEmpty()) {
+            return;
+        }
+        ExtentReportManager.logInfo(renderWaterfall(timeline));
+        ExtentReportManager.logInfo(renderSummary(timeline));
+    }
+
+    private String renderWaterfall(StepTracker.Timeline timeline) {
+        StepTracker.Step root = timeline.getRoot();
+        double total = Math.max(1, root.getDurationNanos());
+        StringBuilder html = new StringBuilder("<details><summary>Step timing waterfall</summary>")
+                .append("<table style='width:100%;font-size:11px;border-collapse:collapse'>")
+                .append("<tr><th style='text-align:left'>Step</th><th>ms</th><th style='width:50%'></th></tr>");
+        for (StepTracker.Step step : root.getChildren()) {
+            renderRow(html, step, root.getStartNanos(), total, 0);
+        }
+        return html.append("</table></details>").toString();
+    }
+
+    private void renderRow(StringBuilder html, StepTracker.Step step, long origin, double total, int depth) {
+        double offset = (step.getStartNanos() - origin) * 100 / total;
+        double width = Math.max(0.2, step.getDurationNanos() * 100 / total);
+        String label = step.isGroup() ? "<b>" + escape(step.getName()) + "</b>"
+                : escape(step.getName()) + (step.getDetail() != null ? " <i>" + escape(step.getDetail()) + "</i>" : "");
+        html.append("<tr><td style='padding-left:").append(depth * 14).append("px'>").append(label).append("</td>")
+                .append("<td style='text-align:right'>").append(millis(step.getDurationNanos())).append("</td>")
+                .append("<td><div style='margin-left:").append(format(offset)).append("%;width:").append(format(width))
+                .append("%;height:8px;background:").append(color(step.getCategory())).append("'></div></td></tr>");
+        for (StepTracker.Step child : step.getChildren()) {
+            renderRow(html, child, origin, total, depth + 1);
+        }
+    }
+
+    private String renderSummary(StepTracker.Timeline timeline) {
+        long wall = timeline.getRoot().getDurationNanos();
+        StringBuilder summary = new StringBuilder("Time breakdown (").append(millis(wall)).append(" ms");
+        EmulationProfile profile = EmulationManager.getActiveProfile();
+        if (profile != EmulationProfile.NONE) {
+            summary.append(", profile ").append(profile.getId());
+        }
+        summary.append("): ");
+        boolean first = true;
+        for (Map.Entry<String, Long> entry : timeline.timeByCategory().entrySet()) {
+            if (!first) {
+                summary.append(", ");
+            }
+            first = false;
+            summary.append(entry.getKey()).append(' ').append(millis(entry.getValue())).append(" ms (")
+                    .append(format(wall > 0 ? entry.getValue() * 100.0 / wall : 0)).append("%)");
+        }
+        return summary.toString();
+    }
+
+    private static String color(String category) {
+        switch (category) {
+            case "page":
+                return "#b0b7c3";
+            case "wait":
+                return "#e6a23c";
+            case "navigate":
+                return "#409eff";
+            case "screenshot":
+                return "#909399";
+            case "query":
+                return "#67c23a";
+            default:
+                return "#f56c6c";
+        }
+    }
+
+    private static String millis(long nanos) {
+        return String.format(Locale.ENGLISH, "%.1f", nanos / 1_000_000.0);
+    }
+
+    private static String format(double value) {
+        return String.format(Locale.ENGLISH, "%.2f", value);
+    }
+
+    private static String escape(String text) {
+        return text.replace("&", "&amp;").replace("<", "&lt;").replace(">", "&gt;").replace("'", "&#39;");
+    }
+}
@@ -0,0 +1,80 @@
+package com.testautomation.lifecycle;
+
+import org.testng.ITestResult;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * State of one test as seen by the lifecycle bus.
+ */
+public class TestExecution {
+    public enum Outcome { SUCCESS, FAILURE, SKIPPED }
+
+    private final String key;
+    private final String testClassName;
+    private final String methodName;
+    private final String description;
+    private final long startNanos = System.nanoTime();
+    private final Map<String, Long> subscriberNanos = new LinkedHashMap<>();
+    private ITestResult result;
+    private Outcome outcome;
+
+    TestExecution(String testClassName, String methodName, String description) {
+        this.key = testClassName + "." + methodName;
+        this.testClassName = testClassName;
+        this.methodName = methodName;
+        this.description = description;
+    }
+
+    String getKey() {
+        return key;
+    }
+
+    public String getTestClassName() {
+        return testClassName;
+    }
+
+    public String getMethodName() {
+        return methodName;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    public long getStartNanos() {
+        return startNanos;
+    }
+
+    public ITestResult getResult() {
+        return result;
+    }
+
+    void setResult(ITestResult result) {
+        this.result = result;
+    }
+
+    public Outcome getOutcome() {
+        return outcome;
+    }
+
+    void setOutcome(Outcome outcome) {
+        this.outcome = outcome;
+    }
+
+    public Throwable getThrowable() {
+        return result != null ? result.getThrowable() : null;
+    }
+
+    /**
+     * Time each subscriber spent handling this test's events, in nanoseconds.
+     */
+    public Map<String, Long> getSubscriberNanos() {
+        return subscriberNanos;
+    }
+
+    void addSubscriberNanos(String subscriber, long nanos) {
+        subscriberNanos.merge(subscriber, nanos, Long::sum);
+    }
+}
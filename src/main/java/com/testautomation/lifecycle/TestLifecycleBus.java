@@ -0,0 +1,160 @@
+package com.testautomation.lifecycle;
+
+import com.testautomation.config.ConfigManager;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.testng.ITestResult;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.BiConsumer;
+
+/**
+ * Single entry point for test lifecycle transitions. BaseTest and TestListener both publish here;
+ * the bus de-duplicates per thread so every subscriber sees one start, one outcome and one finish per test.
+ * <p>
+ * Default subscribers handle reporting, step timing, artifacts, overhead metrics, web performance,
+ * performance budgets, network accounting, HAR record/replay and API mocks. Extra subscribers can be
+ * registered in code or listed by class name in {@code lifecycle.subscribers}.
+ */
+public class TestLifecycleBus {
+    private static final Logger logger = LogManager.getLogger(TestLifecycleBus.class);
+    private static final List<TestLifecycleListener> subscribers = new CopyOnWriteArrayList<>();
+    private static final ThreadLocal<TestExecution> current = new ThreadLocal<>();
+
+    static {
+        register(new ReportingSubscriber());
+        register(new StepTimingSubscriber());
+        register(new ArtifactSubscriber());
+        register(new MetricsSubscriber());
+        register(new WebPerfSubscriber());
+        register(new PerformanceBudgetSubscriber());
+        register(new NetworkSubscriber());
+        register(new HarSubscriber());
+        register(new ApiMockSubscriber());
+        registerConfiguredSubscribers();
+    }
+
+    public static void register(TestLifecycleListener subscriber) {
+        subscribers.add(subscriber);
+        logger.debug("Registered lifecycle subscriber: {}", subscriber.getClass().getSimpleName());
+    }
+
+    public static TestExecution current() {
+        return current.get();
+    }
+
+    public static void publishStart(ITestResult result) {
+        publishStart(result.getTestClass().getName(), result.getMethod().getMethodName(),
+                result.getMethod().getDescription());
+        TestExecution execution = current.get();
+        if (execution.getResult() == null) {
+            execution.setResult(result);
+        }
+    }
+
+    public static void publishStart(String testClassName, String methodName, String description) {
+        TestExecution execution = current.get();
+        String key = testClassName + "." + methodName;
+        if (execution != null) {
+            if (execution.getKey().equals(key) && execution.getOutcome() == null) {
+                logger.debug("Ignoring duplicate start for {}", key);
+                return;
+            }
+            // Previous test never reached teardown (e.g. a failed @BeforeMethod); close it out first
+            finish(execution);
+        }
+        execution = new TestExecution(testClassName, methodName, description);
+        current.set(execution);
+        dispatch(execution, subscribers, TestLifecycleListener::onTestStart);
+    }
+
+    public static void publishOutcome(ITestResult result) {
+        TestExecution execution = current.get();
+        if (execution == null) {
+            publishStart(result);
+            execution = current.get();
+        }
+        execution.setResult(result);
+        if (execution.getOutcome() != null) {
+            logger.debug("Ignoring duplicate outcome for {}", execution.getKey());
+            return;
+        }
+        switch (result.getStatus()) {
+            case ITestResult.SUCCESS:
+                execution.setOutcome(TestExecution.Outcome.SUCCESS);
+                dispatch(execution, subscribers, TestLifecycleListener::onTestSuccess);
+                break;
+            case ITestResult.SKIP:
+                execution.setOutcome(TestExecution.Outcome.SKIPPED);
+                dispatch(execution, subscribers, TestLifecycleListener::onTestSkipped);
+                break;
+            default:
+                execution.setOutcome(TestExecution.Outcome.FAILURE);
+                dispatch(execution, subscribers, TestLifecycleListener::onTestFailure);
+                break;
+        }
+    }
+
+    public static void publishFinish(ITestResult result) {
+        TestExecution execution = current.get();
+        if (execution == null) {
+            return;
+        }
+        if (execution.getOutcome() == null && result != null) {
+            publishOutcome(result);
+        }
+        finish(execution);
+    }
+
+    public static void publishSuiteFinish() {
+        TestExecution execution = current.get();
+        if (execution != null) {
+            finish(execution);
+        }
+        for (TestLifecycleListener subscriber : subscribers) {
+            try {
+                subscriber.onSuiteFinish();
+            } catch (Exception e) {
+                logger.error("Lifecycle subscriber {} failed on suite finish", subscriber.getClass().getSimpleName(), e);
+            }
+        }
+    }
+
+    private static void finish(TestExecution execution) {
+        List<TestLifecycleListener> reversed = new ArrayList<>(subscribers);
+        Collections.reverse(reversed);
+        dispatch(execution, reversed, TestLifecycleListener::onTestFinish);
+        current.remove();
+    }
+
+    private static void dispatch(TestExecution execution, List<TestLifecycleListener> targets,
+                                 BiConsumer<TestLifecycleListener, TestExecution> callback) {
+        for (TestLifecycleListener subscriber : targets) {
+            long start = System.nanoTime();
+            try {
+                callback.accept(subscriber, execution);
+            } catch (Exception e) {
+                logger.error("Lifecycle subscriber {} failed for {}", subscriber.getClass().getSimpleName(),
+                        execution.getKey(), e);
+            }
+            execution.addSubscriberNanos(subscriber.getClass().getSimpleName(), System.nanoTime() - start);
+        }
+    }
+
+    private static void registerConfiguredSubscribers() {
+        String configured = ConfigManager.getProperty("lifecycle.subscribers", "");
+        for (String className : configured.split(",")) {
+            if (className.isBlank()) {
+                continue;
+            }
+            try {
+                register((TestLifecycleListener) Class.forName(className.trim()).getDeclaredConstructor().newInstance());
+            } catch (ReflectiveOperationException | ClassCastException e) {
+                throw new RuntimeException("Failed to register lifecycle subscriber: " + className, e);
+            }
+        }
+    }
+}
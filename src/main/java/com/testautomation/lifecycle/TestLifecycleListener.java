@@ -0,0 +1,30 @@
+package com.testautomation.lifecycle;
+
+/**
+ * Subscriber to {@link TestLifecycleBus}. Each callback fires exactly once per test, no matter how
+ * many publishers (BaseTest, TestListener) report the same transition.
+ */
+public interface TestLifecycleListener {
+
+    default void onTestStart(TestExecution execution) {
+    }
+
+    default void onTestSuccess(TestExecution execution) {
+    }
+
+    default void onTestFailure(TestExecution execution) {
+    }
+
+    default void onTestSkipped(TestExecution execution) {
+    }
+
+    /**
+     * Called after the outcome callbacks. Dispatched in reverse registration order, so subscribers
+     * registered early (e.g. reporting) see this last and can still receive output from later ones.
+     */
+    default void onTestFinish(TestExecution execution) {
+    }
+
+    default void onSuiteFinish() {
+    }
+}
@@ -0,0 +1,58 @@
+package com.testautomation.lifecycle;
+
+import com.aventstack.extentreports.Status;
+import com.testautomation.perf.WebPerfCollector;
+import com.testautomation.perf.WebPerfHistory;
+import com.testautomation.perf.WebPerfMetric;
+import com.testautomation.utils.ExtentReportManager;
+
+import java.util.Map;
+
+/**
+ * Scopes web performance samples to the running test and, at suite end, stores the run's per-page
+ * medians in the build history and reports them next to the previous builds' baseline.
+ */
+public class WebPerfSubscriber implements TestLifecycleListener {
+
+    @Override
+    public void onTestStart(TestExecution execution) {
+        WebPerfCollector.startTest();
+    }
+
+    @Override
+    public void onTestFinish(TestExecution execution) {
+        WebPerfCollector.finishTest();
+    }
+
+    @Override
+    public void onSuiteFinish() {
+        if (!WebPerfCollector.isEnabled()) {
+            return;
+        }
+        WebPerfHistory.Result result = WebPerfHistory.recordBuild(WebPerfCollector.getSuiteSamples());
+        if (result.getCurrent().isEmpty()) {
+            return;
+        }
+        ExtentReportManager.addReportSection("Web Performance", render(result),
+                result.getRegressions().isEmpty() ? Status.INFO : Status.FAIL);
+    }
+
+    private String render(WebPerfHistory.Result result) {
+        StringBuilder html = new StringBuilder("<table style='width:100%;font-size:11px;border-collapse:collapse'>")
+                .append("<tr><th style='text-align:left'>Page / metric</th><th>median</th><th>baseline</th></tr>");
+        for (Map.Entry<String, Map<WebPerfMetric, Double>> page : result.getCurrent().entrySet()) {
+            html.append("<tr><td colspan='3'><b>").append(page.getKey()).append("</b></td></tr>");
+            Map<WebPerfMetric, Double> baseline = result.getBaseline().get(page.getKey());
+            for (Map.Entry<WebPerfMetric, Double> metric : page.getValue().entrySet()) {
+                Double base = baseline != null ? baseline.get(metric.getKey()) : null;
+                boolean regressed = result.isRegressed(page.getKey(), metric.getKey());
+                html.append("<tr").append(regressed ? " style='color:#f56c6c;font-weight:bold'" : "")
+                        .append("><td style='padding-left:14px'>").append(metric.getKey().getLabel()).append("</td>")
+                        .append("<td style='text-align:right'>").append(metric.getKey().format(metric.getValue())).append("</td>")
+                        .append("<td style='text-align:right'>").append(base != null ? metric.getKey().format(base) : "-")
+                        .append("</td></tr>");
+            }
+        }
+        return html.append("</table>").toString();
+    }
+}
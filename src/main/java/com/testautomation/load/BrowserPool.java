@@ -0,0 +1,105 @@
+package com.testautomation.load;
+
+import com.microsoft.playwright.Browser;
+import com.microsoft.playwright.Playwright;
+import com.testautomation.base.PlaywrightManager;
+import com.testautomation.metrics.FrameworkMetrics;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Fixed set of browsers shared by load-mode virtual users.
+ * <p>
+ * Playwright's Java API is not thread-safe, so a browser (with its own {@link Playwright} driver) is
+ * leased to one virtual user at a time; the user opens a fresh, cheap context per journey iteration and
+ * returns the browser between iterations. With fewer browsers than users, users queue for a lease.
+ */
+public class BrowserPool implements AutoCloseable {
+    private static final Logger logger = LogManager.getLogger(BrowserPool.class);
+    private static final String UTILIZATION_GAUGE = "testautomation_load_browser_pool_utilization_ratio";
+
+    private final List<Lease> browsers = new ArrayList<>();
+    private final BlockingQueue<Lease> idle = new LinkedBlockingQueue<>();
+
+    public BrowserPool(int size) {
+        try {
+            for (int i = 0; i < size; i++) {
+                Playwright playwright = Playwright.create();
+                Lease lease = new Lease(playwright, PlaywrightManager.launchBrowser(playwright));
+                browsers.add(lease);
+                idle.add(lease);
+            }
+        } catch (RuntimeException e) {
+            close();
+            throw e;
+        }
+        FrameworkMetrics.registerGauge(UTILIZATION_GAUGE, "Share of load-mode browsers leased to virtual users",
+                this::getUtilization);
+        logger.info("Browser pool started with {} browser(s)", size);
+    }
+
+    /**
+     * @return a browser for the calling thread's exclusive use, or null if none became free in time
+     */
+    public Lease acquire(long timeoutMs) throws InterruptedException {
+        return idle.poll(timeoutMs, TimeUnit.MILLISECONDS);
+    }
+
+    public void release(Lease lease) {
+        if (lease != null) {
+            idle.add(lease);
+        }
+    }
+
+    public int getSize() {
+        return browsers.size();
+    }
+
+    public double getUtilization() {
+        return browsers.isEmpty() ? 0 : (browsers.size() - idle.size()) / (double) browsers.size();
+    }
+
+    @Override
+    public void close() {
+        FrameworkMetrics.unregisterGauge(UTILIZATION_GAUGE);
+        for (Lease lease : browsers) {
+            try {
+                lease.browser.close();
+                FrameworkMetrics.browserClosed();
+            } catch (Exception e) {
+                logger.debug("Error closing pooled browser", e);
+            }
+            try {
+                lease.playwright.close();
+            } catch (Exception e) {
+                logger.debug("Error closing pooled playwright", e);
+            }
+        }
+        browsers.clear();
+        idle.clear();
+    }
+
+    public static class Lease {
+        private final Playwright playwright;
+        private final Browser browser;
+
+        private Lease(Playwright playwright, Browser browser) {
+            this.playwright = playwright;
+            this.browser = browser;
+        }
+
+        public Playwright getPlaywright() {
+            return playwright;
+        }
+
+        public Browser getBrowser() {
+            return browser;
+        }
+    }
+}
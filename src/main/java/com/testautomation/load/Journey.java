@@ -0,0 +1,11 @@
+package com.testautomation.load;
+
+/**
+ * One iteration of a user journey driven by a load-mode virtual user. The session's page is already
+ * bound to {@code PlaywrightManager}, so page objects work as they do in tests; wrap each user-visible
+ * step in {@link JourneySession#step} so it is timed and its failures are attributed.
+ */
+@FunctionalInterface
+public interface Journey {
+    void run(JourneySession session);
+}
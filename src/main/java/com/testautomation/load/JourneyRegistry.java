@@ -0,0 +1,104 @@
+package com.testautomation.load;
+
+import com.testautomation.pages.DashboardPage;
+import com.testautomation.pages.LandingPage;
+import com.testautomation.pages.LoginPage;
+import com.testautomation.utils.TestDataManager;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Named journeys selectable with {@code load.journey}. The built-in journeys replay the flows covered by
+ * {@code E2ETest} through the same page objects; suites can {@link #register} their own.
+ */
+public class JourneyRegistry {
+    private static final Map<String, Journey> journeys = new ConcurrentHashMap<>();
+
+    static {
+        register("user-journey", JourneyRegistry::userJourney);
+        register("login", JourneyRegistry::login);
+        register("login-cycle", JourneyRegistry::loginCycle);
+    }
+
+    public static void register(String name, Journey journey) {
+        journeys.put(name, journey);
+    }
+
+    public static Journey get(String name) {
+        Journey journey = journeys.get(name);
+        if (journey == null) {
+            throw new IllegalArgumentException("Unknown load journey '" + name + "'. Known journeys: " + getNames());
+        }
+        return journey;
+    }
+
+    public static Set<String> getNames() {
+        return new TreeSet<>(journeys.keySet());
+    }
+
+    /**
+     * Landing -> Login -> Dashboard -> Logout, as in {@code E2ETest.testCompleteUserJourney}.
+     */
+    private static void userJourney(JourneySession session) {
+        Map<String, String> user = TestDataManager.getValidUser();
+        LandingPage landingPage = session.step("open landing page", () -> {
+            session.getPage().navigate(session.getAppUrl());
+            LandingPage page = new LandingPage();
+            page.waitForPageToLoad();
+            return page;
+        });
+        LoginPage loginPage = session.step("open login page", () -> {
+            LoginPage page = landingPage.clickLoginButton();
+            page.waitForPageToLoad();
+            return page;
+        });
+        DashboardPage dashboardPage = session.step("log in", () -> {
+            DashboardPage page = loginPage.login(user.get("email"), user.get("password"));
+            page.waitForPageToLoad();
+            return page;
+        });
+        session.step("log out", () -> dashboardPage.performLogout().waitForPageToLoad());
+    }
+
+    /**
+     * Login -> Dashboard -> Logout starting and ending on the landing page without reloading it, so a
+     * soak run on one page accumulates whatever the app leaks per cycle. Loads the app only on a blank page.
+     */
+    private static void loginCycle(JourneySession session) {
+        Map<String, String> user = TestDataManager.getValidUser();
+        if ("about:blank".equals(session.getPage().url())) {
+            session.step("open landing page", () -> {
+                session.getPage().navigate(session.getAppUrl());
+                new LandingPage().waitForPageToLoad();
+            });
+        }
+        LoginPage loginPage = session.step("open login page", () -> {
+            LoginPage page = new LandingPage().clickLoginButton();
+            page.waitForPageToLoad();
+            return page;
+        });
+        DashboardPage dashboardPage = session.step("log in", () -> {
+            DashboardPage page = loginPage.login(user.get("email"), user.get("password"));
+            page.waitForPageToLoad();
+            return page;
+        });
+        session.step("log out", () -> dashboardPage.performLogout().waitForPageToLoad());
+    }
+
+    private static void login(JourneySession session) {
+        Map<String, String> user = TestDataManager.getValidUser();
+        session.step("open landing page", () -> {
+            session.getPage().navigate(session.getAppUrl());
+            new LandingPage().waitForPageToLoad();
+        });
+        LoginPage loginPage = session.step("open login page", () -> {
+            LoginPage page = new LandingPage().clickLoginButton();
+            page.waitForPageToLoad();
+            return page;
+        });
+        session.step("log in", () -> loginPage.login(user.get("email"), user.get("password")).waitForPageToLoad());
+    }
+}
@@ -0,0 +1,106 @@
+package com.testautomation.load;
+
+import com.microsoft.playwright.Page;
+import com.testautomation.metrics.LatencyHistogram;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * Per-iteration handle given to a {@link Journey}. Steps are timed into the virtual user's own
+ * histograms (merged when the run ends), so recording needs no synchronization.
+ */
+public class JourneySession {
+    private final int user;
+    private final int iteration;
+    private final Page page;
+    private final String appUrl;
+    private final Stats stats;
+
+    JourneySession(int user, int iteration, Page page, String appUrl, Stats stats) {
+        this.user = user;
+        this.iteration = iteration;
+        this.page = page;
+        this.appUrl = appUrl;
+        this.stats = stats;
+    }
+
+    public void step(String name, Runnable body) {
+        step(name, () -> {
+            body.run();
+            return null;
+        });
+    }
+
+    /**
+     * Times {@code body} as step {@code name}. A failure is counted against the step and rethrown,
+     * which ends the iteration.
+     */
+    public <T> T step(String name, Supplier<T> body) {
+        long start = System.nanoTime();
+        try {
+            T result = body.get();
+            stats.histogram(name).recordNanos(System.nanoTime() - start);
+            return result;
+        } catch (RuntimeException | AssertionError e) {
+            stats.failed(name, e);
+            throw e;
+        }
+    }
+
+    /**
+     * @return the virtual user number, starting at 1
+     */
+    public int getUser() {
+        return user;
+    }
+
+    /**
+     * @return this user's iteration number, starting at 1
+     */
+    public int getIteration() {
+        return iteration;
+    }
+
+    public Page getPage() {
+        return page;
+    }
+
+    public String getAppUrl() {
+        return appUrl;
+    }
+
+    /**
+     * Results of one virtual user; only touched by that user's thread until the run is merged, except that
+     * {@code iterations} is also read live by the soak gauge.
+     */
+    static class Stats {
+        final Map<String, LatencyHistogram> steps = new LinkedHashMap<>();
+        final Map<String, Long> stepErrors = new LinkedHashMap<>();
+        final Map<String, Long> errorMessages = new LinkedHashMap<>();
+        volatile long iterations;
+        long failedIterations;
+        String failedStep;
+
+        LatencyHistogram histogram(String step) {
+            return steps.computeIfAbsent(step, k -> new LatencyHistogram());
+        }
+
+        void failed(String step, Throwable error) {
+            if (failedStep != null) {
+                // Already attributed to the innermost step
+                return;
+            }
+            failedStep = step;
+            histogram(step);
+            stepErrors.merge(step, 1L, Long::sum);
+            String message = error.getMessage() != null ? error.getMessage().split("\n", 2)[0] : "";
+            if (message.length() > 160) {
+                message = message.substring(0, 160) + "...";
+            }
+            errorMessages.merge(step + ": " + error.getClass().getSimpleName()
+                    + (message.isEmpty() ? "" : " - " + message), 1L, Long::sum);
+        }
+    }
+}
@@ -0,0 +1,260 @@
+package com.testautomation.load;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.testautomation.config.ConfigManager;
+import com.testautomation.metrics.LatencyHistogram;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Merged outcome of a load run: per-step latency percentiles and error counts, iteration throughput and
+ * the most frequent errors. Step {@value #ITERATION_STEP} covers whole successful iterations.
+ */
+public class LoadResult {
+    public static final String ITERATION_STEP = "(iteration)";
+    private static final Logger logger = LogManager.getLogger(LoadResult.class);
+
+    private final LoadSettings settings;
+    private final long elapsedNanos;
+    private final Map<String, StepResult> steps;
+    private final long iterations;
+    private final long failedIterations;
+    private final Map<String, Long> errors;
+
+    private LoadResult(LoadSettings settings, long elapsedNanos, Map<String, StepResult> steps, long iterations,
+                       long failedIterations, Map<String, Long> errors) {
+        this.settings = settings;
+        this.elapsedNanos = elapsedNanos;
+        this.steps = steps;
+        this.iterations = iterations;
+        this.failedIterations = failedIterations;
+        this.errors = errors;
+    }
+
+    static LoadResult merge(LoadSettings settings, long elapsedNanos, List<JourneySession.Stats> users) {
+        Map<String, StepResult> steps = new LinkedHashMap<>();
+        Map<String, Long> errors = new LinkedHashMap<>();
+        long iterations = 0;
+        long failed = 0;
+        for (JourneySession.Stats stats : users) {
+            stats.steps.forEach((name, histogram) ->
+                    steps.computeIfAbsent(name, StepResult::new).histogram.merge(histogram));
+            stats.stepErrors.forEach((name, count) -> steps.computeIfAbsent(name, StepResult::new).errors += count);
+            stats.errorMessages.forEach((message, count) -> errors.merge(message, count, Long::sum));
+            iterations += stats.iterations;
+            failed += stats.failedIterations;
+        }
+        // Whole-iteration row last, below the journey's own steps
+        StepResult iterationRow = steps.remove(ITERATION_STEP);
+        if (iterationRow != null) {
+            steps.put(ITERATION_STEP, iterationRow);
+        }
+        Map<String, Long> sortedErrors = new LinkedHashMap<>();
+        errors.entrySet().stream()
+                .sorted(Map.Entry.<String, Long>comparingByValue().reversed())
+                .forEach(entry -> sortedErrors.put(entry.getKey(), entry.getValue()));
+        return new LoadResult(settings, elapsedNanos, steps, iterations, failed, sortedErrors);
+    }
+
+    public LoadSettings getSettings() {
+        return settings;
+    }
+
+    public double getElapsedSeconds() {
+        return elapsedNanos / 1e9;
+    }
+
+    public List<StepResult> getSteps() {
+        return new ArrayList<>(steps.values());
+    }
+
+    public long getIterations() {
+        return iterations;
+    }
+
+    public long getFailedIterations() {
+        return failedIterations;
+    }
+
+    /**
+     * @return successful iterations per second over the whole run, ramps included
+     */
+    public double getThroughput() {
+        double seconds = getElapsedSeconds();
+        return seconds > 0 ? (iterations - failedIterations) / seconds : 0;
+    }
+
+    /**
+     * @return share of iterations that failed, 0 when nothing ran
+     */
+    public double getErrorRate() {
+        return iterations > 0 ? failedIterations / (double) iterations : 0;
+    }
+
+    /**
+     * @return error descriptions ({@code step: Exception - message}) by frequency, most frequent first
+     */
+    public Map<String, Long> getErrors() {
+        return errors;
+    }
+
+    public String summary() {
+        return String.format(Locale.ENGLISH, "%d iteration(s) in %.1f s, %.2f iterations/s, error rate %.1f%%",
+                iterations, getElapsedSeconds(), getThroughput(), getErrorRate() * 100);
+    }
+
+    /**
+     * Writes {@code load-<journey>.json} and {@code .csv} to {@code metrics.dir}.
+     */
+    public void export() {
+        String buildId = ConfigManager.getBuildId();
+        Path metricsDir = Paths.get(ConfigManager.getProperty("metrics.dir", "test-output/metrics/"));
+        String baseName = "load-" + settings.getJourney().replaceAll("[^A-Za-z0-9._-]", "_");
+        try {
+            Files.createDirectories(metricsDir);
+            Map<String, Object> json = new LinkedHashMap<>();
+            json.put("buildId", buildId);
+            json.put("generatedAt", Instant.now().toString());
+            json.put("journey", settings.getJourney());
+            json.put("users", settings.getUsers());
+            json.put("browsers", settings.getBrowsers());
+            json.put("elapsedSeconds", getElapsedSeconds());
+            json.put("iterations", iterations);
+            json.put("failedIterations", failedIterations);
+            json.put("throughputPerSecond", getThroughput());
+            json.put("errorRate", getErrorRate());
+            List<Map<String, Object>> rows = new ArrayList<>();
+            for (StepResult step : steps.values()) {
+                rows.add(step.toMap());
+            }
+            json.put("steps", rows);
+            json.put("errors", errors);
+            new ObjectMapper().writer(SerializationFeature.INDENT_OUTPUT)
+                    .writeValue(metricsDir.resolve(baseName + ".json").toFile(), json);
+
+            try (Writer csv = Files.newBufferedWriter(metricsDir.resolve(baseName + ".csv"), StandardCharsets.UTF_8)) {
+                csv.write("build_id,journey,users,step,count,errors,error_rate,mean_ms,p50_ms,p90_ms,p95_ms,p99_ms,max_ms\n");
+                for (StepResult step : steps.values()) {
+                    LatencyHistogram h = step.histogram;
+                    csv.write(String.join(",", csvField(buildId), csvField(settings.getJourney()),
+                            Integer.toString(settings.getUsers()), csvField(step.name), Long.toString(h.getCount()),
+                            Long.toString(step.errors), String.format(Locale.ENGLISH, "%.4f", step.getErrorRate()),
+                            format(h.getMeanMillis()),
+                            format(h.getPercentileMillis(50)), format(h.getPercentileMillis(90)),
+                            format(h.getPercentileMillis(95)), format(h.getPercentileMillis(99)),
+                            format(h.getMaxMillis())));
+                    csv.write('\n');
+                }
+            }
+            logger.info("Load results written to {}", metricsDir.resolve(baseName + ".json").toAbsolutePath());
+        } catch (IOException e) {
+            logger.error("Failed to export load results", e);
+        }
+    }
+
+    public String toHtml() {
+        StringBuilder html = new StringBuilder("<b>Load run</b> ").append(escape(settings.describe())).append("<br>")
+                .append(escape(summary()))
+                .append("<table style='width:100%;font-size:11px;border-collapse:collapse'>")
+                .append("<tr><th style='text-align:left'>Step</th><th>count</th><th>errors</th><th>p50 ms</th>")
+                .append("<th>p90 ms</th><th>p95 ms</th><th>p99 ms</th><th>max ms</th></tr>");
+        for (StepResult step : steps.values()) {
+            LatencyHistogram h = step.histogram;
+            html.append("<tr><td>").append(escape(step.name)).append("</td>")
+                    .append(cell(Long.toString(h.getCount())))
+                    .append(cell(step.errors > 0 ? "<b>" + step.errors + "</b>" : "0"))
+                    .append(cell(format(h.getPercentileMillis(50))))
+                    .append(cell(format(h.getPercentileMillis(90))))
+                    .append(cell(format(h.getPercentileMillis(95))))
+                    .append(cell(format(h.getPercentileMillis(99))))
+                    .append(cell(format(h.getMaxMillis())))
+                    .append("</tr>");
+        }
+        html.append("</table>");
+        if (!errors.isEmpty()) {
+            html.append("<b>Errors</b><ul>");
+            errors.entrySet().stream().limit(10).forEach(entry -> html.append("<li>").append(entry.getValue())
+                    .append(" &times; ").append(escape(entry.getKey())).append("</li>"));
+            html.append("</ul>");
+        }
+        return html.toString();
+    }
+
+    private static String cell(String value) {
+        return "<td style='text-align:right'>" + value + "</td>";
+    }
+
+    private static String format(double value) {
+        return String.format(Locale.ENGLISH, "%.1f", value);
+    }
+
+    private static String csvField(String value) {
+        if (value.contains(",") || value.contains("\"") || value.contains("\n")) {
+            return "\"" + value.replace("\"", "\"\"") + "\"";
+        }
+        return value;
+    }
+
+    private static String escape(String text) {
+        return text.replace("&", "&amp;").replace("<", "&lt;").replace(">", "&gt;").replace("'", "&#39;");
+    }
+
+    public static class StepResult {
+        private final String name;
+        private final LatencyHistogram histogram = new LatencyHistogram();
+        private long errors;
+
+        private StepResult(String name) {
+            this.name = name;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        /**
+         * @return latencies of the successful executions of this step
+         */
+        public LatencyHistogram getHistogram() {
+            return histogram;
+        }
+
+        public long getErrors() {
+            return errors;
+        }
+
+        public double getErrorRate() {
+            long attempts = histogram.getCount() + errors;
+            return attempts > 0 ? errors / (double) attempts : 0;
+        }
+
+        private Map<String, Object> toMap() {
+            Map<String, Object> map = new LinkedHashMap<>();
+            map.put("step", name);
+            map.put("count", histogram.getCount());
+            map.put("errors", errors);
+            map.put("errorRate", getErrorRate());
+            map.put("meanMs", histogram.getMeanMillis());
+            map.put("p50Ms", histogram.getPercentileMillis(50));
+            map.put("p90Ms", histogram.getPercentileMillis(90));
+            map.put("p95Ms", histogram.getPercentileMillis(95));
+            map.put("p99Ms", histogram.getPercentileMillis(99));
+            map.put("maxMs", histogram.getMaxMillis());
+            return map;
+        }
+    }
+}
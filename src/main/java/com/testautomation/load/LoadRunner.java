@@ -0,0 +1,139 @@
+package com.testautomation.load;
+
+import com.microsoft.playwright.BrowserContext;
+import com.microsoft.playwright.Page;
+import com.testautomation.base.PlaywrightManager;
+import com.testautomation.metrics.FrameworkMetrics;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Runs a {@link Journey} with concurrent virtual users, each on its own thread with a browser leased from
+ * a {@link BrowserPool} and a fresh context per iteration.
+ * <p>
+ * Users start evenly spread over the ramp-up. In duration mode user {@code i} stops starting new
+ * iterations at {@code end - rampDown * (users - i) / users}, so the load steps down over the ramp-down;
+ * an iteration already in progress always completes.
+ */
+public class LoadRunner {
+    private static final Logger logger = LogManager.getLogger(LoadRunner.class);
+    private static final String ACTIVE_USERS_GAUGE = "testautomation_load_active_users";
+    private static final long LEASE_TIMEOUT_MS = TimeUnit.MINUTES.toMillis(5);
+
+    public static LoadResult run(LoadSettings settings) {
+        Journey journey = JourneyRegistry.get(settings.getJourney());
+        String appUrl = settings.getAppUrl();
+        logger.info("Starting load run: {} against {}", settings.describe(), appUrl);
+
+        AtomicInteger activeUsers = new AtomicInteger();
+        FrameworkMetrics.registerGauge(ACTIVE_USERS_GAUGE, "Load-mode virtual users currently running",
+                activeUsers::get);
+        List<JourneySession.Stats> allStats = new ArrayList<>();
+        List<Thread> threads = new ArrayList<>();
+        long startNanos;
+        try (BrowserPool pool = new BrowserPool(settings.getBrowsers())) {
+            startNanos = System.nanoTime();
+            long rampUpNanos = TimeUnit.SECONDS.toNanos(settings.getRampUpSeconds());
+            long rampDownNanos = TimeUnit.SECONDS.toNanos(settings.getRampDownSeconds());
+            long endNanos = startNanos + TimeUnit.SECONDS.toNanos(settings.getDurationSeconds());
+            int users = settings.getUsers();
+
+            for (int i = 0; i < users; i++) {
+                JourneySession.Stats stats = new JourneySession.Stats();
+                allStats.add(stats);
+                int user = i + 1;
+                long startAt = startNanos + rampUpNanos * i / users;
+                long stopAt = settings.isIterationMode() ? Long.MAX_VALUE : endNanos - rampDownNanos * (users - user) / users;
+                Thread thread = new Thread(() -> {
+                    activeUsers.incrementAndGet();
+                    try {
+                        runUser(user, journey, appUrl, settings, pool, stats, startAt, stopAt);
+                    } finally {
+                        activeUsers.decrementAndGet();
+                    }
+                }, "load-vu-" + user);
+                thread.setDaemon(true);
+                threads.add(thread);
+                thread.start();
+            }
+            for (Thread thread : threads) {
+                thread.join();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            threads.forEach(Thread::interrupt);
+            throw new IllegalStateException("Load run interrupted", e);
+        } finally {
+            FrameworkMetrics.unregisterGauge(ACTIVE_USERS_GAUGE);
+        }
+
+        LoadResult result = LoadResult.merge(settings, System.nanoTime() - startNanos, allStats);
+        logger.info("Load run finished: {}", result.summary());
+        return result;
+    }
+
+    private static void runUser(int user, Journey journey, String appUrl, LoadSettings settings, BrowserPool pool,
+                                JourneySession.Stats stats, long startAt, long stopAt) {
+        try {
+            sleepUntil(startAt);
+            for (int iteration = 1; ; iteration++) {
+                if (settings.isIterationMode() ? iteration > settings.getIterations() : System.nanoTime() >= stopAt) {
+                    break;
+                }
+                runIteration(user, iteration, journey, appUrl, pool, stats);
+                if (settings.getThinkTimeMs() > 0) {
+                    Thread.sleep(settings.getThinkTimeMs());
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            logger.warn("Virtual user {} interrupted", user);
+        }
+    }
+
+    private static void runIteration(int user, int iteration, Journey journey, String appUrl, BrowserPool pool,
+                                     JourneySession.Stats stats) throws InterruptedException {
+        BrowserContext context = null;
+        stats.failedStep = null;
+        BrowserPool.Lease lease = pool.acquire(LEASE_TIMEOUT_MS);
+        long start = System.nanoTime();
+        try {
+            if (lease == null) {
+                throw new IllegalStateException("No browser could be leased within " + LEASE_TIMEOUT_MS + " ms");
+            }
+            context = PlaywrightManager.newContext(lease.getBrowser());
+            Page page = context.newPage();
+            PlaywrightManager.bind(lease.getPlaywright(), lease.getBrowser(), context, page);
+            journey.run(new JourneySession(user, iteration, page, appUrl, stats));
+            stats.histogram(LoadResult.ITERATION_STEP).recordNanos(System.nanoTime() - start);
+        } catch (RuntimeException | AssertionError e) {
+            stats.failed(stats.failedStep != null ? stats.failedStep : LoadResult.ITERATION_STEP, e);
+            stats.failedIterations++;
+            logger.debug("Virtual user {} iteration {} failed in step '{}'", user, iteration, stats.failedStep, e);
+        } finally {
+            stats.iterations++;
+            PlaywrightManager.unbind();
+            if (context != null) {
+                try {
+                    context.close();
+                    FrameworkMetrics.contextClosed();
+                } catch (RuntimeException e) {
+                    logger.debug("Error closing load context for virtual user {}", user, e);
+                }
+            }
+            pool.release(lease);
+        }
+    }
+
+    private static void sleepUntil(long deadlineNanos) throws InterruptedException {
+        long remaining = deadlineNanos - System.nanoTime();
+        if (remaining > 0) {
+            TimeUnit.NANOSECONDS.sleep(remaining);
+        }
+    }
+}
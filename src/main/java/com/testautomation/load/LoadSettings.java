@@ -0,0 +1,149 @@
+package com.testautomation.load;
+
+import com.testautomation.config.ConfigManager;
+import com.testautomation.server.AppServer;
+
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Collections;
+import java.util.Map;
+
+/**
+ * Parameters of a load run. {@link #fromConfig(Map)} reads the {@code load.*} properties; entries in the
+ * override map (e.g. TestNG {@code <parameter>}s) win over the configuration.
+ * <p>
+ * With {@code load.iterations > 0} every virtual user runs that many journeys; otherwise users run for
+ * {@code load.duration.seconds}. Users start evenly spread over {@code load.rampup.seconds} and, in
+ * duration mode, stop evenly spread over the last {@code load.rampdown.seconds}.
+ */
+public class LoadSettings {
+    private String journey = "user-journey";
+    private int users = 5;
+    private int iterations = 0;
+    private int durationSeconds = 60;
+    private int rampUpSeconds = 10;
+    private int rampDownSeconds = 5;
+    private int thinkTimeMs = 1000;
+    private int browsers = 0;
+    private String appUrl;
+
+    public static LoadSettings fromConfig(Map<String, String> overrides) {
+        Map<String, String> values = overrides != null ? overrides : Collections.emptyMap();
+        LoadSettings settings = new LoadSettings();
+        settings.journey = value(values, "load.journey", settings.journey);
+        settings.users = intValue(values, "load.users", settings.users);
+        settings.iterations = intValue(values, "load.iterations", settings.iterations);
+        settings.durationSeconds = intValue(values, "load.duration.seconds", settings.durationSeconds);
+        settings.rampUpSeconds = intValue(values, "load.rampup.seconds", settings.rampUpSeconds);
+        settings.rampDownSeconds = intValue(values, "load.rampdown.seconds", settings.rampDownSeconds);
+        settings.thinkTimeMs = intValue(values, "load.think.time.ms", settings.thinkTimeMs);
+        settings.browsers = intValue(values, "load.browsers", settings.browsers);
+        settings.appUrl = value(values, "load.app.url", null);
+        return settings.validate();
+    }
+
+    private LoadSettings validate() {
+        if (users < 1) {
+            throw new IllegalArgumentException("load.users must be at least 1, was " + users);
+        }
+        if (iterations <= 0 && durationSeconds <= 0) {
+            throw new IllegalArgumentException("Either load.iterations or load.duration.seconds must be positive");
+        }
+        if (rampUpSeconds < 0 || rampDownSeconds < 0 || thinkTimeMs < 0) {
+            throw new IllegalArgumentException("Load ramp and think times cannot be negative");
+        }
+        if (iterations <= 0 && rampUpSeconds + rampDownSeconds > durationSeconds) {
+            throw new IllegalArgumentException("load.rampup.seconds + load.rampdown.seconds exceed load.duration.seconds");
+        }
+        return this;
+    }
+
+    static String value(Map<String, String> overrides, String key, String defaultValue) {
+        String value = overrides.get(key);
+        if (value == null || value.trim().isEmpty()) {
+            value = ConfigManager.getProperty(key);
+        }
+        return value == null || value.trim().isEmpty() ? defaultValue : value.trim();
+    }
+
+    static int intValue(Map<String, String> overrides, String key, int defaultValue) {
+        String value = value(overrides, key, null);
+        try {
+            return value == null ? defaultValue : Integer.parseInt(value);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException(key + " must be an integer, was '" + value + "'", e);
+        }
+    }
+
+    public String getJourney() {
+        return journey;
+    }
+
+    public int getUsers() {
+        return users;
+    }
+
+    public int getIterations() {
+        return iterations;
+    }
+
+    public boolean isIterationMode() {
+        return iterations > 0;
+    }
+
+    public int getDurationSeconds() {
+        return durationSeconds;
+    }
+
+    public int getRampUpSeconds() {
+        return rampUpSeconds;
+    }
+
+    public int getRampDownSeconds() {
+        return rampDownSeconds;
+    }
+
+    public int getThinkTimeMs() {
+        return thinkTimeMs;
+    }
+
+    /**
+     * @return the pool size: {@code load.browsers} when set, otherwise one browser per virtual user
+     */
+    public int getBrowsers() {
+        return browsers > 0 ? Math.min(browsers, users) : users;
+    }
+
+    /**
+     * The page virtual users open: {@code load.app.url}, else the embedded app server, else {@code app.url}.
+     * A {@code file:} URL that does not exist on this machine falls back to the checked-in {@code demo-app.html}.
+     */
+    public String getAppUrl() {
+        return resolveAppUrl(appUrl);
+    }
+
+    static String resolveAppUrl(String configured) {
+        String served = configured == null ? AppServer.getAppUrl() : null;
+        if (served != null) {
+            return served;
+        }
+        String url = configured != null ? configured : ConfigManager.getProperty("app.url");
+        if (url == null || (url.startsWith("file:") && !Files.exists(Paths.get(URI.create(url))))) {
+            Path local = Paths.get("demo-app.html").toAbsolutePath();
+            if (Files.exists(local)) {
+                return local.toUri().toString();
+            }
+        }
+        return url;
+    }
+
+    public String describe() {
+        String length = isIterationMode()
+                ? iterations + " iteration(s) per user"
+                : durationSeconds + " s (ramp-down " + rampDownSeconds + " s)";
+        return String.format("journey '%s', %d user(s) on %d browser(s), ramp-up %d s, %s, think time %d ms",
+                journey, users, getBrowsers(), rampUpSeconds, length, thinkTimeMs);
+    }
+}
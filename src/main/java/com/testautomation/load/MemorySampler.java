@@ -0,0 +1,186 @@
+package com.testautomation.load;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.microsoft.playwright.Browser;
+import com.microsoft.playwright.CDPSession;
+import com.microsoft.playwright.Page;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.lang.management.MemoryUsage;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.EnumMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * Takes one memory sample for a soak run.
+ * <ul>
+ *   <li>JVM heap: sum of the heap pools' usage after the last collection (after an explicit GC when
+ *   {@code soak.sample.gc=true}), so it tracks retained objects rather than allocation churn</li>
+ *   <li>Browser RSS: sum of {@code VmRSS} from {@code /proc} over the browser's processes, found via
+ *   {@code SystemInfo.getProcessInfo} on Chromium and as JVM descendants otherwise. Shared pages count
+ *   once per process, so only the trend is meaningful. Linux only</li>
+ *   <li>Page: JS heap, DOM nodes and event listeners from {@code Performance.getMetrics} after
+ *   {@code HeapProfiler.collectGarbage} on Chromium; DOM nodes only on other browsers</li>
+ * </ul>
+ * Metrics that cannot be read on this platform are left out of the sample.
+ */
+class MemorySampler {
+    private static final Logger logger = LogManager.getLogger(MemorySampler.class);
+    private static final Pattern BROWSER_COMMAND = Pattern.compile("(?i).*(chrom|headless_shell|firefox|webkit|minibrowser).*");
+    private static final Path PROC = Paths.get("/proc");
+
+    private final Browser browser;
+    private final boolean forceGc;
+
+    MemorySampler(Browser browser, boolean forceGc) {
+        this.browser = browser;
+        this.forceGc = forceGc;
+    }
+
+    Map<SoakMetric, Double> sample(Page page) {
+        Map<SoakMetric, Double> values = new EnumMap<>(SoakMetric.class);
+        values.put(SoakMetric.JVM_HEAP_AFTER_GC, (double) jvmHeapAfterGc());
+        values.put(SoakMetric.JVM_THREADS, (double) ManagementFactory.getThreadMXBean().getThreadCount());
+        long rss = browserRss();
+        if (rss >= 0) {
+            values.put(SoakMetric.BROWSER_RSS, (double) rss);
+        }
+        samplePage(page, values);
+        return values;
+    }
+
+    private long jvmHeapAfterGc() {
+        if (forceGc) {
+            System.gc();
+        }
+        long used = 0;
+        boolean collected = false;
+        for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+            MemoryUsage afterGc = pool.getType() == MemoryType.HEAP ? pool.getCollectionUsage() : null;
+            if (afterGc != null) {
+                used += afterGc.getUsed();
+                collected = true;
+            }
+        }
+        return collected ? used : ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed();
+    }
+
+    private long browserRss() {
+        if (!Files.isDirectory(PROC)) {
+            return -1;
+        }
+        Set<Long> pids = chromiumProcessIds();
+        if (pids.isEmpty()) {
+            ProcessHandle.current().descendants()
+                    .filter(process -> process.info().command().map(c -> BROWSER_COMMAND.matcher(c).matches()).orElse(false))
+                    .forEach(process -> pids.add(process.pid()));
+        }
+        long total = 0;
+        for (long pid : pids) {
+            total += rssBytes(pid);
+        }
+        return pids.isEmpty() ? -1 : total;
+    }
+
+    private Set<Long> chromiumProcessIds() {
+        Set<Long> pids = new HashSet<>();
+        if (!"chromium".equals(browser.browserType().name())) {
+            return pids;
+        }
+        CDPSession session = null;
+        try {
+            session = browser.newBrowserCDPSession();
+            JsonObject info = session.send("SystemInfo.getProcessInfo");
+            for (JsonElement process : info.getAsJsonArray("processInfo")) {
+                pids.add(process.getAsJsonObject().get("id").getAsLong());
+            }
+        } catch (RuntimeException e) {
+            logger.debug("SystemInfo.getProcessInfo unavailable; falling back to JVM descendants", e);
+        } finally {
+            detach(session);
+        }
+        return pids;
+    }
+
+    private static long rssBytes(long pid) {
+        try {
+            List<String> lines = Files.readAllLines(PROC.resolve(Long.toString(pid)).resolve("status"), StandardCharsets.UTF_8);
+            for (String line : lines) {
+                if (line.startsWith("VmRSS:")) {
+                    return Long.parseLong(line.replaceAll("[^0-9]", "")) * 1024;
+                }
+            }
+        } catch (IOException | NumberFormatException e) {
+            // Process exited between listing and reading
+        }
+        return 0;
+    }
+
+    private void samplePage(Page page, Map<SoakMetric, Double> values) {
+        if (page == null || page.isClosed()) {
+            return;
+        }
+        if ("chromium".equals(browser.browserType().name())) {
+            CDPSession session = null;
+            try {
+                session = page.context().newCDPSession(page);
+                session.send("HeapProfiler.collectGarbage");
+                session.send("Performance.enable");
+                JsonObject result = session.send("Performance.getMetrics");
+                for (JsonElement metric : result.getAsJsonArray("metrics")) {
+                    JsonObject entry = metric.getAsJsonObject();
+                    double value = entry.get("value").getAsDouble();
+                    switch (entry.get("name").getAsString()) {
+                        case "JSHeapUsedSize":
+                            values.put(SoakMetric.JS_HEAP_USED, value);
+                            break;
+                        case "Nodes":
+                            values.put(SoakMetric.DOM_NODES, value);
+                            break;
+                        case "JSEventListeners":
+                            values.put(SoakMetric.JS_EVENT_LISTENERS, value);
+                            break;
+                        default:
+                            break;
+                    }
+                }
+                return;
+            } catch (RuntimeException e) {
+                logger.debug("Performance.getMetrics unavailable; sampling DOM size only", e);
+            } finally {
+                detach(session);
+            }
+        }
+        try {
+            Object nodes = page.evaluate("() => document.getElementsByTagName('*').length");
+            if (nodes instanceof Number) {
+                values.put(SoakMetric.DOM_NODES, ((Number) nodes).doubleValue());
+            }
+        } catch (RuntimeException e) {
+            logger.debug("Could not count DOM nodes", e);
+        }
+    }
+
+    private static void detach(CDPSession session) {
+        if (session != null) {
+            try {
+                session.detach();
+            } catch (RuntimeException e) {
+                logger.debug("Error detaching CDP session", e);
+            }
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package com.testautomation.load;
+
+import java.util.Locale;
+
+/**
+ * Series sampled during a soak run. Each has a growth limit per iteration ({@code soak.max.growth.<key>});
+ * a limit of 0 reports the trend without failing on it.
+ */
+public enum SoakMetric {
+    JVM_HEAP_AFTER_GC("jvm.heap.bytes", "JVM heap after GC", "bytes"),
+    JVM_THREADS("jvm.threads", "JVM live threads", "count"),
+    BROWSER_RSS("browser.rss.bytes", "Browser processes RSS", "bytes"),
+    JS_HEAP_USED("js.heap.bytes", "Page JS heap (after GC)", "bytes"),
+    DOM_NODES("dom.nodes", "DOM nodes", "count"),
+    JS_EVENT_LISTENERS("js.listeners", "JS event listeners", "count"),
+    ITERATION_TIME("iteration.ms", "Iteration time (window mean)", "ms");
+
+    private final String key;
+    private final String label;
+    private final String unit;
+
+    SoakMetric(String key, String label, String unit) {
+        this.key = key;
+        this.label = label;
+        this.unit = unit;
+    }
+
+    public String getKey() {
+        return key;
+    }
+
+    public String getLabel() {
+        return label;
+    }
+
+    public String getUnit() {
+        return unit;
+    }
+
+    public String format(double value) {
+        switch (unit) {
+            case "bytes":
+                return Math.abs(value) >= 1024 * 1024
+                        ? String.format(Locale.ENGLISH, "%.1f MB", value / (1024 * 1024))
+                        : String.format(Locale.ENGLISH, "%.1f KB", value / 1024);
+            case "ms":
+                return String.format(Locale.ENGLISH, "%.0f ms", value);
+            default:
+                return String.format(Locale.ENGLISH, "%.1f", value);
+        }
+    }
+}
@@ -0,0 +1,296 @@
+package com.testautomation.load;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.testautomation.config.ConfigManager;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Samples and fitted trends of a soak run. A metric violates its limit when the trend line over the
+ * post-warm-up samples grows faster than {@code soak.max.growth.<metric>} per iteration and fits at least
+ * {@code soak.min.r.squared}; fewer than three post-warm-up samples leave a metric unjudged.
+ */
+public class SoakResult {
+    private static final Logger logger = LogManager.getLogger(SoakResult.class);
+    private static final int MIN_FIT_POINTS = 3;
+
+    private final SoakSettings settings;
+    private final List<Sample> samples;
+    private final List<Trend> trends;
+    private final long iterations;
+    private final long failedIterations;
+    private final Map<String, Long> errors;
+    private final double elapsedSeconds;
+    private final String abortReason;
+
+    private SoakResult(SoakSettings settings, List<Sample> samples, List<Trend> trends, long iterations,
+                       long failedIterations, Map<String, Long> errors, double elapsedSeconds, String abortReason) {
+        this.settings = settings;
+        this.samples = samples;
+        this.trends = trends;
+        this.iterations = iterations;
+        this.failedIterations = failedIterations;
+        this.errors = errors;
+        this.elapsedSeconds = elapsedSeconds;
+        this.abortReason = abortReason;
+    }
+
+    static SoakResult analyse(SoakSettings settings, List<Sample> samples, JourneySession.Stats stats,
+                              double elapsedSeconds, String abortReason) {
+        List<Trend> trends = new ArrayList<>();
+        for (SoakMetric metric : SoakMetric.values()) {
+            List<Sample> measured = samples.stream().filter(sample -> sample.values.containsKey(metric))
+                    .collect(Collectors.toList());
+            if (measured.isEmpty()) {
+                continue;
+            }
+            List<Sample> fitted = measured.stream()
+                    .filter(sample -> sample.iteration > settings.getWarmupIterations())
+                    .collect(Collectors.toList());
+            TrendLine line = null;
+            if (fitted.size() >= MIN_FIT_POINTS) {
+                double[] x = fitted.stream().mapToDouble(sample -> sample.iteration).toArray();
+                double[] y = fitted.stream().mapToDouble(sample -> sample.values.get(metric)).toArray();
+                line = TrendLine.fit(x, y);
+            }
+            double limit = settings.getGrowthLimit(metric);
+            boolean violated = line != null && limit > 0 && line.getSlope() > limit
+                    && line.getRSquared() >= settings.getMinRSquared();
+            trends.add(new Trend(metric, measured.get(0).values.get(metric),
+                    measured.get(measured.size() - 1).values.get(metric), line, limit, violated));
+        }
+        Map<String, Long> errors = new LinkedHashMap<>();
+        stats.errorMessages.entrySet().stream()
+                .sorted(Map.Entry.<String, Long>comparingByValue().reversed())
+                .forEach(entry -> errors.put(entry.getKey(), entry.getValue()));
+        return new SoakResult(settings, Collections.unmodifiableList(samples), trends, stats.iterations,
+                stats.failedIterations, errors, elapsedSeconds, abortReason);
+    }
+
+    public List<Sample> getSamples() {
+        return samples;
+    }
+
+    public List<Trend> getTrends() {
+        return trends;
+    }
+
+    public List<Trend> getViolations() {
+        return trends.stream().filter(Trend::isViolated).collect(Collectors.toList());
+    }
+
+    public long getIterations() {
+        return iterations;
+    }
+
+    public long getFailedIterations() {
+        return failedIterations;
+    }
+
+    public Map<String, Long> getErrors() {
+        return errors;
+    }
+
+    /**
+     * @return why the run stopped early (too many consecutive failures), or null when it ran to the end
+     */
+    public String getAbortReason() {
+        return abortReason;
+    }
+
+    public String summary() {
+        return String.format(Locale.ENGLISH, "%d iteration(s) (%d failed) in %.1f min, %d sample(s), %d growth violation(s)%s",
+                iterations, failedIterations, elapsedSeconds / 60, samples.size(), getViolations().size(),
+                abortReason != null ? ", aborted: " + abortReason : "");
+    }
+
+    /**
+     * Writes {@code soak-<journey>.json} (trends and samples) and {@code soak-<journey>-samples.csv}
+     * to {@code metrics.dir}.
+     */
+    public void export() {
+        String buildId = ConfigManager.getBuildId();
+        Path metricsDir = Paths.get(ConfigManager.getProperty("metrics.dir", "test-output/metrics/"));
+        String baseName = "soak-" + settings.getJourney().replaceAll("[^A-Za-z0-9._-]", "_");
+        try {
+            Files.createDirectories(metricsDir);
+            Map<String, Object> json = new LinkedHashMap<>();
+            json.put("buildId", buildId);
+            json.put("generatedAt", Instant.now().toString());
+            json.put("journey", settings.getJourney());
+            json.put("iterations", iterations);
+            json.put("failedIterations", failedIterations);
+            json.put("elapsedSeconds", elapsedSeconds);
+            json.put("abortReason", abortReason);
+            List<Map<String, Object>> trendRows = new ArrayList<>();
+            for (Trend trend : trends) {
+                trendRows.add(trend.toMap());
+            }
+            json.put("trends", trendRows);
+            json.put("errors", errors);
+            List<Map<String, Object>> sampleRows = new ArrayList<>();
+            for (Sample sample : samples) {
+                Map<String, Object> row = new LinkedHashMap<>();
+                row.put("iteration", sample.iteration);
+                row.put("elapsedSeconds", sample.elapsedSeconds);
+                sample.values.forEach((metric, value) -> row.put(metric.getKey(), value));
+                sampleRows.add(row);
+            }
+            json.put("samples", sampleRows);
+            new ObjectMapper().writer(SerializationFeature.INDENT_OUTPUT)
+                    .writeValue(metricsDir.resolve(baseName + ".json").toFile(), json);
+
+            try (Writer csv = Files.newBufferedWriter(metricsDir.resolve(baseName + "-samples.csv"), StandardCharsets.UTF_8)) {
+                StringBuilder header = new StringBuilder("build_id,iteration,elapsed_s");
+                for (SoakMetric metric : SoakMetric.values()) {
+                    header.append(',').append(metric.getKey().replace('.', '_'));
+                }
+                csv.write(header.append('\n').toString());
+                for (Sample sample : samples) {
+                    StringBuilder line = new StringBuilder(buildId.replace(",", "_")).append(',').append(sample.iteration)
+                            .append(',').append(String.format(Locale.ENGLISH, "%.1f", sample.elapsedSeconds));
+                    for (SoakMetric metric : SoakMetric.values()) {
+                        Double value = sample.values.get(metric);
+                        line.append(',').append(value != null ? String.format(Locale.ENGLISH, "%.1f", value) : "");
+                    }
+                    csv.write(line.append('\n').toString());
+                }
+            }
+            logger.info("Soak results written to {}", metricsDir.resolve(baseName + ".json").toAbsolutePath());
+        } catch (IOException e) {
+            logger.error("Failed to export soak results", e);
+        }
+    }
+
+    public String toHtml() {
+        StringBuilder html = new StringBuilder("<b>Soak run</b> ").append(escape(settings.describe())).append("<br>")
+                .append(escape(summary()))
+                .append("<table style='width:100%;font-size:11px;border-collapse:collapse'>")
+                .append("<tr><th style='text-align:left'>Metric</th><th>first</th><th>last</th>")
+                .append("<th>growth / iteration</th><th>r&sup2;</th><th>limit</th></tr>");
+        for (Trend trend : trends) {
+            SoakMetric metric = trend.metric;
+            String growth = trend.line != null ? metric.format(trend.line.getSlope()) : "n/a";
+            html.append("<tr><td>").append(trend.violated ? "<b>" + escape(metric.getLabel()) + "</b>" : escape(metric.getLabel()))
+                    .append("</td>")
+                    .append(cell(metric.format(trend.first)))
+                    .append(cell(metric.format(trend.last)))
+                    .append(cell(trend.violated ? "<b>" + growth + "</b>" : growth))
+                    .append(cell(trend.line != null ? String.format(Locale.ENGLISH, "%.2f", trend.line.getRSquared()) : "n/a"))
+                    .append(cell(trend.limit > 0 ? metric.format(trend.limit) : "-"))
+                    .append("</tr>");
+        }
+        html.append("</table>");
+        if (!errors.isEmpty()) {
+            html.append("<b>Errors</b><ul>");
+            errors.entrySet().stream().limit(10).forEach(entry -> html.append("<li>").append(entry.getValue())
+                    .append(" &times; ").append(escape(entry.getKey())).append("</li>"));
+            html.append("</ul>");
+        }
+        return html.toString();
+    }
+
+    private static String cell(String value) {
+        return "<td style='text-align:right'>" + value + "</td>";
+    }
+
+    private static String escape(String text) {
+        return text.replace("&", "&amp;").replace("<", "&lt;").replace(">", "&gt;").replace("'", "&#39;");
+    }
+
+    public static class Sample {
+        private final long iteration;
+        private final double elapsedSeconds;
+        private final Map<SoakMetric, Double> values;
+
+        Sample(long iteration, double elapsedSeconds, Map<SoakMetric, Double> values) {
+            this.iteration = iteration;
+            this.elapsedSeconds = elapsedSeconds;
+            this.values = values;
+        }
+
+        public long getIteration() {
+            return iteration;
+        }
+
+        public double getElapsedSeconds() {
+            return elapsedSeconds;
+        }
+
+        public Map<SoakMetric, Double> getValues() {
+            return values;
+        }
+    }
+
+    public static class Trend {
+        private final SoakMetric metric;
+        private final double first;
+        private final double last;
+        private final TrendLine line;
+        private final double limit;
+        private final boolean violated;
+
+        private Trend(SoakMetric metric, double first, double last, TrendLine line, double limit, boolean violated) {
+            this.metric = metric;
+            this.first = first;
+            this.last = last;
+            this.line = line;
+            this.limit = limit;
+            this.violated = violated;
+        }
+
+        public SoakMetric getMetric() {
+            return metric;
+        }
+
+        /**
+         * @return the fitted line, or null when there were too few post-warm-up samples
+         */
+        public TrendLine getLine() {
+            return line;
+        }
+
+        public double getLimit() {
+            return limit;
+        }
+
+        public boolean isViolated() {
+            return violated;
+        }
+
+        private Map<String, Object> toMap() {
+            Map<String, Object> map = new LinkedHashMap<>();
+            map.put("metric", metric.getKey());
+            map.put("first", first);
+            map.put("last", last);
+            map.put("growthPerIteration", line != null ? line.getSlope() : null);
+            map.put("rSquared", line != null ? line.getRSquared() : null);
+            map.put("limit", limit > 0 ? limit : null);
+            map.put("violated", violated);
+            return map;
+        }
+
+        @Override
+        public String toString() {
+            return String.format(Locale.ENGLISH, "%s grows %s per iteration (limit %s, r2 %.2f)", metric.getLabel(),
+                    line != null ? metric.format(line.getSlope()) : "n/a", metric.format(limit),
+                    line != null ? line.getRSquared() : 0);
+        }
+    }
+}
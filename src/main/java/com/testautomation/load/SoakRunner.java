@@ -0,0 +1,194 @@
+package com.testautomation.load;
+
+import com.microsoft.playwright.BrowserContext;
+import com.microsoft.playwright.Page;
+import com.testautomation.base.PlaywrightManager;
+import com.testautomation.metrics.FrameworkMetrics;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Loops a {@link Journey} for a long time on a single virtual user and samples memory every
+ * {@code soak.sample.every.iterations} iterations (see {@link MemorySampler}), so slow growth in the JVM,
+ * the browser processes or the page shows up as a trend in the {@link SoakResult}.
+ * <p>
+ * The loop runs on its own thread, which keeps the calling test's report and step timeline from growing
+ * with every iteration and distorting the JVM numbers. Progress is exposed as
+ * {@code testautomation_soak_*} gauges while it runs.
+ */
+public class SoakRunner {
+    private static final Logger logger = LogManager.getLogger(SoakRunner.class);
+    private static final String ITERATIONS_GAUGE = "testautomation_soak_iterations";
+
+    public static SoakResult run(SoakSettings settings) {
+        Journey journey = JourneyRegistry.get(settings.getJourney());
+        logger.info("Starting soak run: {} against {}", settings.describe(), settings.getAppUrl());
+        Loop loop = new Loop(settings, journey);
+        Thread thread = new Thread(loop, "soak-vu");
+        thread.setDaemon(true);
+        registerGauges(loop);
+        try {
+            thread.start();
+            thread.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            thread.interrupt();
+            throw new IllegalStateException("Soak run interrupted", e);
+        } finally {
+            unregisterGauges();
+        }
+        if (loop.failure != null) {
+            throw new IllegalStateException("Soak run could not run the journey", loop.failure);
+        }
+        SoakResult result = SoakResult.analyse(settings, loop.samples, loop.stats,
+                (System.nanoTime() - loop.startNanos) / 1e9, loop.abortReason);
+        logger.info("Soak run finished: {}", result.summary());
+        result.getViolations().forEach(trend -> logger.warn("Soak growth above limit: {}", trend));
+        return result;
+    }
+
+    private static void registerGauges(Loop loop) {
+        FrameworkMetrics.registerGauge(ITERATIONS_GAUGE, "Soak iterations completed", () -> loop.stats.iterations);
+        for (SoakMetric metric : SoakMetric.values()) {
+            FrameworkMetrics.registerGauge(gaugeName(metric), "Latest soak sample: " + metric.getLabel(), () -> {
+                Double value = loop.latest.get(metric);
+                if (value == null) {
+                    throw new IllegalStateException("not sampled yet");
+                }
+                return value;
+            });
+        }
+    }
+
+    private static void unregisterGauges() {
+        FrameworkMetrics.unregisterGauge(ITERATIONS_GAUGE);
+        for (SoakMetric metric : SoakMetric.values()) {
+            FrameworkMetrics.unregisterGauge(gaugeName(metric));
+        }
+    }
+
+    private static String gaugeName(SoakMetric metric) {
+        return "testautomation_soak_" + metric.getKey().replace('.', '_');
+    }
+
+    private static class Loop implements Runnable {
+        private final SoakSettings settings;
+        private final Journey journey;
+        private final String appUrl;
+        private final JourneySession.Stats stats = new JourneySession.Stats();
+        private final List<SoakResult.Sample> samples = Collections.synchronizedList(new ArrayList<>());
+        private volatile Map<SoakMetric, Double> latest = Collections.emptyMap();
+        private volatile long startNanos = System.nanoTime();
+        private String abortReason;
+        private RuntimeException failure;
+
+        private Loop(SoakSettings settings, Journey journey) {
+            this.settings = settings;
+            this.journey = journey;
+            this.appUrl = settings.getAppUrl();
+        }
+
+        @Override
+        public void run() {
+            try (BrowserPool pool = new BrowserPool(1)) {
+                soak(pool.acquire(0));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                abortReason = "interrupted";
+            } catch (RuntimeException e) {
+                failure = e;
+            }
+        }
+
+        private void soak(BrowserPool.Lease lease) throws InterruptedException {
+            MemorySampler sampler = new MemorySampler(lease.getBrowser(), settings.isSampleGc());
+            startNanos = System.nanoTime();
+            long endNanos = startNanos + TimeUnit.MINUTES.toNanos(settings.getDurationMinutes());
+            long windowNanos = 0;
+            int windowIterations = 0;
+            int consecutiveFailures = 0;
+            BrowserContext context = null;
+            try {
+                for (int iteration = 1; settings.isIterationMode()
+                        ? iteration <= settings.getIterations() : System.nanoTime() < endNanos; iteration++) {
+                    if (context == null) {
+                        context = PlaywrightManager.newContext(lease.getBrowser());
+                        PlaywrightManager.bind(lease.getPlaywright(), lease.getBrowser(), context, context.newPage());
+                    }
+                    Page page = PlaywrightManager.getPage();
+                    stats.failedStep = null;
+                    long start = System.nanoTime();
+                    try {
+                        journey.run(new JourneySession(1, iteration, page, appUrl, stats));
+                        long nanos = System.nanoTime() - start;
+                        stats.histogram(LoadResult.ITERATION_STEP).recordNanos(nanos);
+                        windowNanos += nanos;
+                        windowIterations++;
+                        consecutiveFailures = 0;
+                    } catch (RuntimeException | AssertionError e) {
+                        stats.failed(stats.failedStep != null ? stats.failedStep : LoadResult.ITERATION_STEP, e);
+                        stats.failedIterations++;
+                        logger.debug("Soak iteration {} failed in step '{}'", iteration, stats.failedStep, e);
+                        if (++consecutiveFailures >= settings.getMaxConsecutiveFailures()) {
+                            abortReason = consecutiveFailures + " consecutive failed iterations, last in step '"
+                                    + stats.failedStep + "'";
+                            break;
+                        }
+                        // Start the next iteration from a clean page
+                        resetPage(page);
+                    } finally {
+                        stats.iterations++;
+                    }
+
+                    if (iteration % settings.getSampleEvery() == 0) {
+                        Map<SoakMetric, Double> values = sampler.sample(page);
+                        if (windowIterations > 0) {
+                            values.put(SoakMetric.ITERATION_TIME, windowNanos / 1e6 / windowIterations);
+                        }
+                        windowNanos = 0;
+                        windowIterations = 0;
+                        double elapsedSeconds = (System.nanoTime() - startNanos) / 1e9;
+                        samples.add(new SoakResult.Sample(iteration, elapsedSeconds, values));
+                        latest = values;
+                        logger.info("Soak sample at iteration {} ({} s): {}", iteration, Math.round(elapsedSeconds), values);
+                    }
+                    if (!settings.isReusePage()) {
+                        closeContext(context);
+                        context = null;
+                    }
+                    if (settings.getThinkTimeMs() > 0) {
+                        Thread.sleep(settings.getThinkTimeMs());
+                    }
+                }
+            } finally {
+                closeContext(context);
+            }
+        }
+
+        private static void resetPage(Page page) {
+            try {
+                page.navigate("about:blank");
+            } catch (RuntimeException e) {
+                logger.debug("Could not reset soak page", e);
+            }
+        }
+
+        private static void closeContext(BrowserContext context) {
+            PlaywrightManager.unbind();
+            if (context != null) {
+                try {
+                    context.close();
+                    FrameworkMetrics.contextClosed();
+                } catch (RuntimeException e) {
+                    logger.debug("Error closing soak context", e);
+                }
+            }
+        }
+    }
+}
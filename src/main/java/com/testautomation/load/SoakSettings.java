@@ -0,0 +1,125 @@
+package com.testautomation.load;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Parameters of a soak run, read from the {@code soak.*} properties with the same override rules as
+ * {@link LoadSettings}. The run lasts {@code soak.iterations} iterations when positive, otherwise
+ * {@code soak.duration.minutes}.
+ */
+public class SoakSettings {
+    private String journey = "login-cycle";
+    private int iterations = 0;
+    private int durationMinutes = 120;
+    private int sampleEvery = 10;
+    private int warmupIterations = 20;
+    private int thinkTimeMs = 0;
+    private int maxConsecutiveFailures = 5;
+    private boolean reusePage = true;
+    private boolean sampleGc = true;
+    private double minRSquared = 0.5;
+    private String appUrl;
+    private final Map<SoakMetric, Double> growthLimits = new EnumMap<>(SoakMetric.class);
+
+    public static SoakSettings fromConfig(Map<String, String> overrides) {
+        Map<String, String> values = overrides != null ? overrides : Collections.emptyMap();
+        SoakSettings settings = new SoakSettings();
+        settings.journey = LoadSettings.value(values, "soak.journey", settings.journey);
+        settings.iterations = LoadSettings.intValue(values, "soak.iterations", settings.iterations);
+        settings.durationMinutes = LoadSettings.intValue(values, "soak.duration.minutes", settings.durationMinutes);
+        settings.sampleEvery = LoadSettings.intValue(values, "soak.sample.every.iterations", settings.sampleEvery);
+        settings.warmupIterations = LoadSettings.intValue(values, "soak.warmup.iterations", settings.warmupIterations);
+        settings.thinkTimeMs = LoadSettings.intValue(values, "soak.think.time.ms", settings.thinkTimeMs);
+        settings.maxConsecutiveFailures = LoadSettings.intValue(values, "soak.max.consecutive.failures",
+                settings.maxConsecutiveFailures);
+        settings.reusePage = Boolean.parseBoolean(LoadSettings.value(values, "soak.reuse.page", "true"));
+        settings.sampleGc = Boolean.parseBoolean(LoadSettings.value(values, "soak.sample.gc", "true"));
+        settings.minRSquared = Double.parseDouble(LoadSettings.value(values, "soak.min.r.squared", "0.5"));
+        settings.appUrl = LoadSettings.value(values, "soak.app.url", null);
+        for (SoakMetric metric : SoakMetric.values()) {
+            String limit = LoadSettings.value(values, "soak.max.growth." + metric.getKey(), "0");
+            settings.growthLimits.put(metric, Double.parseDouble(limit));
+        }
+        if (settings.iterations <= 0 && settings.durationMinutes <= 0) {
+            throw new IllegalArgumentException("Either soak.iterations or soak.duration.minutes must be positive");
+        }
+        if (settings.sampleEvery < 1) {
+            throw new IllegalArgumentException("soak.sample.every.iterations must be at least 1");
+        }
+        return settings;
+    }
+
+    public String getJourney() {
+        return journey;
+    }
+
+    public int getIterations() {
+        return iterations;
+    }
+
+    public int getDurationMinutes() {
+        return durationMinutes;
+    }
+
+    public boolean isIterationMode() {
+        return iterations > 0;
+    }
+
+    public int getSampleEvery() {
+        return sampleEvery;
+    }
+
+    /**
+     * @return iterations left out of the trend fit while caches, JIT and the app settle
+     */
+    public int getWarmupIterations() {
+        return warmupIterations;
+    }
+
+    public int getThinkTimeMs() {
+        return thinkTimeMs;
+    }
+
+    public int getMaxConsecutiveFailures() {
+        return maxConsecutiveFailures;
+    }
+
+    /**
+     * @return true to keep one page for the whole run (app leaks accumulate), false for a fresh context
+     * per iteration (only framework and browser process growth remains)
+     */
+    public boolean isReusePage() {
+        return reusePage;
+    }
+
+    public boolean isSampleGc() {
+        return sampleGc;
+    }
+
+    /**
+     * @return minimum fit quality for a growth limit to fail the run, so noisy series do not trip it
+     */
+    public double getMinRSquared() {
+        return minRSquared;
+    }
+
+    public String getAppUrl() {
+        return LoadSettings.resolveAppUrl(appUrl);
+    }
+
+    /**
+     * @return allowed growth per iteration, or 0 when the metric is only reported
+     */
+    public double getGrowthLimit(SoakMetric metric) {
+        return growthLimits.getOrDefault(metric, 0.0);
+    }
+
+    public String describe() {
+        String length = isIterationMode() ? iterations + " iteration(s)" : durationMinutes + " min";
+        return String.format("journey '%s' for %s, sampled every %d iteration(s) after %d warm-up, %s",
+                journey, length, sampleEvery, warmupIterations,
+                reusePage ? "one page for the run" : "fresh context per iteration");
+    }
+}
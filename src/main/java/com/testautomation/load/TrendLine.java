@@ -0,0 +1,74 @@
+package com.testautomation.load;
+
+/**
+ * Ordinary least-squares line through (iteration, value) samples.
+ */
+public class TrendLine {
+    private final double slope;
+    private final double intercept;
+    private final double rSquared;
+    private final int points;
+
+    private TrendLine(double slope, double intercept, double rSquared, int points) {
+        this.slope = slope;
+        this.intercept = intercept;
+        this.rSquared = rSquared;
+        this.points = points;
+    }
+
+    /**
+     * @return the fitted line, or null with fewer than two points or no spread in {@code x}
+     */
+    public static TrendLine fit(double[] x, double[] y) {
+        int n = Math.min(x.length, y.length);
+        if (n < 2) {
+            return null;
+        }
+        double meanX = 0;
+        double meanY = 0;
+        for (int i = 0; i < n; i++) {
+            meanX += x[i];
+            meanY += y[i];
+        }
+        meanX /= n;
+        meanY /= n;
+        double covariance = 0;
+        double varianceX = 0;
+        double varianceY = 0;
+        for (int i = 0; i < n; i++) {
+            double dx = x[i] - meanX;
+            double dy = y[i] - meanY;
+            covariance += dx * dy;
+            varianceX += dx * dx;
+            varianceY += dy * dy;
+        }
+        if (varianceX == 0) {
+            return null;
+        }
+        double slope = covariance / varianceX;
+        double rSquared = varianceY == 0 ? 0 : (covariance * covariance) / (varianceX * varianceY);
+        return new TrendLine(slope, meanY - slope * meanX, rSquared, n);
+    }
+
+    /**
+     * @return growth per iteration
+     */
+    public double getSlope() {
+        return slope;
+    }
+
+    public double getIntercept() {
+        return intercept;
+    }
+
+    /**
+     * @return how much of the variation the line explains (0..1); a low value means noise, not steady growth
+     */
+    public double getRSquared() {
+        return rSquared;
+    }
+
+    public int getPoints() {
+        return points;
+    }
+}
@@ -0,0 +1,221 @@
+package com.testautomation.metrics;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.testautomation.config.ConfigManager;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * Suite-wide latency distributions for page actions, keyed by emulation profile, action, page class and selector.
+ * <p>
+ * Each worker thread records into its own histograms, so the hot path takes no locks and allocates
+ * nothing once a key has been seen. {@link #snapshot()} merges every thread's histograms and is meant to
+ * run at suite end, after the workers have stopped recording.
+ */
+public class ActionLatencyRegistry {
+    private static final Logger logger = LogManager.getLogger(ActionLatencyRegistry.class);
+    private static final boolean ENABLED = ConfigManager.getBooleanProperty("metrics.latency.enabled", true);
+    private static final String ALL = "*";
+    private static final String DEFAULT_PROFILE = "none";
+
+    private static final Queue<Recorder> recorders = new ConcurrentLinkedQueue<>();
+    private static final ThreadLocal<Recorder> recorder = ThreadLocal.withInitial(() -> {
+        Recorder created = new Recorder();
+        recorders.add(created);
+        return created;
+    });
+
+    public static void record(String pageClass, String action, String selector, long nanos) {
+        FrameworkMetrics.actionCompleted(action, nanos);
+        if (ENABLED) {
+            recorder.get().histogram(action, pageClass, selector == null ? "" : selector).recordNanos(nanos);
+        }
+    }
+
+    /**
+     * Tags the current thread's subsequent recordings with an emulation profile.
+     */
+    public static void setProfile(String profile) {
+        recorder.get().select(profile);
+    }
+
+    /**
+     * Merges all per-thread histograms into one entry per profile/action/page/selector, plus roll-ups per
+     * action and page ({@code selector = "*"}) and per action ({@code page = selector = "*"}).
+     */
+    public static List<Entry> snapshot() {
+        Map<String, Entry> merged = new HashMap<>();
+        for (Recorder threadRecorder : recorders) {
+            threadRecorder.byProfile.forEach((profile, histograms) -> histograms.forEach((action, byPage) ->
+                    byPage.forEach((page, bySelector) -> bySelector.forEach((selector, histogram) -> {
+                        merge(merged, profile, action, page, selector, histogram);
+                        merge(merged, profile, action, page, ALL, histogram);
+                        merge(merged, profile, action, ALL, ALL, histogram);
+                    }))));
+        }
+        List<Entry> entries = new ArrayList<>(merged.values());
+        entries.sort(Comparator.comparing((Entry entry) -> !DEFAULT_PROFILE.equals(entry.getProfile()))
+                .thenComparing(Entry::getProfile)
+                .thenComparing(Entry::getAction)
+                .thenComparing(entry -> !entry.isActionRollup())
+                .thenComparing(Entry::getPage)
+                .thenComparing(entry -> !ALL.equals(entry.getSelector()))
+                .thenComparing(Entry::getSelector));
+        return entries;
+    }
+
+    /**
+     * Writes the merged distributions to {@code action-latency.json} and {@code action-latency.csv}
+     * under {@code metrics.dir}, tagged with {@code build.id} so runs can be compared over time.
+     */
+    public static List<Entry> export() {
+        List<Entry> entries = snapshot();
+        if (entries.isEmpty()) {
+            return entries;
+        }
+        String buildId = ConfigManager.getBuildId();
+        Path metricsDir = Paths.get(ConfigManager.getProperty("metrics.dir", "test-output/metrics/"));
+        try {
+            Files.createDirectories(metricsDir);
+            Map<String, Object> json = new LinkedHashMap<>();
+            json.put("buildId", buildId);
+            json.put("generatedAt", Instant.now().toString());
+            List<Map<String, Object>> rows = new ArrayList<>();
+            for (Entry entry : entries) {
+                rows.add(entry.toMap());
+            }
+            json.put("actions", rows);
+            new ObjectMapper().writer(SerializationFeature.INDENT_OUTPUT)
+                    .writeValue(metricsDir.resolve("action-latency.json").toFile(), json);
+
+            try (Writer csv = Files.newBufferedWriter(metricsDir.resolve("action-latency.csv"), StandardCharsets.UTF_8)) {
+                csv.write("build_id,profile,action,page,selector,count,mean_ms,p50_ms,p95_ms,p99_ms,max_ms\n");
+                for (Entry entry : entries) {
+                    LatencyHistogram h = entry.getHistogram();
+                    csv.write(String.join(",", csvField(buildId), csvField(entry.getProfile()), csvField(entry.getAction()), csvField(entry.getPage()),
+                            csvField(entry.getSelector()), Long.toString(h.getCount()), format(h.getMeanMillis()),
+                            format(h.getPercentileMillis(50)), format(h.getPercentileMillis(95)),
+                            format(h.getPercentileMillis(99)), format(h.getMaxMillis())));
+                    csv.write('\n');
+                }
+            }
+            logger.info("Action latency metrics written to {}", metricsDir.toAbsolutePath());
+        } catch (IOException e) {
+            logger.error("Failed to export action latency metrics", e);
+        }
+        return entries;
+    }
+
+    static String format(double millis) {
+        return String.format(Locale.ENGLISH, "%.2f", millis);
+    }
+
+    private static String csvField(String value) {
+        if (value.contains(",") || value.contains("\"") || value.contains("\n")) {
+            return "\"" + value.replace("\"", "\"\"") + "\"";
+        }
+        return value;
+    }
+
+    private static void merge(Map<String, Entry> merged, String profile, String action, String page, String selector,
+                              LatencyHistogram histogram) {
+        merged.computeIfAbsent(profile + '\u0000' + action + '\u0000' + page + '\u0000' + selector,
+                k -> new Entry(profile, action, page, selector)).histogram.merge(histogram);
+    }
+
+    private static class Recorder {
+        // profile -> action -> page class -> selector; nested so lookups need no composite key allocation
+        private final Map<String, Map<String, Map<String, Map<String, LatencyHistogram>>>> byProfile = new HashMap<>();
+        private Map<String, Map<String, Map<String, LatencyHistogram>>> histograms;
+
+        private Recorder() {
+            select(DEFAULT_PROFILE);
+        }
+
+        private void select(String profile) {
+            histograms = byProfile.computeIfAbsent(profile, k -> new HashMap<>());
+        }
+
+        private LatencyHistogram histogram(String action, String pageClass, String selector) {
+            return histograms.computeIfAbsent(action, k -> new HashMap<>())
+                    .computeIfAbsent(pageClass, k -> new HashMap<>())
+                    .computeIfAbsent(selector, k -> new LatencyHistogram());
+        }
+    }
+
+    public static class Entry {
+        private final String profile;
+        private final String action;
+        private final String page;
+        private final String selector;
+        private final LatencyHistogram histogram = new LatencyHistogram();
+
+        private Entry(String profile, String action, String page, String selector) {
+            this.profile = profile;
+            this.action = action;
+            this.page = page;
+            this.selector = selector;
+        }
+
+        public String getProfile() {
+            return profile;
+        }
+
+        public String getAction() {
+            return action;
+        }
+
+        public String getPage() {
+            return page;
+        }
+
+        public String getSelector() {
+            return selector;
+        }
+
+        public LatencyHistogram getHistogram() {
+            return histogram;
+        }
+
+        public boolean isActionRollup() {
+            return ALL.equals(page);
+        }
+
+        public boolean isPageRollup() {
+            return !ALL.equals(page) && ALL.equals(selector);
+        }
+
+        private Map<String, Object> toMap() {
+            Map<String, Object> row = new LinkedHashMap<>();
+            row.put("profile", profile);
+            row.put("action", action);
+            row.put("page", page);
+            row.put("selector", selector);
+            row.put("count", histogram.getCount());
+            row.put("meanMs", histogram.getMeanMillis());
+            row.put("p50Ms", histogram.getPercentileMillis(50));
+            row.put("p95Ms", histogram.getPercentileMillis(95));
+            row.put("p99Ms", histogram.getPercentileMillis(99));
+            row.put("maxMs", histogram.getMaxMillis());
+            return row;
+        }
+    }
+}
@@ -0,0 +1,198 @@
+package com.testautomation.metrics;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryUsage;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.DoubleSupplier;
+
+/**
+ * Live, process-wide counters and gauges for long-running suites, rendered in the OpenMetrics text format.
+ * <p>
+ * Updates are {@link LongAdder}/atomic increments so they are safe to call from any worker thread.
+ * Components that own a resource (e.g. a browser pool) can expose it with {@link #registerGauge}, or a running
+ * total with {@link #registerCounter}.
+ * {@link MetricsEndpoint} serves and snapshots the rendered text.
+ */
+public class FrameworkMetrics {
+    private static final long START_NANOS = System.nanoTime();
+
+    private static final LongAdder testsStarted = new LongAdder();
+    private static final Map<String, LongAdder> testsFinished = new ConcurrentHashMap<>();
+    private static final LongAdder retries = new LongAdder();
+    private static final LongAdder screenshots = new LongAdder();
+    private static final LongAdder screenshotBytes = new LongAdder();
+    private static final AtomicInteger activeBrowsers = new AtomicInteger();
+    private static final AtomicInteger activeContexts = new AtomicInteger();
+    private static final Map<String, ActionStats> actions = new ConcurrentHashMap<>();
+    private static final Map<String, Supplied> supplied = new ConcurrentSkipListMap<>();
+
+    public static void testStarted() {
+        testsStarted.increment();
+    }
+
+    public static void testFinished(String outcome) {
+        testsFinished.computeIfAbsent(outcome.toLowerCase(Locale.ENGLISH), k -> new LongAdder()).increment();
+    }
+
+    public static void retryScheduled() {
+        retries.increment();
+    }
+
+    public static void screenshotWritten(long bytes) {
+        screenshots.increment();
+        screenshotBytes.add(bytes);
+    }
+
+    public static void browserOpened() {
+        activeBrowsers.incrementAndGet();
+    }
+
+    public static void browserClosed() {
+        activeBrowsers.decrementAndGet();
+    }
+
+    public static void contextOpened() {
+        activeContexts.incrementAndGet();
+    }
+
+    public static void contextClosed() {
+        activeContexts.decrementAndGet();
+    }
+
+    public static void actionCompleted(String action, long nanos) {
+        ActionStats stats = actions.get(action);
+        if (stats == null) {
+            stats = actions.computeIfAbsent(action, k -> new ActionStats());
+        }
+        stats.count.increment();
+        stats.nanos.add(nanos);
+    }
+
+    /**
+     * Exposes a value that is read at scrape time. {@code name} must be a valid metric name;
+     * registering the same name again replaces the previous supplier.
+     */
+    public static void registerGauge(String name, String help, DoubleSupplier value) {
+        supplied.put(name, new Supplied("gauge", help, value));
+    }
+
+    /**
+     * Like {@link #registerGauge} for a value that only ever increases; {@code name} is the family name and the
+     * sample is exposed as {@code <name>_total}.
+     */
+    public static void registerCounter(String name, String help, DoubleSupplier value) {
+        supplied.put(name, new Supplied("counter", help, value));
+    }
+
+    public static void unregisterGauge(String name) {
+        supplied.remove(name);
+    }
+
+    /**
+     * Renders every metric in the OpenMetrics text exposition format, terminated by {@code # EOF}.
+     */
+    public static String render() {
+        StringBuilder out = new StringBuilder(2048);
+        counter(out, "testautomation_tests_started", "Tests started", testsStarted.sum());
+        header(out, "testautomation_tests_finished", "counter", "Tests finished by outcome");
+        testsFinished.forEach((outcome, count) -> sample(out, "testautomation_tests_finished_total",
+                "outcome", outcome, count.sum()));
+        long running = testsStarted.sum() - testsFinished.values().stream().mapToLong(LongAdder::sum).sum();
+        gauge(out, "testautomation_tests_running", "Tests currently executing", Math.max(0, running));
+        double uptimeSeconds = (System.nanoTime() - START_NANOS) / 1e9;
+        gauge(out, "testautomation_tests_per_minute", "Average test throughput since start",
+                uptimeSeconds > 0 ? testsFinished.values().stream().mapToLong(LongAdder::sum).sum() * 60 / uptimeSeconds : 0);
+        counter(out, "testautomation_retries", "Test retries scheduled by RetryAnalyzer", retries.sum());
+        counter(out, "testautomation_screenshots", "Screenshots captured", screenshots.sum());
+        header(out, "testautomation_screenshot_bytes", "counter", "Screenshot bytes written");
+        out.append("# UNIT testautomation_screenshot_bytes bytes\n");
+        sample(out, "testautomation_screenshot_bytes_total", null, null, screenshotBytes.sum());
+        gauge(out, "testautomation_browsers_active", "Open browsers", activeBrowsers.get());
+        gauge(out, "testautomation_contexts_active", "Open browser contexts", activeContexts.get());
+
+        header(out, "testautomation_action_duration_seconds", "summary", "Page action durations");
+        out.append("# UNIT testautomation_action_duration_seconds seconds\n");
+        actions.forEach((action, stats) -> {
+            sample(out, "testautomation_action_duration_seconds_count", "action", action, stats.count.sum());
+            sample(out, "testautomation_action_duration_seconds_sum", "action", action, stats.nanos.sum() / 1e9);
+        });
+
+        MemoryUsage heap = ManagementFactory.getMemoryMXBean().getHeapMemoryUsage();
+        header(out, "jvm_memory_heap_bytes", "gauge", "JVM heap memory");
+        out.append("# UNIT jvm_memory_heap_bytes bytes\n");
+        sample(out, "jvm_memory_heap_bytes", "area", "used", heap.getUsed());
+        sample(out, "jvm_memory_heap_bytes", "area", "committed", heap.getCommitted());
+        sample(out, "jvm_memory_heap_bytes", "area", "max", heap.getMax());
+        gauge(out, "process_uptime_seconds", "Time since the metrics registry was loaded", uptimeSeconds);
+
+        supplied.forEach((name, registered) -> {
+            double value;
+            try {
+                value = registered.value.getAsDouble();
+            } catch (RuntimeException e) {
+                return;
+            }
+            if ("counter".equals(registered.type)) {
+                counter(out, name, registered.help, value);
+            } else {
+                gauge(out, name, registered.help, value);
+            }
+        });
+        return out.append("# EOF\n").toString();
+    }
+
+    private static void counter(StringBuilder out, String name, String help, double value) {
+        header(out, name, "counter", help);
+        sample(out, name + "_total", null, null, value);
+    }
+
+    private static void gauge(StringBuilder out, String name, String help, double value) {
+        header(out, name, "gauge", help);
+        sample(out, name, null, null, value);
+    }
+
+    private static void header(StringBuilder out, String name, String type, String help) {
+        out.append("# TYPE ").append(name).append(' ').append(type).append('\n')
+                .append("# HELP ").append(name).append(' ').append(escape(help)).append('\n');
+    }
+
+    private static void sample(StringBuilder out, String name, String label, String labelValue, double value) {
+        out.append(name);
+        if (label != null) {
+            out.append('{').append(label).append("=\"").append(escape(labelValue)).append("\"}");
+        }
+        out.append(' ');
+        if (value == Math.rint(value) && !Double.isInfinite(value)) {
+            out.append((long) value);
+        } else {
+            out.append(value);
+        }
+        out.append('\n');
+    }
+
+    private static String escape(String text) {
+        return text.replace("\\", "\\\\").replace("\"", "\\\"").replace("\n", "\\n");
+    }
+
+    private static class ActionStats {
+        private final LongAdder count = new LongAdder();
+        private final LongAdder nanos = new LongAdder();
+    }
+
+    private static class Supplied {
+        private final String type;
+        private final String help;
+        private final DoubleSupplier value;
+
+        private Supplied(String type, String help, DoubleSupplier value) {
+            this.type = type;
+            this.help = help;
+            this.value = value;
+        }
+    }
+}
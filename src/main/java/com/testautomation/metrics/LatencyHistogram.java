@@ -0,0 +1,101 @@
+package com.testautomation.metrics;
+
+/**
+ * Fixed-size log-linear latency histogram with microsecond resolution.
+ * Values are bucketed into 16 linear sub-buckets per power of two (about 6% relative error),
+ * so recording is an index computation and an array increment with no allocation.
+ * Not thread-safe: each histogram has a single writer and is merged after the writer is done.
+ */
+public class LatencyHistogram {
+    private static final int LINEAR_BUCKETS = 32;
+    private static final int SUB_BUCKETS = 16;
+    private static final int MAX_SHIFT = 36;
+    private static final long MAX_MICROS = (1L << (MAX_SHIFT + 5)) - 1;
+
+    private final long[] counts = new long[LINEAR_BUCKETS + MAX_SHIFT * SUB_BUCKETS];
+    private long count;
+    private long sumMicros;
+    private long minMicros = Long.MAX_VALUE;
+    private long maxMicros;
+
+    public void recordNanos(long nanos) {
+        recordMicros(nanos / 1_000);
+    }
+
+    public void recordMicros(long micros) {
+        long value = Math.min(Math.max(micros, 0), MAX_MICROS);
+        counts[indexOf(value)]++;
+        count++;
+        sumMicros += value;
+        minMicros = Math.min(minMicros, value);
+        maxMicros = Math.max(maxMicros, value);
+    }
+
+    public void merge(LatencyHistogram other) {
+        for (int i = 0; i < counts.length; i++) {
+            counts[i] += other.counts[i];
+        }
+        count += other.count;
+        sumMicros += other.sumMicros;
+        minMicros = Math.min(minMicros, other.minMicros);
+        maxMicros = Math.max(maxMicros, other.maxMicros);
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    public double getMeanMillis() {
+        return count == 0 ? 0 : sumMicros / 1_000.0 / count;
+    }
+
+    public double getMinMillis() {
+        return count == 0 ? 0 : minMicros / 1_000.0;
+    }
+
+    public double getMaxMillis() {
+        return maxMicros / 1_000.0;
+    }
+
+    public double getTotalMillis() {
+        return sumMicros / 1_000.0;
+    }
+
+    /**
+     * @param percentile value between 0 and 100
+     */
+    public double getPercentileMillis(double percentile) {
+        if (count == 0) {
+            return 0;
+        }
+        long rank = Math.max(1, (long) Math.ceil(percentile / 100.0 * count));
+        long seen = 0;
+        for (int i = 0; i < counts.length; i++) {
+            seen += counts[i];
+            if (seen >= rank) {
+                return Math.min(valueAt(i), maxMicros) / 1_000.0;
+            }
+        }
+        return getMaxMillis();
+    }
+
+    private static int indexOf(long micros) {
+        if (micros < LINEAR_BUCKETS) {
+            return (int) micros;
+        }
+        int shift = (63 - Long.numberOfLeadingZeros(micros)) - 4;
+        int top = (int) (micros >>> shift);
+        return LINEAR_BUCKETS + (shift - 1) * SUB_BUCKETS + (top - SUB_BUCKETS);
+    }
+
+    private static long valueAt(int index) {
+        if (index < LINEAR_BUCKETS) {
+            return index;
+        }
+        int shift = (index - LINEAR_BUCKETS) / SUB_BUCKETS + 1;
+        long top = (index - LINEAR_BUCKETS) % SUB_BUCKETS + SUB_BUCKETS;
+        long lower = top << shift;
+        long upper = ((top + 1) << shift) - 1;
+        return (lower + upper) / 2;
+    }
+}
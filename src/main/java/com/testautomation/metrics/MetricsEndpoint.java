@@ -0,0 +1,122 @@
+package com.testautomation.metrics;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import com.testautomation.config.ConfigManager;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Optional live view of {@link FrameworkMetrics} for long-running suites: an OpenMetrics endpoint on
+ * localhost ({@code http://127.0.0.1:<metrics.endpoint.port>/metrics}) plus periodic text snapshots under
+ * {@code metrics.dir}/openmetrics/. Off unless {@code metrics.endpoint.enabled=true}.
+ */
+public class MetricsEndpoint {
+    private static final Logger logger = LogManager.getLogger(MetricsEndpoint.class);
+    private static final String CONTENT_TYPE = "application/openmetrics-text; version=1.0.0; charset=utf-8";
+    private static final DateTimeFormatter SNAPSHOT_NAME = DateTimeFormatter.ofPattern("yyyyMMdd_HHmmss");
+
+    private static HttpServer server;
+    private static ScheduledExecutorService snapshotScheduler;
+
+    public static synchronized void start() {
+        if (server != null || snapshotScheduler != null
+                || !ConfigManager.getBooleanProperty("metrics.endpoint.enabled", false)) {
+            return;
+        }
+        int port = ConfigManager.getIntProperty("metrics.endpoint.port", 9464);
+        try {
+            server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), 0);
+            server.createContext("/metrics", MetricsEndpoint::handle);
+            server.setExecutor(Executors.newSingleThreadExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "metrics-endpoint");
+                thread.setDaemon(true);
+                return thread;
+            }));
+            server.start();
+            logger.info("Metrics endpoint listening on http://127.0.0.1:{}/metrics", server.getAddress().getPort());
+        } catch (IOException e) {
+            server = null;
+            logger.warn("Could not start metrics endpoint on port {}; continuing with snapshots only", port, e);
+        }
+
+        long intervalMs = ConfigManager.getIntProperty("metrics.snapshot.interval.ms", 60000);
+        if (intervalMs > 0) {
+            snapshotScheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "metrics-snapshot");
+                thread.setDaemon(true);
+                return thread;
+            });
+            snapshotScheduler.scheduleWithFixedDelay(MetricsEndpoint::writeSnapshot,
+                    intervalMs, intervalMs, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * Writes a last snapshot and shuts the endpoint down.
+     */
+    public static synchronized void stop() {
+        if (snapshotScheduler != null) {
+            snapshotScheduler.shutdownNow();
+            snapshotScheduler = null;
+            writeSnapshot();
+        }
+        if (server != null) {
+            server.stop(0);
+            server = null;
+        }
+    }
+
+    /**
+     * @return the bound port, or -1 when the endpoint is not running
+     */
+    public static synchronized int getPort() {
+        return server != null ? server.getAddress().getPort() : -1;
+    }
+
+    private static void handle(HttpExchange exchange) throws IOException {
+        try {
+            if (!"GET".equals(exchange.getRequestMethod())) {
+                exchange.sendResponseHeaders(405, -1);
+                return;
+            }
+            byte[] body = FrameworkMetrics.render().getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().set("Content-Type", CONTENT_TYPE);
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        } finally {
+            exchange.close();
+        }
+    }
+
+    private static void writeSnapshot() {
+        try {
+            Path dir = Files.createDirectories(
+                    Paths.get(ConfigManager.getProperty("metrics.dir", "test-output/metrics/"), "openmetrics"));
+            Path snapshot = dir.resolve("openmetrics-" + LocalDateTime.now().format(SNAPSHOT_NAME) + ".txt");
+            Path latest = dir.resolve("latest.txt");
+            Files.write(snapshot, FrameworkMetrics.render().getBytes(StandardCharsets.UTF_8));
+            Files.copy(snapshot, latest, StandardCopyOption.REPLACE_EXISTING);
+            logger.debug("Metrics snapshot written: {}", snapshot);
+        } catch (IOException e) {
+            logger.warn("Failed to write metrics snapshot", e);
+        }
+    }
+}
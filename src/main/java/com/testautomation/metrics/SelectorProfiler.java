@@ -0,0 +1,259 @@
+package com.testautomation.metrics;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.microsoft.playwright.Page;
+import com.microsoft.playwright.PlaywrightException;
+import com.testautomation.config.ConfigManager;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * Selector profiling mode ({@code selector.profiling.enabled}): every selector a page object resolves through
+ * BasePage is probed in the page first, measuring how long the browser takes to evaluate it (the mean of
+ * {@code selector.profiling.repeat} {@code querySelectorAll} runs) and how many elements it matches.
+ * Selectors that are not plain CSS ({@code text=}, {@code >>}, ...) are timed as a {@code count()}
+ * round-trip instead, which includes driver overhead.
+ * <p>
+ * A call where the selector matched nothing yet counts as a retry: Playwright had to keep polling for it.
+ * Probing adds a round-trip per call, so action latencies from profiled runs are not representative.
+ */
+public class SelectorProfiler {
+    private static final Logger logger = LogManager.getLogger(SelectorProfiler.class);
+    private static final boolean ENABLED = ConfigManager.getBooleanProperty("selector.profiling.enabled", false);
+    private static final String PROBE_SCRIPT = "([selectors, repeat]) => selectors.map(selector => {"
+            + " try { document.querySelectorAll(selector); } catch (e) { return null; }"
+            + " let matches = 0; const start = performance.now();"
+            + " for (let i = 0; i < repeat; i++) { matches = document.querySelectorAll(selector).length; }"
+            + " return [(performance.now() - start) / repeat, matches];"
+            + " })";
+    private static final Map<String, Stats> stats = new ConcurrentHashMap<>();
+
+    public static boolean isEnabled() {
+        return ENABLED;
+    }
+
+    /**
+     * Measures {@code selectors} on {@code page} in one round-trip and records them under {@code pageClass}.
+     * Never fails the caller: a page in the middle of navigating is simply not sampled.
+     */
+    public static void probe(Page page, String pageClass, String... selectors) {
+        if (!ENABLED || page == null || selectors.length == 0) {
+            return;
+        }
+        try {
+            int repeat = Math.max(1, ConfigManager.getIntProperty("selector.profiling.repeat", 5));
+            Object result = page.evaluate(PROBE_SCRIPT, Arrays.asList(Arrays.asList(selectors), repeat));
+            List<?> samples = result instanceof List ? (List<?>) result : new ArrayList<>();
+            for (int i = 0; i < selectors.length; i++) {
+                Object sample = i < samples.size() ? samples.get(i) : null;
+                if (sample instanceof List && ((List<?>) sample).size() == 2) {
+                    List<?> values = (List<?>) sample;
+                    record(pageClass, selectors[i], "css", ((Number) values.get(0)).doubleValue(),
+                            ((Number) values.get(1)).intValue());
+                } else {
+                    long start = System.nanoTime();
+                    int matches = page.locator(selectors[i]).count();
+                    record(pageClass, selectors[i], "playwright", (System.nanoTime() - start) / 1_000_000.0, matches);
+                }
+            }
+        } catch (PlaywrightException e) {
+            logger.debug("Selector probe skipped for {}: {}", pageClass, e.getMessage());
+        }
+    }
+
+    static void record(String pageClass, String selector, String engine, double resolveMs, int matches) {
+        stats.computeIfAbsent(pageClass + "\u0000" + selector, k -> new Stats(pageClass, selector, engine))
+                .add(resolveMs, matches);
+    }
+
+    public static List<Stats> getStats() {
+        return stats.values().stream().map(Stats::copy)
+                .sorted(Comparator.comparing(Stats::getPageClass).thenComparing(Stats::getSelector))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * @return per page class: total resolution ms, calls, retries and the most ambiguous match count, the
+     *         costliest page class first
+     */
+    public static Map<String, double[]> getPageTotals() {
+        Map<String, double[]> totals = new TreeMap<>();
+        for (Stats entry : getStats()) {
+            double[] total = totals.computeIfAbsent(entry.getPageClass(), k -> new double[4]);
+            total[0] += entry.getTotalMs();
+            total[1] += entry.getCalls();
+            total[2] += entry.getRetries();
+            total[3] = Math.max(total[3], entry.getMaxMatches());
+        }
+        return totals.entrySet().stream()
+                .sorted((a, b) -> Double.compare(b.getValue()[0], a.getValue()[0]))
+                .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue, (a, b) -> a, LinkedHashMap::new));
+    }
+
+    public static List<Stats> slowest(int limit) {
+        return getStats().stream().sorted(Comparator.comparingDouble(Stats::getMeanMs).reversed())
+                .limit(limit).collect(Collectors.toList());
+    }
+
+    public static List<Stats> mostAmbiguous(int limit) {
+        return getStats().stream().filter(entry -> entry.getMaxMatches() > 1)
+                .sorted(Comparator.comparingInt(Stats::getMaxMatches).reversed()).limit(limit).collect(Collectors.toList());
+    }
+
+    public static List<Stats> mostRetried(int limit) {
+        return getStats().stream().filter(entry -> entry.getRetries() > 0)
+                .sorted(Comparator.comparingLong(Stats::getRetries).reversed()).limit(limit).collect(Collectors.toList());
+    }
+
+    /**
+     * Writes {@code selector-profile.json} and {@code selector-profile.csv} to {@code metrics.dir}.
+     */
+    public static void export() {
+        List<Stats> all = getStats();
+        if (all.isEmpty()) {
+            return;
+        }
+        Path metricsDir = Paths.get(ConfigManager.getProperty("metrics.dir", "test-output/metrics/"));
+        try {
+            Files.createDirectories(metricsDir);
+            Map<String, Object> json = new LinkedHashMap<>();
+            json.put("buildId", ConfigManager.getBuildId());
+            json.put("selectors", all.stream().map(Stats::toMap).collect(Collectors.toList()));
+            new ObjectMapper().writer(SerializationFeature.INDENT_OUTPUT)
+                    .writeValue(metricsDir.resolve("selector-profile.json").toFile(), json);
+            try (Writer csv = Files.newBufferedWriter(metricsDir.resolve("selector-profile.csv"), StandardCharsets.UTF_8)) {
+                csv.write("page,selector,engine,calls,mean_ms,max_ms,total_ms,max_matches,ambiguous_calls,retries\n");
+                for (Stats entry : all) {
+                    csv.write(String.join(",", entry.getPageClass(), "\"" + entry.getSelector().replace("\"", "\"\"") + "\"",
+                            entry.getEngine(), Long.toString(entry.getCalls()),
+                            String.format(Locale.ENGLISH, "%.3f", entry.getMeanMs()),
+                            String.format(Locale.ENGLISH, "%.3f", entry.getMaxMs()),
+                            String.format(Locale.ENGLISH, "%.3f", entry.getTotalMs()),
+                            Integer.toString(entry.getMaxMatches()), Long.toString(entry.getAmbiguousCalls()),
+                            Long.toString(entry.getRetries())));
+                    csv.write('\n');
+                }
+            }
+            logger.info("Selector profile written to {}", metricsDir.resolve("selector-profile.json").toAbsolutePath());
+        } catch (IOException e) {
+            logger.error("Failed to export selector profile", e);
+        }
+    }
+
+    public static class Stats {
+        private final String pageClass;
+        private final String selector;
+        private final String engine;
+        private long calls;
+        private double totalMs;
+        private double maxMs;
+        private int maxMatches;
+        private long ambiguousCalls;
+        private long retries;
+
+        private Stats(String pageClass, String selector, String engine) {
+            this.pageClass = pageClass;
+            this.selector = selector;
+            this.engine = engine;
+        }
+
+        private synchronized void add(double resolveMs, int matches) {
+            calls++;
+            totalMs += resolveMs;
+            maxMs = Math.max(maxMs, resolveMs);
+            maxMatches = Math.max(maxMatches, matches);
+            if (matches > 1) {
+                ambiguousCalls++;
+            } else if (matches == 0) {
+                retries++;
+            }
+        }
+
+        private synchronized Stats copy() {
+            Stats copy = new Stats(pageClass, selector, engine);
+            copy.calls = calls;
+            copy.totalMs = totalMs;
+            copy.maxMs = maxMs;
+            copy.maxMatches = maxMatches;
+            copy.ambiguousCalls = ambiguousCalls;
+            copy.retries = retries;
+            return copy;
+        }
+
+        public String getPageClass() {
+            return pageClass;
+        }
+
+        public String getSelector() {
+            return selector;
+        }
+
+        /**
+         * @return {@code css} (timed in the page) or {@code playwright} (timed as a driver round-trip)
+         */
+        public String getEngine() {
+            return engine;
+        }
+
+        public long getCalls() {
+            return calls;
+        }
+
+        public double getMeanMs() {
+            return calls == 0 ? 0 : totalMs / calls;
+        }
+
+        public double getMaxMs() {
+            return maxMs;
+        }
+
+        public double getTotalMs() {
+            return totalMs;
+        }
+
+        public int getMaxMatches() {
+            return maxMatches;
+        }
+
+        public long getAmbiguousCalls() {
+            return ambiguousCalls;
+        }
+
+        public long getRetries() {
+            return retries;
+        }
+
+        private Map<String, Object> toMap() {
+            Map<String, Object> map = new LinkedHashMap<>();
+            map.put("page", pageClass);
+            map.put("selector", selector);
+            map.put("engine", engine);
+            map.put("calls", calls);
+            map.put("meanMs", getMeanMs());
+            map.put("maxMs", maxMs);
+            map.put("totalMs", totalMs);
+            map.put("maxMatches", maxMatches);
+            map.put("ambiguousCalls", ambiguousCalls);
+            map.put("retries", retries);
+            return map;
+        }
+    }
+}
@@ -0,0 +1,236 @@
+package com.testautomation.metrics;
+
+import com.testautomation.config.ConfigManager;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+/**
+ * Records a per-test timeline of framework actions.
+ * <p>
+ * Every page-object action opens a step. Steps opened while another action is running nest under it;
+ * top-level actions are grouped under the call-stack frames matched by the caller's group filter
+ * (e.g. {@code LoginPage.login > LoginPage.enterEmail > fill}), so page-object methods are timed without
+ * any changes to the page classes. Consecutive calls of the same page-object method with no other
+ * page-object call in between are merged into one group.
+ * <p>
+ * Opt-in with {@code report.step.timing}, since grouping walks the stack on every top-level action;
+ * {@code perf.budget.enabled} switches it on as well because duration budgets are measured on the timeline.
+ */
+public class StepTracker {
+    private static final boolean ENABLED = ConfigManager.getBooleanProperty("report.step.timing", false)
+            || ConfigManager.getBooleanProperty("perf.budget.enabled", false);
+    private static final int MAX_STEPS = ConfigManager.getIntProperty("report.step.timing.max.steps", 2000);
+    private static final StackWalker STACK_WALKER = StackWalker.getInstance(StackWalker.Option.RETAIN_CLASS_REFERENCE);
+    private static final ThreadLocal<Timeline> timeline = new ThreadLocal<>();
+
+    public static void startTest(String testName) {
+        if (ENABLED) {
+            timeline.set(new Timeline(testName));
+        }
+    }
+
+    /**
+     * Detaches and returns the current test's timeline, closing any groups still open.
+     */
+    public static Timeline finishTest() {
+        Timeline current = timeline.get();
+        timeline.remove();
+        if (current != null) {
+            current.close(System.nanoTime());
+        }
+        return current;
+    }
+
+    /**
+     * The running test's timeline, or null. Steps that have finished have their final end time.
+     */
+    public static Timeline current() {
+        return timeline.get();
+    }
+
+    public static Step begin(String category, String name, String detail) {
+        return begin(category, name, detail, null);
+    }
+
+    /**
+     * Opens a step; a top-level step is grouped under the stack frames {@code groupFrames} accepts
+     * (outermost first), or under the test itself when it is null.
+     */
+    public static Step begin(String category, String name, String detail, Predicate<StackWalker.StackFrame> groupFrames) {
+        Timeline current = timeline.get();
+        if (current == null || current.stepCount >= MAX_STEPS) {
+            return null;
+        }
+        long now = System.nanoTime();
+        Step parent = current.openActions.peek();
+        if (parent == null) {
+            parent = current.alignGroups(groupFrames != null ? callerFrames(groupFrames)
+                    : Collections.emptyList(), now);
+        }
+        Step step = new Step(category, name, detail, now);
+        parent.children.add(step);
+        current.openActions.push(step);
+        current.stepCount++;
+        return step;
+    }
+
+    public static void end(Step step) {
+        Timeline current = timeline.get();
+        if (step == null || current == null) {
+            return;
+        }
+        long now = System.nanoTime();
+        step.endNanos = now;
+        current.openActions.remove(step);
+        for (Step group : current.openGroups) {
+            group.endNanos = now;
+        }
+    }
+
+    private static List<String> callerFrames(Predicate<StackWalker.StackFrame> groupFrames) {
+        List<String> frames = STACK_WALKER.walk(stream -> stream
+                .filter(groupFrames)
+                .map(frame -> frame.getDeclaringClass().getSimpleName() + "." + frame.getMethodName())
+                .collect(Collectors.toList()));
+        Collections.reverse(frames);
+        return frames;
+    }
+
+    public static class Step {
+        private final String category;
+        private final String name;
+        private final String detail;
+        private final long startNanos;
+        private long endNanos;
+        private final List<Step> children = new ArrayList<>();
+
+        private Step(String category, String name, String detail, long startNanos) {
+            this.category = category;
+            this.name = name;
+            this.detail = detail;
+            this.startNanos = startNanos;
+            this.endNanos = startNanos;
+        }
+
+        public String getCategory() {
+            return category;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public String getDetail() {
+            return detail;
+        }
+
+        public long getStartNanos() {
+            return startNanos;
+        }
+
+        public long getEndNanos() {
+            return endNanos;
+        }
+
+        public long getDurationNanos() {
+            return endNanos - startNanos;
+        }
+
+        public List<Step> getChildren() {
+            return children;
+        }
+
+        public boolean isGroup() {
+            return "page".equals(category);
+        }
+
+        long getExclusiveNanos() {
+            long childNanos = 0;
+            for (Step child : children) {
+                childNanos += child.getDurationNanos();
+            }
+            return Math.max(0, getDurationNanos() - childNanos);
+        }
+    }
+
+    public static class Timeline {
+        private final Step root;
+        private final Deque<Step> openActions = new ArrayDeque<>();
+        private final List<Step> openGroups = new ArrayList<>();
+        private final List<String> openGroupNames = new ArrayList<>();
+        private int stepCount;
+
+        private Timeline(String testName) {
+            this.root = new Step("test", testName, null, System.nanoTime());
+        }
+
+        public Step getRoot() {
+            return root;
+        }
+
+        /**
+         * Keeps the open page-object groups in line with the frames of the action being started and
+         * returns the group the action belongs under.
+         */
+        private Step alignGroups(List<String> frames, long now) {
+            int common = 0;
+            while (common < frames.size() && common < openGroupNames.size()
+                    && frames.get(common).equals(openGroupNames.get(common))) {
+                common++;
+            }
+            while (openGroups.size() > common) {
+                openGroups.remove(openGroups.size() - 1);
+                openGroupNames.remove(openGroupNames.size() - 1);
+            }
+            Step parent = openGroups.isEmpty() ? root : openGroups.get(openGroups.size() - 1);
+            for (int i = common; i < frames.size(); i++) {
+                Step group = new Step("page", frames.get(i), null, now);
+                parent.children.add(group);
+                openGroups.add(group);
+                openGroupNames.add(frames.get(i));
+                parent = group;
+            }
+            return parent;
+        }
+
+        private void close(long now) {
+            root.endNanos = now;
+            openGroups.clear();
+            openGroupNames.clear();
+            openActions.clear();
+        }
+
+        /**
+         * Wall-clock time per action category, counting each nanosecond once (exclusive time).
+         * Time not covered by any framework action is reported as "untracked".
+         */
+        public Map<String, Long> timeByCategory() {
+            Map<String, Long> totals = new LinkedHashMap<>();
+            long tracked = accumulate(root.children, totals);
+            totals.put("untracked", Math.max(0, root.getDurationNanos() - tracked));
+            return totals;
+        }
+
+        private static long accumulate(List<Step> steps, Map<String, Long> totals) {
+            long covered = 0;
+            for (Step step : steps) {
+                if (step.isGroup()) {
+                    covered += accumulate(step.children, totals);
+                } else {
+                    totals.merge(step.category, step.getExclusiveNanos(), Long::sum);
+                    accumulate(step.children, totals);
+                    covered += step.getDurationNanos();
+                }
+            }
+            return covered;
+        }
+    }
+}
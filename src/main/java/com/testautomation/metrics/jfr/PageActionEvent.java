@@ -0,0 +1,31 @@
+package com.testautomation.metrics.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("com.testautomation.PageAction")
+@Label("Page Action")
+@Description("A BasePage action such as click, fill or waitForSelector")
+@Category({"Test Automation", "Page Actions"})
+@Enabled(false)
+@StackTrace(false)
+public class PageActionEvent extends jdk.jfr.Event {
+    @Label("Page Class")
+    private final String pageClass;
+
+    @Label("Action")
+    private final String action;
+
+    @Label("Selector")
+    private final String selector;
+
+    public PageActionEvent(String pageClass, String action, String selector) {
+        this.pageClass = pageClass;
+        this.action = action;
+        this.selector = selector;
+    }
+}
@@ -0,0 +1,30 @@
+package com.testautomation.metrics.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("com.testautomation.PlaywrightLifecycle")
+@Label("Playwright Lifecycle")
+@Description("PlaywrightManager setting up or tearing down a thread's playwright, browser, context and page")
+@Category({"Test Automation", "Lifecycle"})
+@Enabled(false)
+@StackTrace(false)
+public class PlaywrightLifecycleEvent extends jdk.jfr.Event {
+    @Label("Phase")
+    private final String phase;
+
+    @Label("Browser")
+    private String browser;
+
+    public PlaywrightLifecycleEvent(String phase) {
+        this.phase = phase;
+    }
+
+    public void setBrowser(String browser) {
+        this.browser = browser;
+    }
+}
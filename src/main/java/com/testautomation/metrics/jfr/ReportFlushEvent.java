@@ -0,0 +1,28 @@
+package com.testautomation.metrics.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("com.testautomation.ReportFlush")
+@Label("Report Flush")
+@Description("Rendering or persisting the test report")
+@Category({"Test Automation", "Reporting"})
+@Enabled(false)
+@StackTrace(false)
+public class ReportFlushEvent extends jdk.jfr.Event {
+    @Label("Backend")
+    private final String backend;
+
+    @Label("Final")
+    @Description("True for the end-of-run flush (and merge, for the event-log backend)")
+    private final boolean finalFlush;
+
+    public ReportFlushEvent(String backend, boolean finalFlush) {
+        this.backend = backend;
+        this.finalFlush = finalFlush;
+    }
+}
@@ -0,0 +1,27 @@
+package com.testautomation.metrics.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("com.testautomation.RetrySleep")
+@Label("Retry Sleep")
+@Description("Delay before RetryAnalyzer re-runs a failed test")
+@Category({"Test Automation", "Lifecycle"})
+@Enabled(false)
+@StackTrace(false)
+public class RetrySleepEvent extends jdk.jfr.Event {
+    @Label("Test")
+    private final String test;
+
+    @Label("Attempt")
+    private final int attempt;
+
+    public RetrySleepEvent(String test, int attempt) {
+        this.test = test;
+        this.attempt = attempt;
+    }
+}
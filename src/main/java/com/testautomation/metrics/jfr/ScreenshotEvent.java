@@ -0,0 +1,49 @@
+package com.testautomation.metrics.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Percentage;
+import jdk.jfr.StackTrace;
+
+@Name("com.testautomation.Screenshot")
+@Label("Screenshot")
+@Description("Screenshot capture or baseline comparison")
+@Category({"Test Automation", "Screenshots"})
+@Enabled(false)
+@StackTrace(false)
+public class ScreenshotEvent extends jdk.jfr.Event {
+    public static final String CAPTURE = "capture";
+    public static final String COMPARE = "compare";
+
+    @Label("Operation")
+    private final String operation;
+
+    @Label("Name")
+    @Description("Screenshot file name for captures, baseline key for comparisons")
+    private final String name;
+
+    @Label("Size")
+    @DataAmount
+    private long bytes;
+
+    @Label("Diff Ratio")
+    @Percentage
+    private double diffRatio = Double.NaN;
+
+    public ScreenshotEvent(String operation, String name) {
+        this.operation = operation;
+        this.name = name;
+    }
+
+    public void setBytes(long bytes) {
+        this.bytes = bytes;
+    }
+
+    public void setDiffRatio(double diffRatio) {
+        this.diffRatio = diffRatio;
+    }
+}
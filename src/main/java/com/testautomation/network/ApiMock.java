@@ -0,0 +1,188 @@
+package com.testautomation.network;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+ * One entry of the API mock file: requests with {@code method} whose URL path matches {@code path} (a literal
+ * path, or a pattern where {@code *} matches within one segment and {@code **} across segments) and, when set,
+ * whose body contains {@code bodyContains} are answered with {@code status}, {@code headers} and either
+ * {@code json} or {@code body}, after {@code latencyMs}.
+ * {@code tests} limits the mock to {@code TestClass.method} patterns; {@code *} matches any part. Such
+ * per-test mocks win over unscoped ones for the same request.
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class ApiMock {
+    private String name;
+    private List<String> tests;
+    private String method = "GET";
+    private String path;
+    private String bodyContains;
+    private int status = 200;
+    private Map<String, String> headers = Collections.emptyMap();
+    private JsonNode json;
+    private String body;
+    private String contentType;
+    private Long latencyMs;
+
+    public static ApiMock of(String method, String path, int status, String body) {
+        ApiMock mock = new ApiMock();
+        mock.setMethod(method);
+        mock.setPath(path);
+        mock.setStatus(status);
+        mock.setBody(body);
+        return mock;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public List<String> getTests() {
+        return tests;
+    }
+
+    public void setTests(List<String> tests) {
+        this.tests = tests;
+    }
+
+    public String getMethod() {
+        return method;
+    }
+
+    public void setMethod(String method) {
+        this.method = method.toUpperCase(Locale.ENGLISH);
+    }
+
+    public String getPath() {
+        return path;
+    }
+
+    public void setPath(String path) {
+        this.path = path;
+    }
+
+    public String getBodyContains() {
+        return bodyContains;
+    }
+
+    public void setBodyContains(String bodyContains) {
+        this.bodyContains = bodyContains;
+    }
+
+    public int getStatus() {
+        return status;
+    }
+
+    public void setStatus(int status) {
+        this.status = status;
+    }
+
+    public Map<String, String> getHeaders() {
+        return headers;
+    }
+
+    public void setHeaders(Map<String, String> headers) {
+        this.headers = headers;
+    }
+
+    public JsonNode getJson() {
+        return json;
+    }
+
+    public void setJson(JsonNode json) {
+        this.json = json;
+    }
+
+    public String getBody() {
+        return body;
+    }
+
+    public void setBody(String body) {
+        this.body = body;
+    }
+
+    public String getContentType() {
+        if (contentType != null) {
+            return contentType;
+        }
+        return json != null ? "application/json" : "text/plain; charset=utf-8";
+    }
+
+    public void setContentType(String contentType) {
+        this.contentType = contentType;
+    }
+
+    /**
+     * @return the mock's own latency, or null to use {@code api.mocks.latency.ms}
+     */
+    public Long getLatencyMs() {
+        return latencyMs;
+    }
+
+    public void setLatencyMs(Long latencyMs) {
+        this.latencyMs = latencyMs;
+    }
+
+    /**
+     * Chains a latency onto {@link #of}, e.g. to simulate a slow backend in one test.
+     */
+    public ApiMock withLatency(long latencyMs) {
+        this.latencyMs = latencyMs;
+        return this;
+    }
+
+    public boolean isScoped() {
+        return tests != null && !tests.isEmpty();
+    }
+
+    public boolean appliesTo(String testKey) {
+        if (!isScoped()) {
+            return true;
+        }
+        if (testKey == null) {
+            return false;
+        }
+        for (String pattern : tests) {
+            String regex = ("\\Q" + pattern + "\\E").replace("*", "\\E.*\\Q");
+            if (testKey.matches(regex)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    boolean isPattern() {
+        return path.contains("*");
+    }
+
+    Pattern toPattern() {
+        String regex = ("\\Q" + path.replace("**", "\u0000") + "\\E").replace("*", "\\E[^/]*\\Q")
+                .replace("\u0000", "\\E.*\\Q");
+        return Pattern.compile(regex);
+    }
+
+    boolean matchesBody(String requestBody) {
+        return bodyContains == null || (requestBody != null && requestBody.contains(bodyContains));
+    }
+
+    byte[] responseBody() {
+        String text = json != null ? json.toString() : body;
+        return text != null ? text.getBytes(StandardCharsets.UTF_8) : new byte[0];
+    }
+
+    String describe() {
+        return name != null ? name : method + " " + path;
+    }
+}
@@ -0,0 +1,71 @@
+package com.testautomation.network;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+ * Mocks indexed by method and path once at load: literal paths by exact {@code METHOD path} key, patterns
+ * per method. A lookup only looks at those two buckets; scoped (per-test) mocks come first, then file order.
+ */
+public class ApiMockIndex {
+    private final Map<String, List<Candidate>> exact = new HashMap<>();
+    private final Map<String, List<Candidate>> patterns = new HashMap<>();
+    private final int size;
+
+    public ApiMockIndex(List<ApiMock> mocks) {
+        for (int i = 0; i < mocks.size(); i++) {
+            ApiMock mock = mocks.get(i);
+            if (mock.getPath() == null) {
+                throw new IllegalArgumentException("API mock '" + mock.describe() + "' needs a 'path'");
+            }
+            Candidate candidate = new Candidate(mock, i, mock.isPattern() ? mock.toPattern() : null);
+            if (candidate.pattern != null) {
+                patterns.computeIfAbsent(mock.getMethod(), k -> new ArrayList<>()).add(candidate);
+            } else {
+                exact.computeIfAbsent(mock.getMethod() + " " + mock.getPath(), k -> new ArrayList<>()).add(candidate);
+            }
+        }
+        this.size = mocks.size();
+    }
+
+    /**
+     * @return the mock answering the request in {@code testKey} (may be null outside a test), or null
+     */
+    public ApiMock find(String testKey, String method, String path, String body) {
+        List<Candidate> candidates = new ArrayList<>(exact.getOrDefault(method + " " + path, Collections.emptyList()));
+        for (Candidate candidate : patterns.getOrDefault(method, Collections.emptyList())) {
+            if (candidate.pattern.matcher(path).matches()) {
+                candidates.add(candidate);
+            }
+        }
+        candidates.sort(Comparator.comparing((Candidate candidate) -> !candidate.mock.isScoped())
+                .thenComparingInt(candidate -> candidate.order));
+        for (Candidate candidate : candidates) {
+            if (candidate.mock.appliesTo(testKey) && candidate.mock.matchesBody(body)) {
+                return candidate.mock;
+            }
+        }
+        return null;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    private static class Candidate {
+        private final ApiMock mock;
+        private final int order;
+        private final Pattern pattern;
+
+        private Candidate(ApiMock mock, int order, Pattern pattern) {
+            this.mock = mock;
+            this.order = order;
+            this.pattern = pattern;
+        }
+    }
+}
@@ -0,0 +1,201 @@
+package com.testautomation.network;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.microsoft.playwright.BrowserContext;
+import com.microsoft.playwright.Request;
+import com.microsoft.playwright.Route;
+import com.testautomation.config.ConfigManager;
+import com.testautomation.server.AppServer;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+ * Answers backend calls from declared fixtures instead of the network. Opt-in with
+ * {@code api.mocks.enabled}; fixtures are read once from {@code api.mocks.file} (classpath first, then file
+ * system, next to {@code testdata.json} by default) into an {@link ApiMockIndex}.
+ * <p>
+ * Only http(s) requests matching {@code api.mocks.url.pattern} are intercepted. Lookup order for a request:
+ * overrides added by the running test with {@link #override(ApiMock)}, mocks scoped to the test in the file,
+ * then the file's unscoped mocks. Unmatched requests fall through to the next route handler (HAR replay) or
+ * the network. Every answer is delayed by the mock's {@code latencyMs}, else {@code api.mocks.latency.ms}, so
+ * both fast and slow backends can be tested.
+ * <p>
+ * Route handlers run on the thread driving the browser, so a delayed answer is parked on the {@link AppServer}
+ * and the request resumed to it: the delay elapses on the server's threads and concurrent slow calls overlap.
+ * Without a running app server, or for https requests (a resumed URL must keep its protocol), the handler
+ * sleeps instead, which holds back every other event of that browser until it returns.
+ */
+public class ApiMocks {
+    private static final Logger logger = LogManager.getLogger(ApiMocks.class);
+    private static final ObjectMapper objectMapper = new ObjectMapper();
+    private static final ThreadLocal<Session> current = new ThreadLocal<>();
+    private static ApiMockIndex index;
+
+    public static boolean isEnabled() {
+        return ConfigManager.getBooleanProperty("api.mocks.enabled", false);
+    }
+
+    public static synchronized ApiMockIndex getIndex() {
+        if (index == null) {
+            index = new ApiMockIndex(load());
+        }
+        return index;
+    }
+
+    /**
+     * Routes the context's API calls through the mocks; the context becomes the calling thread's session.
+     */
+    public static void install(BrowserContext context) {
+        if (!isEnabled()) {
+            return;
+        }
+        ApiMockIndex mocks = getIndex();
+        Session session = new Session();
+        current.set(session);
+        Pattern filter = Pattern.compile(ConfigManager.getProperty("api.mocks.url.pattern", ".*/api/.*"));
+        context.route(url -> url.startsWith("http") && filter.matcher(url).matches(),
+                route -> answer(session, mocks, route));
+    }
+
+    private static void answer(Session session, ApiMockIndex mocks, Route route) {
+        Request request = route.request();
+        String path = URI.create(request.url()).getPath();
+        String body = request.postDataBuffer() != null
+                ? new String(request.postDataBuffer(), StandardCharsets.UTF_8) : null;
+        ApiMock mock = session.findOverride(request.method(), path, body);
+        if (mock == null) {
+            mock = mocks.find(session.testKey, request.method(), path, body);
+        }
+        if (mock == null) {
+            logger.debug("No API mock for {} {}", request.method(), path);
+            route.fallback();
+            return;
+        }
+        long latencyMs = mock.getLatencyMs() != null ? mock.getLatencyMs()
+                : ConfigManager.getIntProperty("api.mocks.latency.ms", 0);
+        Map<String, String> headers = new LinkedHashMap<>(mock.getHeaders());
+        headers.putIfAbsent("Content-Type", mock.getContentType());
+        String delayedUrl = latencyMs > 0 && request.url().startsWith("http:")
+                ? AppServer.delayedResponseUrl(mock.getStatus(), headers, mock.responseBody(), latencyMs) : null;
+        if (delayedUrl != null) {
+            route.resume(new Route.ResumeOptions().setUrl(delayedUrl));
+        } else {
+            if (latencyMs > 0) {
+                try {
+                    Thread.sleep(latencyMs);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            route.fulfill(new Route.FulfillOptions().setStatus(mock.getStatus()).setHeaders(headers)
+                    .setBodyBytes(mock.responseBody()));
+        }
+        session.served++;
+        session.latencyMs += latencyMs;
+        logger.debug("Mocked {} {} with '{}' ({} ms)", request.method(), path, mock.describe(), latencyMs);
+    }
+
+    public static void startTest(String testKey) {
+        Session session = current.get();
+        if (session != null) {
+            session.testKey = testKey;
+            session.overrides.clear();
+            session.served = 0;
+            session.latencyMs = 0;
+        }
+    }
+
+    /**
+     * Answers matching requests with {@code mock} for the rest of the running test, ahead of the file's mocks.
+     */
+    public static void override(ApiMock mock) {
+        Session session = current.get();
+        if (session == null) {
+            throw new IllegalStateException("API mocks are not installed on this thread; set api.mocks.enabled=true");
+        }
+        if (mock.getPath() == null) {
+            throw new IllegalArgumentException("API mock override needs a path");
+        }
+        session.overrides.add(0, mock);
+    }
+
+    /**
+     * Drops the test's overrides.
+     *
+     * @return {requests answered, total injected latency in ms} for the test, or null when mocks are off
+     */
+    public static long[] finishTest() {
+        Session session = current.get();
+        if (session == null) {
+            return null;
+        }
+        long[] result = {session.served, session.latencyMs};
+        session.testKey = null;
+        session.overrides.clear();
+        return result;
+    }
+
+    private static List<ApiMock> load() {
+        String location = ConfigManager.getProperty("api.mocks.file", "api-mocks.json");
+        try (InputStream input = open(location)) {
+            if (input == null) {
+                logger.warn("No API mock file found at {}; no requests will be mocked", location);
+                return Collections.emptyList();
+            }
+            List<ApiMock> mocks = objectMapper.convertValue(objectMapper.readTree(input).path("mocks"),
+                    new TypeReference<List<ApiMock>>() {
+                    });
+            if (mocks == null) {
+                return Collections.emptyList();
+            }
+            logger.info("Loaded {} API mock(s) from {}", mocks.size(), location);
+            return mocks;
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to load API mocks from " + location, e);
+        }
+    }
+
+    private static InputStream open(String location) throws IOException {
+        InputStream resource = ApiMocks.class.getClassLoader().getResourceAsStream(location);
+        if (resource != null) {
+            return resource;
+        }
+        Path path = Paths.get(location);
+        return Files.isRegularFile(path) ? Files.newInputStream(path) : null;
+    }
+
+    private static class Session {
+        private final List<ApiMock> overrides = Collections.synchronizedList(new ArrayList<>());
+        private volatile String testKey;
+        private long served;
+        private long latencyMs;
+
+        private ApiMock findOverride(String method, String path, String body) {
+            synchronized (overrides) {
+                for (ApiMock mock : overrides) {
+                    boolean pathMatches = mock.isPattern() ? mock.toPattern().matcher(path).matches()
+                            : mock.getPath().equals(path);
+                    if (mock.getMethod().equals(method) && pathMatches && mock.matchesBody(body)) {
+                        return mock;
+                    }
+                }
+            }
+            return null;
+        }
+    }
+}
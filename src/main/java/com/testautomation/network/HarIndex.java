@@ -0,0 +1,113 @@
+package com.testautomation.network;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * In-memory index of a HAR file for replay. Bodies are decoded once at load; requests with the same
+ * {@link HarMatcher} key get the recorded responses in order, and the last one repeats after that.
+ */
+public class HarIndex {
+    /**
+     * These describe the body as it went over the wire; replayed bodies are already decoded, so Playwright
+     * sets them itself.
+     */
+    private static final List<String> DROPPED_HEADERS = Arrays.asList("content-encoding", "content-length",
+            "transfer-encoding");
+
+    private final Map<String, List<Response>> responses;
+    private final Map<String, AtomicInteger> cursors = new HashMap<>();
+
+    private HarIndex(Map<String, List<Response>> responses) {
+        this.responses = responses;
+        responses.keySet().forEach(key -> cursors.put(key, new AtomicInteger()));
+    }
+
+    public static HarIndex empty() {
+        return new HarIndex(Collections.emptyMap());
+    }
+
+    public static HarIndex load(Path harFile, HarMatcher matcher) throws IOException {
+        JsonNode entries = new ObjectMapper().readTree(harFile.toFile()).path("log").path("entries");
+        Map<String, List<Response>> responses = new LinkedHashMap<>();
+        for (JsonNode entry : entries) {
+            JsonNode request = entry.path("request");
+            JsonNode postData = request.path("postData");
+            byte[] requestBody = postData.isMissingNode() ? null : decode(postData.path("text").asText(""),
+                    postData.path("encoding").asText(""));
+            String key = matcher.key(request.path("method").asText("GET"), request.path("url").asText(), requestBody);
+
+            JsonNode response = entry.path("response");
+            Map<String, String> headers = new LinkedHashMap<>();
+            for (JsonNode header : response.path("headers")) {
+                String name = header.path("name").asText();
+                if (!DROPPED_HEADERS.contains(name.toLowerCase(Locale.ENGLISH))) {
+                    headers.merge(name, header.path("value").asText(), (a, b) -> a + ", " + b);
+                }
+            }
+            JsonNode content = response.path("content");
+            byte[] body = decode(content.path("text").asText(""), content.path("encoding").asText(""));
+            responses.computeIfAbsent(key, k -> new ArrayList<>())
+                    .add(new Response(response.path("status").asInt(200), headers, body));
+        }
+        return new HarIndex(responses);
+    }
+
+    private static byte[] decode(String text, String encoding) {
+        return "base64".equalsIgnoreCase(encoding) ? Base64.getDecoder().decode(text) : text.getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * @return the next recorded response for {@code key}, or null when nothing was recorded for it
+     */
+    public Response next(String key) {
+        List<Response> recorded = responses.get(key);
+        if (recorded == null) {
+            return null;
+        }
+        int index = cursors.get(key).getAndIncrement();
+        return recorded.get(Math.min(index, recorded.size() - 1));
+    }
+
+    public int size() {
+        return responses.values().stream().mapToInt(List::size).sum();
+    }
+
+    public static class Response {
+        private final int status;
+        private final Map<String, String> headers;
+        private final byte[] body;
+
+        private Response(int status, Map<String, String> headers, byte[] body) {
+            this.status = status;
+            this.headers = headers;
+            this.body = body;
+        }
+
+        public int getStatus() {
+            return status;
+        }
+
+        public Map<String, String> getHeaders() {
+            return headers;
+        }
+
+        public byte[] getBody() {
+            return body;
+        }
+    }
+}
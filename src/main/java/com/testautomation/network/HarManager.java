@@ -0,0 +1,312 @@
+package com.testautomation.network;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.microsoft.playwright.APIResponse;
+import com.microsoft.playwright.BrowserContext;
+import com.microsoft.playwright.PlaywrightException;
+import com.microsoft.playwright.Request;
+import com.microsoft.playwright.Route;
+import com.microsoft.playwright.options.HttpHeader;
+import com.testautomation.config.ConfigManager;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * HAR record and replay for hermetic runs, selected with {@code har.mode}:
+ * <ul>
+ *   <li>{@code record}: every http(s) request matching {@code har.url.pattern} is fetched through route
+ *   interception and kept per test class; at the end of the suite each class gets
+ *   {@code har.dir/<SimpleClassName>.har}</li>
+ *   <li>{@code replay}: the class's HAR is loaded once into a {@link HarIndex} and responses are fulfilled
+ *   from memory without touching the network, so backend latency drops out of test time. Unmatched
+ *   requests go to the network, or with {@code har.replay.strict=true} are aborted and fail the suite
+ *   (see {@link #enforce()}), which makes replayed runs work offline</li>
+ * </ul>
+ * How requests are matched is configured on {@link HarMatcher}.
+ */
+public class HarManager {
+    private static final Logger logger = LogManager.getLogger(HarManager.class);
+    private static final String MODE = ConfigManager.getProperty("har.mode", "off").trim().toLowerCase(Locale.ENGLISH);
+    private static final ObjectMapper objectMapper = new ObjectMapper();
+    private static final ThreadLocal<Session> current = new ThreadLocal<>();
+    private static final Map<String, List<Map<String, Object>>> recordings = new ConcurrentHashMap<>();
+    private static final Map<String, HarIndex> indexes = new ConcurrentHashMap<>();
+    private static final List<String> unmatched = Collections.synchronizedList(new ArrayList<>());
+    private static HarMatcher matcher;
+
+    static {
+        if (!MODE.equals("off") && !MODE.equals("record") && !MODE.equals("replay")) {
+            throw new IllegalStateException("har.mode must be off, record or replay, was " + MODE);
+        }
+    }
+
+    public static boolean isRecording() {
+        return MODE.equals("record");
+    }
+
+    public static boolean isReplaying() {
+        return MODE.equals("replay");
+    }
+
+    /**
+     * Routes the context's traffic through the recorder or the replay index. Requests made before
+     * {@link #startTest(String)} on this thread (and on threads that never start a test, e.g. load
+     * users) pass through untouched.
+     */
+    public static void install(BrowserContext context) {
+        if (!isRecording() && !isReplaying()) {
+            return;
+        }
+        Session session = new Session();
+        current.set(session);
+        Pattern filter = Pattern.compile(ConfigManager.getProperty("har.url.pattern", ".*"));
+        context.route(url -> url.startsWith("http") && filter.matcher(url).matches(), route -> {
+            String testClass = session.testClass;
+            if (testClass == null) {
+                route.resume();
+            } else if (isRecording()) {
+                record(testClass, route);
+            } else {
+                replay(testClass, session, route);
+            }
+        });
+    }
+
+    public static void startTest(String testClass) {
+        Session session = current.get();
+        if (session != null) {
+            session.testClass = testClass.substring(testClass.lastIndexOf('.') + 1);
+            session.unmatched.clear();
+        }
+    }
+
+    /**
+     * @return the requests of the current test that had no recorded response (empty unless replaying)
+     */
+    public static List<String> finishTest() {
+        Session session = current.get();
+        if (session == null) {
+            return Collections.emptyList();
+        }
+        session.testClass = null;
+        List<String> missed = new ArrayList<>(session.unmatched);
+        session.unmatched.clear();
+        return missed;
+    }
+
+    private static void record(String testClass, Route route) {
+        Request request = route.request();
+        Instant started = Instant.now();
+        long start = System.nanoTime();
+        APIResponse response;
+        try {
+            response = route.fetch();
+        } catch (PlaywrightException e) {
+            logger.debug("Not recording failed request {} {}", request.method(), request.url(), e);
+            route.abort("failed");
+            return;
+        }
+        double durationMs = (System.nanoTime() - start) / 1_000_000.0;
+        recordings.computeIfAbsent(testClass, k -> Collections.synchronizedList(new ArrayList<>()))
+                .add(entry(request, response, started, durationMs));
+        route.fulfill(new Route.FulfillOptions().setResponse(response));
+    }
+
+    private static void replay(String testClass, Session session, Route route) {
+        Request request = route.request();
+        HarIndex.Response recorded = indexes.computeIfAbsent(testClass, HarManager::loadIndex)
+                .next(getMatcher().key(request.method(), request.url(), request.postDataBuffer()));
+        if (recorded != null) {
+            route.fulfill(new Route.FulfillOptions().setStatus(recorded.getStatus())
+                    .setHeaders(recorded.getHeaders()).setBodyBytes(recorded.getBody()));
+            return;
+        }
+        String description = request.method() + " " + request.url();
+        if (ConfigManager.getBooleanProperty("har.replay.strict", false)) {
+            session.unmatched.add(description);
+            unmatched.add(testClass + ": " + description);
+            logger.warn("No recorded response for {} in {}, aborting it", description, testClass);
+            route.abort("internetdisconnected");
+        } else {
+            logger.debug("No recorded response for {} in {}, using the network", description, testClass);
+            route.resume();
+        }
+    }
+
+    private static synchronized HarMatcher getMatcher() {
+        if (matcher == null) {
+            matcher = HarMatcher.fromConfig();
+        }
+        return matcher;
+    }
+
+    private static HarIndex loadIndex(String testClass) {
+        Path file = harDir().resolve(testClass + ".har");
+        if (!Files.isRegularFile(file)) {
+            logger.warn("No HAR recording for {} at {}; record it with -Dhar.mode=record", testClass, file);
+            return HarIndex.empty();
+        }
+        try {
+            HarIndex index = HarIndex.load(file, getMatcher());
+            logger.info("Replaying {} recorded response(s) for {} from {}", index.size(), testClass, file);
+            return index;
+        } catch (IOException e) {
+            logger.error("Failed to read HAR recording {}", file, e);
+            return HarIndex.empty();
+        }
+    }
+
+    /**
+     * Fails the suite when strict replay aborted requests that had no recorded response.
+     */
+    public static void enforce() {
+        List<String> missed;
+        synchronized (unmatched) {
+            missed = new ArrayList<>(unmatched);
+        }
+        if (missed.isEmpty()) {
+            return;
+        }
+        throw new AssertionError(missed.size() + " request(s) had no recorded response in strict HAR replay: "
+                + missed.stream().limit(10).collect(Collectors.joining("; ")));
+    }
+
+    /**
+     * Writes one HAR 1.2 file per recorded test class to {@code har.dir}, replacing earlier recordings.
+     */
+    public static void writeRecordings() {
+        if (recordings.isEmpty()) {
+            return;
+        }
+        try {
+            Path dir = Files.createDirectories(harDir());
+            for (Map.Entry<String, List<Map<String, Object>>> recording : recordings.entrySet()) {
+                Map<String, Object> creator = new LinkedHashMap<>();
+                creator.put("name", "testautomation-framework");
+                creator.put("version", ConfigManager.getBuildId());
+                Map<String, Object> log = new LinkedHashMap<>();
+                log.put("version", "1.2");
+                log.put("creator", creator);
+                synchronized (recording.getValue()) {
+                    log.put("entries", new ArrayList<>(recording.getValue()));
+                }
+                Path file = dir.resolve(recording.getKey() + ".har");
+                objectMapper.writer(SerializationFeature.INDENT_OUTPUT)
+                        .writeValue(file.toFile(), Collections.singletonMap("log", log));
+                logger.info("Recorded {} request(s) for {} to {}", recording.getValue().size(), recording.getKey(), file);
+            }
+            recordings.clear();
+        } catch (IOException e) {
+            logger.error("Failed to write HAR recordings", e);
+        }
+    }
+
+    private static Map<String, Object> entry(Request request, APIResponse response, Instant started, double durationMs) {
+        Map<String, Object> harRequest = new LinkedHashMap<>();
+        harRequest.put("method", request.method());
+        harRequest.put("url", request.url());
+        harRequest.put("httpVersion", "HTTP/1.1");
+        harRequest.put("headers", headers(request.headers()));
+        harRequest.put("queryString", Collections.emptyList());
+        harRequest.put("cookies", Collections.emptyList());
+        byte[] postData = request.postDataBuffer();
+        if (postData != null) {
+            Map<String, Object> post = content(postData, request.headers().getOrDefault("content-type", ""));
+            post.remove("size");
+            harRequest.put("postData", post);
+        }
+        harRequest.put("headersSize", -1);
+        harRequest.put("bodySize", postData != null ? postData.length : 0);
+
+        byte[] body = response.body();
+        Map<String, String> responseHeaders = new LinkedHashMap<>();
+        List<Map<String, Object>> headerList = new ArrayList<>();
+        for (HttpHeader header : response.headersArray()) {
+            responseHeaders.putIfAbsent(header.name.toLowerCase(Locale.ENGLISH), header.value);
+            Map<String, Object> row = new LinkedHashMap<>();
+            row.put("name", header.name);
+            row.put("value", header.value);
+            headerList.add(row);
+        }
+        Map<String, Object> harResponse = new LinkedHashMap<>();
+        harResponse.put("status", response.status());
+        harResponse.put("statusText", response.statusText());
+        harResponse.put("httpVersion", "HTTP/1.1");
+        harResponse.put("headers", headerList);
+        harResponse.put("cookies", Collections.emptyList());
+        harResponse.put("content", content(body, responseHeaders.getOrDefault("content-type", "")));
+        harResponse.put("redirectURL", responseHeaders.getOrDefault("location", ""));
+        harResponse.put("headersSize", -1);
+        harResponse.put("bodySize", body.length);
+
+        Map<String, Object> timings = new LinkedHashMap<>();
+        timings.put("send", 0);
+        timings.put("wait", durationMs);
+        timings.put("receive", 0);
+        Map<String, Object> entry = new LinkedHashMap<>();
+        entry.put("startedDateTime", started.toString());
+        entry.put("time", durationMs);
+        entry.put("request", harRequest);
+        entry.put("response", harResponse);
+        entry.put("cache", Collections.emptyMap());
+        entry.put("timings", timings);
+        return entry;
+    }
+
+    private static Map<String, Object> content(byte[] body, String mimeType) {
+        Map<String, Object> content = new LinkedHashMap<>();
+        content.put("size", body.length);
+        content.put("mimeType", mimeType);
+        if (isText(mimeType)) {
+            content.put("text", new String(body, StandardCharsets.UTF_8));
+        } else {
+            content.put("text", Base64.getEncoder().encodeToString(body));
+            content.put("encoding", "base64");
+        }
+        return content;
+    }
+
+    private static boolean isText(String mimeType) {
+        String type = mimeType.toLowerCase(Locale.ENGLISH);
+        return type.startsWith("text/") || type.contains("json") || type.contains("javascript")
+                || type.contains("xml") || type.contains("x-www-form-urlencoded");
+    }
+
+    private static List<Map<String, Object>> headers(Map<String, String> headers) {
+        List<Map<String, Object>> list = new ArrayList<>();
+        headers.forEach((name, value) -> {
+            Map<String, Object> row = new LinkedHashMap<>();
+            row.put("name", name);
+            row.put("value", value);
+            list.add(row);
+        });
+        return list;
+    }
+
+    private static Path harDir() {
+        return Paths.get(ConfigManager.getProperty("har.dir", "src/test/resources/har/"));
+    }
+
+    private static class Session {
+        private volatile String testClass;
+        private final List<String> unmatched = Collections.synchronizedList(new ArrayList<>());
+    }
+}
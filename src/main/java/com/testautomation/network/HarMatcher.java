@@ -0,0 +1,112 @@
+package com.testautomation.network;
+
+import com.testautomation.config.ConfigManager;
+
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * Builds the lookup key that pairs a live request with a recorded HAR entry.
+ * <ul>
+ *   <li>{@code har.match.host}: include scheme, host and port (false replays a recording made against
+ *   another environment). Loopback hosts are keyed without their port, since the embedded app server
+ *   binds an ephemeral port that differs on every run</li>
+ *   <li>{@code har.match.query}: {@code exact}, {@code sorted} (parameter order ignored) or {@code ignore}</li>
+ *   <li>{@code har.match.ignore.params}: query parameters never compared, e.g. cache busters</li>
+ *   <li>{@code har.match.body}: include a hash of the request body</li>
+ * </ul>
+ */
+public class HarMatcher {
+    private final boolean matchHost;
+    private final String queryMode;
+    private final Set<String> ignoredParams;
+    private final boolean matchBody;
+    private static final Set<String> LOOPBACK_HOSTS =
+            new HashSet<>(Arrays.asList("localhost", "127.0.0.1", "[::1]", "::1"));
+
+    public HarMatcher(boolean matchHost, String queryMode, Set<String> ignoredParams, boolean matchBody) {
+        this.matchHost = matchHost;
+        this.queryMode = queryMode.toLowerCase(Locale.ENGLISH);
+        this.ignoredParams = ignoredParams;
+        this.matchBody = matchBody;
+        if (!Arrays.asList("exact", "sorted", "ignore").contains(this.queryMode)) {
+            throw new IllegalArgumentException("har.match.query must be exact, sorted or ignore, was " + queryMode);
+        }
+    }
+
+    public static HarMatcher fromConfig() {
+        Set<String> ignored = new HashSet<>();
+        for (String param : ConfigManager.getProperty("har.match.ignore.params", "").split(",")) {
+            if (!param.trim().isEmpty()) {
+                ignored.add(param.trim());
+            }
+        }
+        return new HarMatcher(ConfigManager.getBooleanProperty("har.match.host", true),
+                ConfigManager.getProperty("har.match.query", "sorted"), ignored,
+                ConfigManager.getBooleanProperty("har.match.body", true));
+    }
+
+    public String key(String method, String url, byte[] body) {
+        StringBuilder key = new StringBuilder(method.toUpperCase(Locale.ENGLISH)).append(' ');
+        URI uri;
+        try {
+            uri = new URI(url);
+        } catch (URISyntaxException e) {
+            return key.append(url).toString();
+        }
+        if (matchHost) {
+            String host = uri.getHost();
+            boolean loopback = host != null && LOOPBACK_HOSTS.contains(host.toLowerCase(Locale.ENGLISH));
+            key.append(uri.getScheme()).append("://").append(loopback ? host : uri.getRawAuthority());
+        }
+        key.append(uri.getRawPath() == null || uri.getRawPath().isEmpty() ? "/" : uri.getRawPath());
+        String query = normalizeQuery(uri.getRawQuery());
+        if (!query.isEmpty()) {
+            key.append('?').append(query);
+        }
+        if (matchBody && body != null && body.length > 0) {
+            key.append(" #").append(sha256(body));
+        }
+        return key.toString();
+    }
+
+    private String normalizeQuery(String rawQuery) {
+        if (rawQuery == null || rawQuery.isEmpty() || "ignore".equals(queryMode)) {
+            return "";
+        }
+        List<String> params = new ArrayList<>();
+        for (String param : rawQuery.split("&")) {
+            String name = param.contains("=") ? param.substring(0, param.indexOf('=')) : param;
+            if (!ignoredParams.contains(name)) {
+                params.add(param);
+            }
+        }
+        if ("sorted".equals(queryMode)) {
+            Collections.sort(params);
+        }
+        return String.join("&", params);
+    }
+
+    private static String sha256(byte[] body) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(body);
+            StringBuilder hex = new StringBuilder();
+            for (int i = 0; i < 8; i++) {
+                hex.append(String.format("%02x", digest[i]));
+            }
+            return hex.toString();
+        } catch (NoSuchAlgorithmException e) {
+            return Integer.toHexString(new String(body, StandardCharsets.ISO_8859_1).hashCode());
+        }
+    }
+}
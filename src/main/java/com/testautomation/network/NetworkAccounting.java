@@ -0,0 +1,337 @@
+package com.testautomation.network;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.microsoft.playwright.BrowserContext;
+import com.microsoft.playwright.Request;
+import com.microsoft.playwright.options.Sizes;
+import com.testautomation.config.ConfigManager;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Counts requests and downloaded bytes on every context created by {@code PlaywrightManager} and splits
+ * them per test.
+ * <p>
+ * Optional limits per test: {@code network.limit.requests}, {@code network.limit.bytes} and
+ * {@code network.limit.growth.factor}, which compares a test's bytes and requests with its median over the
+ * previous {@code perf.regression.window} builds kept under {@code network.history.dir} (so a page that
+ * suddenly doubles its payload is caught with a factor of 2). Growth below
+ * {@code network.limit.growth.min.bytes} is ignored. History is only written and compared for runs with an
+ * explicit {@code build.id}, so ad-hoc local runs neither pile up files nor fail against each other.
+ * Breaches fail the suite at the end when {@code network.limit.fail=true}.
+ */
+public class NetworkAccounting {
+    private static final Logger logger = LogManager.getLogger(NetworkAccounting.class);
+    private static final boolean ENABLED = ConfigManager.getBooleanProperty("network.accounting.enabled", true);
+    private static final ObjectMapper objectMapper = new ObjectMapper();
+    private static final ThreadLocal<NetworkUsage> current = new ThreadLocal<>();
+    private static final List<TestUsage> suiteResults = Collections.synchronizedList(new ArrayList<>());
+    private static Map<String, long[]> baseline;
+
+    public static boolean isEnabled() {
+        return ENABLED;
+    }
+
+    /**
+     * Starts accounting on a new context; it becomes the calling thread's current usage.
+     */
+    public static void install(BrowserContext context) {
+        if (!ENABLED) {
+            return;
+        }
+        NetworkUsage usage = new NetworkUsage();
+        current.set(usage);
+        context.onRequestFinished(request -> recordFinished(usage, request));
+        context.onRequestFailed(request -> usage.requestFailed(request.resourceType(), request.method(),
+                request.url(), request.failure()));
+    }
+
+    private static void recordFinished(NetworkUsage usage, Request request) {
+        long bytes = 0;
+        try {
+            Sizes sizes = request.sizes();
+            bytes = (long) sizes.responseHeadersSize + sizes.responseBodySize;
+        } catch (RuntimeException e) {
+            // No response details (e.g. the page closed); still count the request
+            logger.debug("No sizes for {}", request.url(), e);
+        }
+        double durationMs = request.timing() != null ? request.timing().responseEnd : -1;
+        usage.requestFinished(request.resourceType(), request.method(), request.url(), bytes, durationMs);
+    }
+
+    public static void startTest() {
+        NetworkUsage usage = current.get();
+        if (usage != null) {
+            usage.reset();
+        }
+    }
+
+    /**
+     * Closes the current test's window and checks its limits.
+     *
+     * @return the test's usage, or null when accounting is off or no context was created on this thread
+     */
+    public static TestUsage finishTest(String testKey) {
+        NetworkUsage usage = current.get();
+        if (usage == null) {
+            return null;
+        }
+        NetworkUsage snapshot = usage.copy();
+        TestUsage result = new TestUsage(testKey, snapshot, checkLimits(testKey, snapshot));
+        suiteResults.add(result);
+        return result;
+    }
+
+    public static List<TestUsage> getSuiteResults() {
+        synchronized (suiteResults) {
+            return new ArrayList<>(suiteResults);
+        }
+    }
+
+    public static List<String> getBreaches() {
+        return getSuiteResults().stream().flatMap(result -> result.getBreaches().stream()
+                .map(breach -> result.getTestKey() + ": " + breach)).collect(Collectors.toList());
+    }
+
+    public static void enforce() {
+        List<String> breaches = getBreaches();
+        if (breaches.isEmpty() || !ConfigManager.getBooleanProperty("network.limit.fail", true)) {
+            return;
+        }
+        throw new AssertionError(breaches.size() + " network limit breach(es): " + String.join("; ", breaches));
+    }
+
+    private static List<String> checkLimits(String testKey, NetworkUsage usage) {
+        List<String> breaches = new ArrayList<>();
+        int maxRequests = ConfigManager.getIntProperty("network.limit.requests", 0);
+        if (maxRequests > 0 && usage.getRequests() > maxRequests) {
+            breaches.add(usage.getRequests() + " requests exceed the limit of " + maxRequests);
+        }
+        long maxBytes = ConfigManager.getIntProperty("network.limit.bytes", 0);
+        if (maxBytes > 0 && usage.getBytes() > maxBytes) {
+            breaches.add(NetworkUsage.formatBytes(usage.getBytes()) + " exceed the limit of "
+                    + NetworkUsage.formatBytes(maxBytes));
+        }
+        double factor = ConfigManager.getDoubleProperty("network.limit.growth.factor", 0);
+        long[] previous = factor > 0 ? getBaseline().get(testKey) : null;
+        if (previous != null) {
+            long minGrowth = ConfigManager.getIntProperty("network.limit.growth.min.bytes", 51200);
+            if (previous[1] > 0 && usage.getBytes() > previous[1] * factor && usage.getBytes() - previous[1] >= minGrowth) {
+                breaches.add(String.format(Locale.ENGLISH, "%s is %.1fx the previous builds' %s",
+                        NetworkUsage.formatBytes(usage.getBytes()), usage.getBytes() / (double) previous[1],
+                        NetworkUsage.formatBytes(previous[1])));
+            }
+            if (previous[0] > 0 && usage.getRequests() > previous[0] * factor) {
+                breaches.add(String.format(Locale.ENGLISH, "%d requests is %.1fx the previous builds' %d",
+                        usage.getRequests(), usage.getRequests() / (double) previous[0], previous[0]));
+            }
+        }
+        return breaches;
+    }
+
+    /**
+     * Writes {@code network-usage.json} and {@code network-usage.csv} (per test and resource type) to
+     * {@code metrics.dir} and this build's per-test totals to the network history.
+     */
+    public static void export() {
+        List<TestUsage> results = getSuiteResults();
+        if (results.isEmpty()) {
+            return;
+        }
+        String buildId = ConfigManager.getBuildId();
+        Path metricsDir = Paths.get(ConfigManager.getProperty("metrics.dir", "test-output/metrics/"));
+        try {
+            Files.createDirectories(metricsDir);
+            Map<String, Object> json = new LinkedHashMap<>();
+            json.put("buildId", buildId);
+            json.put("generatedAt", Instant.now().toString());
+            Map<String, Object> tests = new LinkedHashMap<>();
+            Map<String, Object> history = new LinkedHashMap<>();
+            for (TestUsage result : results) {
+                tests.put(result.getTestKey(), result.toMap());
+                Map<String, Object> totals = new LinkedHashMap<>();
+                totals.put("requests", result.getUsage().getRequests());
+                totals.put("bytes", result.getUsage().getBytes());
+                history.put(result.getTestKey(), totals);
+            }
+            json.put("tests", tests);
+            objectMapper.writer(SerializationFeature.INDENT_OUTPUT)
+                    .writeValue(metricsDir.resolve("network-usage.json").toFile(), json);
+
+            try (Writer csv = Files.newBufferedWriter(metricsDir.resolve("network-usage.csv"), StandardCharsets.UTF_8)) {
+                csv.write("build_id,test,resource_type,requests,failed,bytes\n");
+                for (TestUsage result : results) {
+                    for (Map.Entry<String, NetworkUsage.TypeTotals> type : result.getUsage().getByType().entrySet()) {
+                        csv.write(String.join(",", buildId.replace(",", "_"), result.getTestKey(), type.getKey(),
+                                Long.toString(type.getValue().getRequests()), Long.toString(type.getValue().getFailed()),
+                                Long.toString(type.getValue().getBytes())));
+                        csv.write('\n');
+                    }
+                }
+            }
+
+            if (ConfigManager.isBuildIdSet() && ConfigManager.getBooleanProperty("perf.history.record", true)) {
+                Path historyDir = Files.createDirectories(historyDir());
+                Map<String, Object> document = new LinkedHashMap<>();
+                document.put("buildId", buildId);
+                document.put("generatedAt", Instant.now().toString());
+                document.put("tests", history);
+                objectMapper.writer(SerializationFeature.INDENT_OUTPUT)
+                        .writeValue(historyDir.resolve(safeFileName(buildId) + ".json").toFile(), document);
+            }
+            logger.info("Network usage written to {}", metricsDir.resolve("network-usage.json").toAbsolutePath());
+        } catch (IOException e) {
+            logger.error("Failed to export network usage", e);
+        }
+    }
+
+    /**
+     * @return per test, the median {requests, bytes} of the previous builds
+     */
+    private static synchronized Map<String, long[]> getBaseline() {
+        if (baseline == null) {
+            baseline = loadBaseline();
+        }
+        return baseline;
+    }
+
+    private static Map<String, long[]> loadBaseline() {
+        Path dir = historyDir();
+        if (!ConfigManager.isBuildIdSet() || !Files.isDirectory(dir)) {
+            return Collections.emptyMap();
+        }
+        String ownFile = safeFileName(ConfigManager.getBuildId()) + ".json";
+        List<Path> files;
+        try (Stream<Path> stream = Files.list(dir)) {
+            files = stream.filter(path -> path.getFileName().toString().endsWith(".json"))
+                    .filter(path -> !path.getFileName().toString().equals(ownFile))
+                    .sorted(Comparator.comparing(NetworkAccounting::lastModified).reversed())
+                    .limit(ConfigManager.getIntProperty("perf.regression.window", 5))
+                    .collect(Collectors.toList());
+        } catch (IOException e) {
+            logger.warn("Could not read network history from {}", dir, e);
+            return Collections.emptyMap();
+        }
+        Map<String, List<long[]>> collected = new HashMap<>();
+        for (Path file : files) {
+            try {
+                Iterator<Map.Entry<String, JsonNode>> tests = objectMapper.readTree(file.toFile()).path("tests").fields();
+                while (tests.hasNext()) {
+                    Map.Entry<String, JsonNode> test = tests.next();
+                    collected.computeIfAbsent(test.getKey(), k -> new ArrayList<>()).add(new long[]{
+                            test.getValue().path("requests").asLong(), test.getValue().path("bytes").asLong()});
+                }
+            } catch (IOException e) {
+                logger.warn("Skipping unreadable network history file {}", file, e);
+            }
+        }
+        Map<String, long[]> medians = new HashMap<>();
+        collected.forEach((test, values) -> medians.put(test, new long[]{
+                median(values.stream().map(v -> v[0]).collect(Collectors.toList())),
+                median(values.stream().map(v -> v[1]).collect(Collectors.toList()))}));
+        return medians;
+    }
+
+    private static long median(List<Long> values) {
+        List<Long> sorted = new ArrayList<>(values);
+        Collections.sort(sorted);
+        int middle = sorted.size() / 2;
+        return sorted.size() % 2 == 1 ? sorted.get(middle) : (sorted.get(middle - 1) + sorted.get(middle)) / 2;
+    }
+
+    private static Path historyDir() {
+        return Paths.get(ConfigManager.getProperty("network.history.dir", "perf-history/network/"));
+    }
+
+    private static long lastModified(Path path) {
+        try {
+            return Files.getLastModifiedTime(path).toMillis();
+        } catch (IOException e) {
+            return 0;
+        }
+    }
+
+    private static String safeFileName(String buildId) {
+        return buildId.replaceAll("[^A-Za-z0-9._-]", "_");
+    }
+
+    public static class TestUsage {
+        private final String testKey;
+        private final NetworkUsage usage;
+        private final List<String> breaches;
+
+        private TestUsage(String testKey, NetworkUsage usage, List<String> breaches) {
+            this.testKey = testKey;
+            this.usage = usage;
+            this.breaches = breaches;
+        }
+
+        public String getTestKey() {
+            return testKey;
+        }
+
+        public NetworkUsage getUsage() {
+            return usage;
+        }
+
+        public List<String> getBreaches() {
+            return breaches;
+        }
+
+        private Map<String, Object> toMap() {
+            Map<String, Object> map = new LinkedHashMap<>();
+            map.put("requests", usage.getRequests());
+            map.put("failed", usage.getFailedRequests());
+            map.put("bytes", usage.getBytes());
+            Map<String, Object> types = new LinkedHashMap<>();
+            usage.getByType().forEach((type, totals) -> {
+                Map<String, Object> row = new LinkedHashMap<>();
+                row.put("requests", totals.getRequests());
+                row.put("failed", totals.getFailed());
+                row.put("bytes", totals.getBytes());
+                types.put(type, row);
+            });
+            map.put("byType", types);
+            map.put("slowest", usage.getSlowest().stream().map(request -> {
+                Map<String, Object> row = new LinkedHashMap<>();
+                row.put("type", request.getType());
+                row.put("method", request.getMethod());
+                row.put("url", request.getUrl());
+                row.put("durationMs", request.getDurationMs());
+                row.put("bytes", request.getBytes());
+                return row;
+            }).collect(Collectors.toList()));
+            map.put("failedRequests", usage.getFailed().stream().map(request -> {
+                Map<String, Object> row = new LinkedHashMap<>();
+                row.put("type", request.getType());
+                row.put("method", request.getMethod());
+                row.put("url", request.getUrl());
+                row.put("error", request.getError());
+                return row;
+            }).collect(Collectors.toList()));
+            map.put("breaches", breaches);
+            return map;
+        }
+    }
+}
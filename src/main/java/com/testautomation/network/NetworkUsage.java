@@ -0,0 +1,166 @@
+package com.testautomation.network;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Request totals of one browser context (or one test's share of it) by resource type, plus the slowest
+ * and the failed requests. Bytes are response headers plus body as reported by Playwright, i.e. what the
+ * page downloaded.
+ */
+public class NetworkUsage {
+    static final int MAX_SLOWEST = 5;
+    static final int MAX_FAILED = 20;
+
+    private final Map<String, TypeTotals> byType = new TreeMap<>();
+    private final List<RequestRecord> slowest = new ArrayList<>();
+    private final List<RequestRecord> failed = new ArrayList<>();
+
+    synchronized void requestFinished(String type, String method, String url, long bytes, double durationMs) {
+        TypeTotals totals = byType.computeIfAbsent(type, k -> new TypeTotals());
+        totals.requests++;
+        totals.bytes += Math.max(0, bytes);
+        if (durationMs >= 0) {
+            slowest.add(new RequestRecord(type, method, url, durationMs, bytes, null));
+            slowest.sort(Comparator.comparingDouble(RequestRecord::getDurationMs).reversed());
+            if (slowest.size() > MAX_SLOWEST) {
+                slowest.remove(slowest.size() - 1);
+            }
+        }
+    }
+
+    synchronized void requestFailed(String type, String method, String url, String error) {
+        TypeTotals totals = byType.computeIfAbsent(type, k -> new TypeTotals());
+        totals.requests++;
+        totals.failed++;
+        if (failed.size() < MAX_FAILED) {
+            failed.add(new RequestRecord(type, method, url, -1, 0, error));
+        }
+    }
+
+    synchronized void reset() {
+        byType.clear();
+        slowest.clear();
+        failed.clear();
+    }
+
+    synchronized NetworkUsage copy() {
+        NetworkUsage copy = new NetworkUsage();
+        byType.forEach((type, totals) -> copy.byType.put(type, totals.copy()));
+        copy.slowest.addAll(slowest);
+        copy.failed.addAll(failed);
+        return copy;
+    }
+
+    public synchronized long getRequests() {
+        return byType.values().stream().mapToLong(TypeTotals::getRequests).sum();
+    }
+
+    public synchronized long getFailedRequests() {
+        return byType.values().stream().mapToLong(TypeTotals::getFailed).sum();
+    }
+
+    public synchronized long getBytes() {
+        return byType.values().stream().mapToLong(TypeTotals::getBytes).sum();
+    }
+
+    public synchronized Map<String, TypeTotals> getByType() {
+        return Collections.unmodifiableMap(new TreeMap<>(byType));
+    }
+
+    public synchronized List<RequestRecord> getSlowest() {
+        return new ArrayList<>(slowest);
+    }
+
+    public synchronized List<RequestRecord> getFailed() {
+        return new ArrayList<>(failed);
+    }
+
+    public String describe() {
+        return String.format(Locale.ENGLISH, "%d request(s), %s, %d failed", getRequests(), formatBytes(getBytes()),
+                getFailedRequests());
+    }
+
+    public static String formatBytes(double bytes) {
+        if (bytes >= 1024 * 1024) {
+            return String.format(Locale.ENGLISH, "%.1f MB", bytes / (1024 * 1024));
+        }
+        return String.format(Locale.ENGLISH, "%.1f KB", bytes / 1024);
+    }
+
+    public static class TypeTotals {
+        private long requests;
+        private long failed;
+        private long bytes;
+
+        private TypeTotals copy() {
+            TypeTotals copy = new TypeTotals();
+            copy.requests = requests;
+            copy.failed = failed;
+            copy.bytes = bytes;
+            return copy;
+        }
+
+        public long getRequests() {
+            return requests;
+        }
+
+        public long getFailed() {
+            return failed;
+        }
+
+        public long getBytes() {
+            return bytes;
+        }
+    }
+
+    public static class RequestRecord {
+        private final String type;
+        private final String method;
+        private final String url;
+        private final double durationMs;
+        private final long bytes;
+        private final String error;
+
+        RequestRecord(String type, String method, String url, double durationMs, long bytes, String error) {
+            this.type = type;
+            this.method = method;
+            this.url = url;
+            this.durationMs = durationMs;
+            this.bytes = bytes;
+            this.error = error;
+        }
+
+        public String getType() {
+            return type;
+        }
+
+        public String getMethod() {
+            return method;
+        }
+
+        public String getUrl() {
+            return url;
+        }
+
+        /**
+         * @return request start to response end in ms, or -1 for failed requests
+         */
+        public double getDurationMs() {
+            return durationMs;
+        }
+
+        public long getBytes() {
+            return bytes;
+        }
+
+        public String getError() {
+            return error;
+        }
+    }
+}
@@ -0,0 +1,198 @@
+package com.testautomation.network;
+
+import com.microsoft.playwright.APIResponse;
+import com.microsoft.playwright.BrowserContext;
+import com.microsoft.playwright.PlaywrightException;
+import com.microsoft.playwright.Request;
+import com.microsoft.playwright.Route;
+import com.microsoft.playwright.options.HttpHeader;
+import com.testautomation.config.ConfigManager;
+import com.testautomation.metrics.FrameworkMetrics;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Pattern;
+
+/**
+ * Opt-in ({@code asset.cache.enabled}) process-wide cache of static assets shared by every context and
+ * thread, since each new context starts with an empty browser cache. GET requests of the resource types in
+ * {@code asset.cache.resource.types} are fetched once through route interception; 200 responses that are
+ * not {@code no-store}/{@code private} and set no cookies are kept in memory and served to later requests
+ * for the same URL. The store is LRU-evicted to {@code asset.cache.max.bytes}; bodies above
+ * {@code asset.cache.max.entry.bytes} are never cached.
+ * <p>
+ * Not installed in HAR record/replay mode, which already owns request routing.
+ */
+public class StaticAssetCache {
+    private static final Logger logger = LogManager.getLogger(StaticAssetCache.class);
+    private static final boolean ENABLED = ConfigManager.getBooleanProperty("asset.cache.enabled", false);
+    private static final Set<String> DROPPED_HEADERS = new HashSet<>(Arrays.asList("content-encoding",
+            "content-length", "transfer-encoding"));
+    private static final AtomicLong hits = new AtomicLong();
+    private static final AtomicLong misses = new AtomicLong();
+    private static final AtomicLong bytesSaved = new AtomicLong();
+    private static final AtomicLong evictions = new AtomicLong();
+    private static final Map<String, Asset> assets = new LinkedHashMap<>(64, 0.75f, true);
+    private static long storedBytes;
+    private static boolean gaugesRegistered;
+
+    public static boolean isEnabled() {
+        return ENABLED;
+    }
+
+    public static void install(BrowserContext context) {
+        if (!ENABLED) {
+            return;
+        }
+        if (HarManager.isRecording() || HarManager.isReplaying()) {
+            logger.debug("Static asset cache not installed while HAR record/replay is active");
+            return;
+        }
+        registerGauges();
+        Set<String> types = new HashSet<>(Arrays.asList(ConfigManager.getProperty("asset.cache.resource.types",
+                "script,stylesheet,font,image").toLowerCase(Locale.ENGLISH).split("\\s*,\\s*")));
+        Pattern filter = Pattern.compile(ConfigManager.getProperty("asset.cache.url.pattern", ".*"));
+        context.route(url -> url.startsWith("http") && filter.matcher(url).matches(), route -> {
+            Request request = route.request();
+            if ("GET".equals(request.method()) && types.contains(request.resourceType())) {
+                serve(route, request.url());
+            } else {
+                route.fallback();
+            }
+        });
+    }
+
+    private static void serve(Route route, String url) {
+        Asset cached = get(url);
+        if (cached != null) {
+            hits.incrementAndGet();
+            bytesSaved.addAndGet(cached.body.length);
+            route.fulfill(new Route.FulfillOptions().setStatus(200).setHeaders(cached.headers)
+                    .setBodyBytes(cached.body));
+            return;
+        }
+        APIResponse response;
+        try {
+            response = route.fetch();
+        } catch (PlaywrightException e) {
+            // Let the browser make the request itself so the page sees the real failure
+            logger.debug("Fetch for asset cache failed for {}", url, e);
+            route.resume();
+            return;
+        }
+        misses.incrementAndGet();
+        Map<String, String> headers = cacheableHeaders(response);
+        if (headers != null) {
+            put(url, new Asset(headers, response.body()));
+        }
+        route.fulfill(new Route.FulfillOptions().setResponse(response));
+    }
+
+    /**
+     * @return the headers to replay, or null when the response must not be shared
+     */
+    private static Map<String, String> cacheableHeaders(APIResponse response) {
+        if (response.status() != 200) {
+            return null;
+        }
+        Map<String, String> headers = new LinkedHashMap<>();
+        for (HttpHeader header : response.headersArray()) {
+            String name = header.name.toLowerCase(Locale.ENGLISH);
+            String value = header.value.toLowerCase(Locale.ENGLISH);
+            if (name.equals("set-cookie") || (name.equals("cache-control")
+                    && (value.contains("no-store") || value.contains("private"))) || (name.equals("vary") && value.contains("*"))) {
+                return null;
+            }
+            if (!DROPPED_HEADERS.contains(name)) {
+                headers.merge(header.name, header.value, (a, b) -> a + ", " + b);
+            }
+        }
+        return headers;
+    }
+
+    static synchronized Asset get(String url) {
+        return assets.get(url);
+    }
+
+    static synchronized void put(String url, Asset asset) {
+        long maxEntry = ConfigManager.getIntProperty("asset.cache.max.entry.bytes", 5 * 1024 * 1024);
+        long maxBytes = ConfigManager.getIntProperty("asset.cache.max.bytes", 64 * 1024 * 1024);
+        if (asset.body.length > maxEntry || asset.body.length > maxBytes) {
+            return;
+        }
+        Asset previous = assets.put(url, asset);
+        storedBytes += asset.body.length - (previous != null ? previous.body.length : 0);
+        Iterator<Asset> eldest = assets.values().iterator();
+        while (storedBytes > maxBytes && eldest.hasNext()) {
+            storedBytes -= eldest.next().body.length;
+            eldest.remove();
+            evictions.incrementAndGet();
+        }
+    }
+
+    private static synchronized void registerGauges() {
+        if (gaugesRegistered) {
+            return;
+        }
+        gaugesRegistered = true;
+        FrameworkMetrics.registerGauge("testautomation_asset_cache_hit_ratio", "Static asset cache hit ratio",
+                StaticAssetCache::getHitRate);
+        FrameworkMetrics.registerCounter("testautomation_asset_cache_saved_bytes", "Bytes served from the static asset cache",
+                () -> bytesSaved.get());
+        FrameworkMetrics.registerGauge("testautomation_asset_cache_stored_bytes", "Bytes held by the static asset cache",
+                StaticAssetCache::getStoredBytes);
+    }
+
+    public static long getHits() {
+        return hits.get();
+    }
+
+    public static long getMisses() {
+        return misses.get();
+    }
+
+    public static double getHitRate() {
+        long total = hits.get() + misses.get();
+        return total == 0 ? 0 : hits.get() / (double) total;
+    }
+
+    public static long getBytesSaved() {
+        return bytesSaved.get();
+    }
+
+    public static long getEvictions() {
+        return evictions.get();
+    }
+
+    public static synchronized long getStoredBytes() {
+        return storedBytes;
+    }
+
+    public static synchronized int getEntries() {
+        return assets.size();
+    }
+
+    public static String describe() {
+        return String.format(Locale.ENGLISH, "%.1f%% hit rate (%d hits, %d misses), %s saved, %d asset(s) / %s stored, %d evicted",
+                getHitRate() * 100, getHits(), getMisses(), NetworkUsage.formatBytes(getBytesSaved()), getEntries(),
+                NetworkUsage.formatBytes(getStoredBytes()), getEvictions());
+    }
+
+    static class Asset {
+        private final Map<String, String> headers;
+        private final byte[] body;
+
+        Asset(Map<String, String> headers, byte[] body) {
+            this.headers = headers;
+            this.body = body;
+        }
+    }
+}
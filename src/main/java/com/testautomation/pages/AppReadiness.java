@@ -0,0 +1,127 @@
+package com.testautomation.pages;
+
+import com.microsoft.playwright.Page;
+import com.microsoft.playwright.PlaywrightException;
+import com.microsoft.playwright.TimeoutError;
+import com.microsoft.playwright.options.LoadState;
+import com.testautomation.config.ConfigManager;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Waits for application readiness signals instead of a network-idle heuristic. An app opts in by keeping a
+ * {@code window.__appReady} object whose keys are the signals raised so far and dispatching an
+ * {@code app:ready} event on {@code window} whenever it adds one (demo-app.html raises one per screen).
+ * The wait resolves in the page on that event, so it costs nothing once the screen is ready.
+ * <p>
+ * When a page object declares no {@link ReadySignals}, the app exposes no {@code __appReady}, or the signals do
+ * not fire within {@code ready.timeout.ms}, the fallback from {@code ready.fallback.<SimpleClassName>} (else
+ * {@code ready.fallback}) applies: {@code networkidle}, {@code load}, {@code domcontentloaded}, {@code none} or
+ * {@code fail}.
+ */
+public class AppReadiness {
+    private static final Logger logger = LogManager.getLogger(AppReadiness.class);
+    /**
+     * Resolves with the ms until every signal is present, the missing signal names on timeout, or null when
+     * the app exposes no readiness registry.
+     */
+    private static final String AWAIT_SCRIPT = "([signals, timeout]) => {"
+            + " const ready = window.__appReady;"
+            + " if (!ready) { return null; }"
+            + " const missing = () => signals.filter(signal => !(signal in ready));"
+            + " const start = performance.now();"
+            + " if (missing().length === 0) { return 0; }"
+            + " return new Promise(resolve => {"
+            + " const onSignal = () => { if (missing().length === 0) { done(performance.now() - start); } };"
+            + " const timer = setTimeout(() => done(missing().join(', ')), timeout);"
+            + " const done = result => { window.removeEventListener('app:ready', onSignal); clearTimeout(timer); resolve(result); };"
+            + " window.addEventListener('app:ready', onSignal);"
+            + " });"
+            + " }";
+
+    public static boolean isEnabled() {
+        return ConfigManager.getBooleanProperty("ready.signals.enabled", true);
+    }
+
+    /**
+     * @return signals declared by {@code pageClass} (or inherited), empty when none
+     */
+    public static List<String> signalsOf(Class<?> pageClass) {
+        for (Class<?> type = pageClass; type != null; type = type.getSuperclass()) {
+            ReadySignals signals = type.getAnnotation(ReadySignals.class);
+            if (signals != null) {
+                return Arrays.asList(signals.value());
+            }
+        }
+        return Collections.emptyList();
+    }
+
+    /**
+     * Waits until the screen of {@code pageClass} is ready on {@code page}.
+     *
+     * @return ms the signals took to fire in the page, or -1 when the fallback was used
+     * @throws TimeoutError if the signals do not fire and the fallback is {@code fail}
+     */
+    public static double await(Page page, Class<?> pageClass) {
+        List<String> signals = signalsOf(pageClass);
+        if (!isEnabled() || signals.isEmpty()) {
+            fallback(page, pageClass, "no readiness signals declared");
+            return -1;
+        }
+        int timeoutMs = ConfigManager.getIntProperty("ready.timeout.ms", 5000);
+        Object result;
+        try {
+            result = page.evaluate(AWAIT_SCRIPT, Arrays.asList(signals, timeoutMs));
+        } catch (PlaywrightException e) {
+            // A real navigation replaced the document while waiting: await the new one once it is parsed
+            logger.debug("Readiness wait interrupted for {}: {}", pageClass.getSimpleName(), e.getMessage());
+            page.waitForLoadState(LoadState.DOMCONTENTLOADED);
+            result = page.evaluate(AWAIT_SCRIPT, Arrays.asList(signals, timeoutMs));
+        }
+        if (result instanceof Number) {
+            double elapsedMs = ((Number) result).doubleValue();
+            logger.info("{} ready ({}) after {} ms", pageClass.getSimpleName(), String.join(", ", signals),
+                    String.format(Locale.ENGLISH, "%.1f", elapsedMs));
+            return elapsedMs;
+        }
+        if (result != null) {
+            logger.warn("{} readiness signal(s) {} not raised within {} ms", pageClass.getSimpleName(), result, timeoutMs);
+        }
+        fallback(page, pageClass, result == null ? "app exposes no readiness signals"
+                : "signal(s) " + result + " not raised within " + timeoutMs + " ms");
+        return -1;
+    }
+
+    static String fallbackFor(Class<?> pageClass) {
+        return ConfigManager.getProperty("ready.fallback." + pageClass.getSimpleName(),
+                ConfigManager.getProperty("ready.fallback", "networkidle")).trim().toLowerCase(Locale.ROOT);
+    }
+
+    private static void fallback(Page page, Class<?> pageClass, String reason) {
+        String fallback = fallbackFor(pageClass);
+        logger.debug("{}: {}, falling back to {}", pageClass.getSimpleName(), reason, fallback);
+        switch (fallback) {
+            case "networkidle":
+                page.waitForLoadState(LoadState.NETWORKIDLE);
+                break;
+            case "load":
+                page.waitForLoadState(LoadState.LOAD);
+                break;
+            case "domcontentloaded":
+                page.waitForLoadState(LoadState.DOMCONTENTLOADED);
+                break;
+            case "none":
+                break;
+            case "fail":
+                throw new TimeoutError(pageClass.getSimpleName() + " not ready: " + reason);
+            default:
+                throw new IllegalArgumentException("Unknown ready.fallback for " + pageClass.getSimpleName()
+                        + ": " + fallback);
+        }
+    }
+}
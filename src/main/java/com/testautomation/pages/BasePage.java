@@ -3,130 +3,384 @@ package com.testautomation.pages;
 import com.microsoft.playwright.*;
 import com.microsoft.playwright.options.WaitForSelectorState;
 import com.microsoft.playwright.options.LoadState;
+import com.testautomation.base.LocatorRegistry;
 import com.testautomation.base.PlaywrightManager;
 import com.testautomation.config.ConfigManager;
+import com.testautomation.metrics.ActionLatencyRegistry;
+import com.testautomation.metrics.SelectorProfiler;
+import com.testautomation.metrics.StepTracker;
+import com.testautomation.metrics.jfr.PageActionEvent;
+import com.testautomation.perf.WebPerfCollector;
 import com.testautomation.utils.ScreenshotUtil;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
 public abstract class BasePage {
+    // Step timing groups actions under the page-object methods (not BasePage's own helpers) on the call stack
+    private static final Predicate<StackWalker.StackFrame> PAGE_OBJECT_FRAME = frame ->
+            BasePage.class.isAssignableFrom(frame.getDeclaringClass()) && frame.getDeclaringClass() != BasePage.class
+                    && !frame.getMethodName().startsWith("lambda$");
+    /**
+     * Reads every selector in one evaluate. Visibility follows Playwright (non-empty box, not
+     * {@code visibility:hidden}); selectors the browser cannot parse as CSS come back unsupported.
+     */
+    private static final String SNAPSHOT_SCRIPT = "([selectors, attributes]) => selectors.map(selector => {"
+            + " let matches;"
+            + " try { matches = document.querySelectorAll(selector); } catch (e) { return { supported: false }; }"
+            + " const el = matches[0];"
+            + " if (!el) { return { supported: true, count: 0 }; }"
+            + " const rect = el.getBoundingClientRect();"
+            + " const attrs = {}; attributes.forEach(name => { attrs[name] = el.getAttribute(name); });"
+            + " return { supported: true, count: matches.length,"
+            + " visible: rect.width > 0 && rect.height > 0 && getComputedStyle(el).visibility !== 'hidden',"
+            + " enabled: !(el.disabled === true || el.getAttribute('aria-disabled') === 'true'"
+            + " || (el.closest('fieldset[disabled]') !== null && el.closest('legend') === null)),"
+            + " text: el.textContent, attributes: attrs };"
+            + " })";
+
+    private static final String CONDITION_CHECK = " const holds = el => el !== null && (attribute === null"
+            + " ? (el.textContent || '').includes(expected) : el.getAttribute(attribute) === expected);";
+    // Observes every attribute, not just the awaited one: a class or style change can make the selector itself
+    // start matching (e.g. :not(.hidden))
+    private static final String CONDITION_OBSERVE = " const start = performance.now();"
+            + " if (check()) { return 0; }"
+            + " return new Promise(resolve => {"
+            + " const observer = new MutationObserver(() => { if (check()) { done(performance.now() - start); } });"
+            + " const timer = setTimeout(() => done(-1), timeout);"
+            + " const done = elapsed => { observer.disconnect(); clearTimeout(timer); resolve(elapsed); };"
+            + " observer.observe(root, { childList: true, subtree: true, characterData: true, attributes: true });"
+            + " });";
+    /**
+     * Resolves with the ms until the first match satisfies the condition, -1 on timeout, or null when the
+     * selector is not plain CSS. The whole document is observed since the element may not exist yet.
+     */
+    private static final String DOCUMENT_CONDITION_SCRIPT = "([selector, attribute, expected, timeout]) => {"
+            + " try { document.querySelector(selector); } catch (e) { return null; }"
+            + CONDITION_CHECK
+            + " const root = document; const check = () => holds(document.querySelector(selector));"
+            + CONDITION_OBSERVE
+            + " }";
+    /**
+     * Same as {@link #DOCUMENT_CONDITION_SCRIPT} for an element Playwright already resolved.
+     */
+    private static final String ELEMENT_CONDITION_SCRIPT = "(el, [attribute, expected, timeout]) => {"
+            + CONDITION_CHECK
+            + " const root = el; const check = () => holds(el);"
+            + CONDITION_OBSERVE
+            + " }";
+
     protected final Logger logger = LogManager.getLogger(this.getClass());
 
     protected Page getPage() {
         return PlaywrightManager.getPage();
     }
 
+    /**
+     * @return the cached locator for {@code selector} on this page object (first match), see {@link LocatorRegistry}.
+     * In selector profiling mode the selector is measured first.
+     */
+    protected Locator locator(String selector) {
+        SelectorProfiler.probe(getPage(), getClass().getSimpleName(), selector);
+        return LocatorRegistry.get(getPage(), getClass(), selector);
+    }
+
+    /**
+     * Runs a page action as a timed step. Every action below goes through here (or {@link #timedResult}),
+     * which is what feeds the per-test step waterfall, the suite-wide latency histograms and the
+     * {@link PageActionEvent} JFR event.
+     */
+    protected void timed(String category, String action, String target, Runnable body) {
+        String pageClass = getClass().getSimpleName();
+        StepTracker.Step step = StepTracker.begin(category, action, target, PAGE_OBJECT_FRAME);
+        PageActionEvent event = new PageActionEvent(pageClass, action, target);
+        event.begin();
+        long start = System.nanoTime();
+        try {
+            body.run();
+        } finally {
+            ActionLatencyRegistry.record(pageClass, action, target, System.nanoTime() - start);
+            event.commit();
+            StepTracker.end(step);
+        }
+    }
+
+    protected <T> T timedResult(String category, String action, String target, Supplier<T> body) {
+        String pageClass = getClass().getSimpleName();
+        StepTracker.Step step = StepTracker.begin(category, action, target, PAGE_OBJECT_FRAME);
+        PageActionEvent event = new PageActionEvent(pageClass, action, target);
+        event.begin();
+        long start = System.nanoTime();
+        try {
+            return body.get();
+        } finally {
+            ActionLatencyRegistry.record(pageClass, action, target, System.nanoTime() - start);
+            event.commit();
+            StepTracker.end(step);
+        }
+    }
+
     protected void click(String selector) {
         logger.info("Clicking element: {}", selector);
-        getPage().click(selector);
+        timed("click", "click", selector, () -> locator(selector).click());
     }
 
     protected void fill(String selector, String value) {
         logger.info("Filling field: {} with value: {}", selector, value);
-        getPage().fill(selector, value);
+        timed("fill", "fill", selector, () -> locator(selector).fill(value));
     }
 
     protected void type(String selector, String value) {
         logger.info("Typing in field: {} with value: {}", selector, value);
-        getPage().fill(selector, value);
+        timed("fill", "type", selector, () -> locator(selector).fill(value));
     }
 
     protected String getText(String selector) {
         logger.info("Getting text from element: {}", selector);
-        return getPage().textContent(selector);
+        return timedResult("query", "getText", selector, () -> locator(selector).textContent());
     }
 
     protected boolean isVisible(String selector) {
         logger.info("Checking visibility of element: {}", selector);
-        return getPage().isVisible(selector);
+        return timedResult("query", "isVisible", selector, () -> locator(selector).isVisible());
     }
 
     protected boolean isEnabled(String selector) {
         logger.info("Checking if element is enabled: {}", selector);
-        return getPage().isEnabled(selector);
+        return timedResult("query", "isEnabled", selector, () -> locator(selector).isEnabled());
+    }
+
+    /**
+     * Reads visibility, enabled state and text of all {@code selectors} in a single round-trip to the page,
+     * instead of one driver call per element and state.
+     */
+    protected PageSnapshot snapshot(String... selectors) {
+        return snapshot(Collections.emptyList(), selectors);
+    }
+
+    /**
+     * Like {@link #snapshot(String...)}, also reading the named {@code attributes} of each element.
+     */
+    protected PageSnapshot snapshot(Collection<String> attributes, String... selectors) {
+        logger.info("Reading state of {} element(s) in one query", selectors.length);
+        List<String> attributeNames = new ArrayList<>(attributes);
+        return timedResult("query", "snapshot", String.join(" | ", selectors), () -> {
+            SelectorProfiler.probe(getPage(), getClass().getSimpleName(), selectors);
+            Object result = getPage().evaluate(SNAPSHOT_SCRIPT, Arrays.asList(Arrays.asList(selectors), attributeNames));
+            List<?> states = result instanceof List ? (List<?>) result : Collections.emptyList();
+            Map<String, PageSnapshot.ElementState> elements = new LinkedHashMap<>();
+            for (int i = 0; i < selectors.length; i++) {
+                Map<?, ?> state = i < states.size() && states.get(i) instanceof Map ? (Map<?, ?>) states.get(i) : null;
+                elements.put(selectors[i], state != null && Boolean.TRUE.equals(state.get("supported"))
+                        ? toElementState(selectors[i], state)
+                        : queryElementState(selectors[i], attributeNames));
+            }
+            logger.debug("Snapshot: {}", elements.values());
+            return new PageSnapshot(elements);
+        });
+    }
+
+    private static PageSnapshot.ElementState toElementState(String selector, Map<?, ?> state) {
+        int count = state.get("count") instanceof Number ? ((Number) state.get("count")).intValue() : 0;
+        Map<String, String> attributes = new HashMap<>();
+        if (state.get("attributes") instanceof Map) {
+            ((Map<?, ?>) state.get("attributes")).forEach((name, value) ->
+                    attributes.put(String.valueOf(name), value != null ? String.valueOf(value) : null));
+        }
+        return new PageSnapshot.ElementState(selector, count, Boolean.TRUE.equals(state.get("visible")),
+                Boolean.TRUE.equals(state.get("enabled")), (String) state.get("text"), attributes);
+    }
+
+    /**
+     * Fallback for Playwright-only selector syntax ({@code text=}, {@code >>}, {@code :has-text()}, ...).
+     */
+    private PageSnapshot.ElementState queryElementState(String selector, List<String> attributeNames) {
+        logger.debug("Selector {} is not plain CSS, querying it separately", selector);
+        int count = getPage().locator(selector).count();
+        if (count == 0) {
+            return new PageSnapshot.ElementState(selector, 0, false, false, null, Collections.emptyMap());
+        }
+        Locator first = LocatorRegistry.get(getPage(), getClass(), selector);
+        Map<String, String> attributes = new HashMap<>();
+        for (String name : attributeNames) {
+            attributes.put(name, first.getAttribute(name));
+        }
+        return new PageSnapshot.ElementState(selector, count, first.isVisible(), first.isEnabled(),
+                first.textContent(), attributes);
     }
 
     protected void waitForElement(String selector) {
         logger.info("Waiting for element: {}", selector);
-        getPage().waitForSelector(selector);
+        timed("wait", "waitForSelector", selector, () -> locator(selector).waitFor());
     }
 
     protected void waitForElement(String selector, int timeout) {
         logger.info("Waiting for element: {} with timeout: {}ms", selector, timeout);
-        getPage().waitForSelector(selector, new Page.WaitForSelectorOptions().setTimeout(timeout));
+        timed("wait", "waitForSelector", selector,
+                () -> locator(selector).waitFor(new Locator.WaitForOptions().setTimeout(timeout)));
     }
 
     protected void waitForUrl(String url) {
         logger.info("Waiting for URL: {}", url);
-        getPage().waitForURL(url);
+        timed("wait", "waitForUrl", url, () -> getPage().waitForURL(url));
     }
 
     protected void waitForLoadState() {
         logger.info("Waiting for page load state");
-        getPage().waitForLoadState();
+        timed("wait", "waitForLoadState", null, () -> getPage().waitForLoadState());
     }
 
     // Specific wait methods for better reliability
     protected void waitForElementToBeVisible(String selector) {
         logger.info("Waiting for element to be visible: {}", selector);
-        getPage().waitForSelector(selector, new Page.WaitForSelectorOptions().setState(WaitForSelectorState.VISIBLE));
+        timed("wait", "waitForSelector:visible", selector, () -> locator(selector).waitFor(
+                new Locator.WaitForOptions().setState(WaitForSelectorState.VISIBLE)));
     }
 
     protected void waitForElementToBeHidden(String selector) {
         logger.info("Waiting for element to be hidden: {}", selector);
-        getPage().waitForSelector(selector, new Page.WaitForSelectorOptions().setState(WaitForSelectorState.HIDDEN));
+        timed("wait", "waitForSelector:hidden", selector, () -> locator(selector).waitFor(
+                new Locator.WaitForOptions().setState(WaitForSelectorState.HIDDEN)));
     }
 
     protected void waitForElementToBeAttached(String selector) {
         logger.info("Waiting for element to be attached: {}", selector);
-        getPage().waitForSelector(selector, new Page.WaitForSelectorOptions().setState(WaitForSelectorState.ATTACHED));
+        timed("wait", "waitForSelector:attached", selector, () -> locator(selector).waitFor(
+                new Locator.WaitForOptions().setState(WaitForSelectorState.ATTACHED)));
     }
 
     protected void waitForElementToBeDetached(String selector) {
         logger.info("Waiting for element to be detached: {}", selector);
-        getPage().waitForSelector(selector, new Page.WaitForSelectorOptions().setState(WaitForSelectorState.DETACHED));
+        timed("wait", "waitForSelector:detached", selector, () -> locator(selector).waitFor(
+                new Locator.WaitForOptions().setState(WaitForSelectorState.DETACHED)));
     }
 
     protected void waitForElementWithTimeout(String selector, int timeoutMs) {
         logger.info("Waiting for element: {} with timeout: {}ms", selector, timeoutMs);
-        getPage().waitForSelector(selector, new Page.WaitForSelectorOptions().setTimeout(timeoutMs));
+        timed("wait", "waitForSelector", selector,
+                () -> locator(selector).waitFor(new Locator.WaitForOptions().setTimeout(timeoutMs)));
+    }
+
+    /**
+     * Waits until the first element matching {@code selector} has {@code text} in its text content.
+     *
+     * @return milliseconds the condition took to become true, measured in the page (0 if it already held)
+     * @throws TimeoutError if it does not hold within {@code app.timeout}
+     */
+    protected double waitForElementToContainText(String selector, String text) {
+        return waitForElementToContainText(selector, text, ConfigManager.getIntProperty("app.timeout", 30000));
     }
 
-    protected void waitForElementToContainText(String selector, String text) {
+    protected double waitForElementToContainText(String selector, String text, int timeoutMs) {
         logger.info("Waiting for element {} to contain text: {}", selector, text);
-        // Wait for element to be visible first, then check text content
-        waitForElementToBeVisible(selector);
-        // Additional wait for text content to be loaded
-        waitForJavaScriptExecution();
+        return timedResult("wait", "waitForText", selector,
+                () -> waitForCondition(selector, null, text, timeoutMs));
     }
 
-    protected void waitForElementToHaveAttribute(String selector, String attribute, String value) {
+    /**
+     * Waits until the first element matching {@code selector} has {@code attribute} set to exactly {@code value}.
+     *
+     * @return milliseconds the condition took to become true, measured in the page (0 if it already held)
+     * @throws TimeoutError if it does not hold within {@code app.timeout}
+     */
+    protected double waitForElementToHaveAttribute(String selector, String attribute, String value) {
+        return waitForElementToHaveAttribute(selector, attribute, value,
+                ConfigManager.getIntProperty("app.timeout", 30000));
+    }
+
+    protected double waitForElementToHaveAttribute(String selector, String attribute, String value, int timeoutMs) {
         logger.info("Waiting for element {} to have attribute {}={}", selector, attribute, value);
-        // Wait for element to be visible first, then check attribute
-        waitForElementToBeVisible(selector);
-        // Additional wait for attributes to be set
-        waitForJavaScriptExecution();
+        return timedResult("wait", "waitForAttribute", selector,
+                () -> waitForCondition(selector, attribute, value, timeoutMs));
+    }
+
+    /**
+     * Text ({@code attribute == null}) or attribute condition, resolved in the page by a MutationObserver so
+     * the wait ends on the DOM change itself rather than on a poll from Java.
+     */
+    private double waitForCondition(String selector, String attribute, String expected, int timeoutMs) {
+        SelectorProfiler.probe(getPage(), getClass().getSimpleName(), selector);
+        String condition = attribute == null ? "text '" + expected + "'" : attribute + "=" + expected;
+        Object result = getPage().evaluate(DOCUMENT_CONDITION_SCRIPT,
+                Arrays.asList(selector, attribute, expected, timeoutMs));
+        if (result == null) {
+            // Playwright-only selector syntax: wait for the element, then observe that element
+            logger.debug("Selector {} is not plain CSS, observing the matched element", selector);
+            long start = System.nanoTime();
+            Locator element = LocatorRegistry.get(getPage(), getClass(), selector);
+            element.waitFor(new Locator.WaitForOptions().setState(WaitForSelectorState.ATTACHED).setTimeout(timeoutMs));
+            long attachedMs = (System.nanoTime() - start) / 1_000_000;
+            Object observed = element.evaluate(ELEMENT_CONDITION_SCRIPT,
+                    Arrays.asList(attribute, expected, Math.max(0, timeoutMs - attachedMs)));
+            result = observed instanceof Number && ((Number) observed).doubleValue() >= 0
+                    ? attachedMs + ((Number) observed).doubleValue() : observed;
+        }
+        double elapsedMs = result instanceof Number ? ((Number) result).doubleValue() : -1;
+        if (elapsedMs < 0) {
+            throw new TimeoutError(String.format("Timeout %d ms exceeded waiting for %s to have %s",
+                    timeoutMs, selector, condition));
+        }
+        logger.info("Element {} has {} after {} ms", selector, condition, String.format("%.1f", elapsedMs));
+        return elapsedMs;
     }
 
     protected void waitForUrlToContain(String urlPart) {
         logger.info("Waiting for URL to contain: {}", urlPart);
-        getPage().waitForURL("**/*" + urlPart + "*");
+        timed("wait", "waitForUrl", urlPart, () -> getPage().waitForURL("**/*" + urlPart + "*"));
+    }
+
+    /**
+     * Waits until this page object's screen is ready, by its {@link ReadySignals} or the configured
+     * {@code ready.fallback} (see {@link AppReadiness}).
+     *
+     * @return ms the readiness signals took in the page, or -1 when the fallback was used
+     */
+    protected double waitForNavigation() {
+        return waitForNavigation(getClass());
     }
 
-    protected void waitForNavigation() {
-        logger.info("Waiting for navigation to complete");
-        getPage().waitForLoadState(LoadState.NETWORKIDLE);
+    /**
+     * Like {@link #waitForNavigation()} for the page object an action navigates to.
+     */
+    protected double waitForNavigation(Class<? extends BasePage> target) {
+        logger.info("Waiting for navigation to {} to complete", target.getSimpleName());
+        return timedResult("wait", "waitForNavigation", target.getSimpleName(),
+                () -> AppReadiness.await(getPage(), target));
     }
 
     protected void waitForJavaScriptExecution() {
         logger.info("Waiting for JavaScript execution to complete");
-        getPage().waitForLoadState(LoadState.DOMCONTENTLOADED);
+        timed("wait", "waitForDomContentLoaded", null, () -> getPage().waitForLoadState(LoadState.DOMCONTENTLOADED));
     }
 
     protected void navigateTo(String url) {
         logger.info("Navigating to: {}", url);
-        getPage().navigate(url);
-        waitForLoadState();
+        timed("navigate", "navigate", url, () -> {
+            getPage().navigate(url);
+            waitForLoadState();
+        });
+    }
+
+    /**
+     * Page-load checkpoint: samples web performance metrics for this page object when
+     * {@code perf.metrics.enabled=true} (never for load-mode virtual users). Call it once the page is
+     * visibly loaded.
+     */
+    protected void capturePagePerformance() {
+        if (WebPerfCollector.isEnabled() && !PlaywrightManager.isVirtualUser()) {
+            timed("query", "capturePerformance", null,
+                    () -> WebPerfCollector.capture(getPage(), getClass().getSimpleName()));
+        }
     }
 
     protected String getCurrentUrl() {
@@ -142,7 +396,12 @@ public abstract class BasePage {
     }
 
     protected String takeScreenshot(String stepName) {
-        String screenshotPath = ScreenshotUtil.takeScreenshot(getPage(), this.getClass().getSimpleName(), stepName);
+        if (PlaywrightManager.isVirtualUser()) {
+            // Load-mode virtual users measure the journey, not the UI
+            return null;
+        }
+        String screenshotPath = timedResult("screenshot", "screenshot", stepName,
+                () -> ScreenshotUtil.takeScreenshot(getPage(), this.getClass().getSimpleName(), stepName));
         if (screenshotPath != null) {
             logger.info("Screenshot taken for step: {}", stepName);
         }
@@ -150,12 +409,16 @@ public abstract class BasePage {
     }
 
     protected String takeScreenshotAndCompareWithBaseline(String stepName) {
+        if (PlaywrightManager.isVirtualUser()) {
+            return null;
+        }
         waitForScreenshotStabilization();
         String screenshotPath = takeScreenshot(stepName);
         if (screenshotPath != null) {
             double allowedDiff = ConfigManager.getDoubleProperty("screenshot.diff.max.percentage", 0.0);
             String baselineKey = String.format("%s/%s", this.getClass().getSimpleName(), stepName);
-            ScreenshotUtil.assertScreenshotMatchesBaseline(screenshotPath, baselineKey, allowedDiff);
+            timed("screenshot", "compareWithBaseline", baselineKey,
+                    () -> ScreenshotUtil.assertScreenshotMatchesBaseline(screenshotPath, baselineKey, allowedDiff));
         }
         return screenshotPath;
     }
@@ -167,7 +430,12 @@ public abstract class BasePage {
         }
         try {
             logger.debug("Waiting {} ms before taking screenshot to stabilize UI", delayMs);
-            Thread.sleep(delayMs);
+            StepTracker.Step step = StepTracker.begin("wait", "screenshotStabilization", delayMs + "ms", PAGE_OBJECT_FRAME);
+            try {
+                Thread.sleep(delayMs);
+            } finally {
+                StepTracker.end(step);
+            }
         } catch (InterruptedException e) {
             Thread.currentThread().interrupt();
             logger.warn("Screenshot stabilization wait interrupted", e);
@@ -176,51 +444,51 @@ public abstract class BasePage {
 
     protected void scrollToElement(String selector) {
         logger.info("Scrolling to element: {}", selector);
-        getPage().locator(selector).scrollIntoViewIfNeeded();
+        timed("interaction", "scroll", selector, () -> locator(selector).scrollIntoViewIfNeeded());
     }
 
     protected void hover(String selector) {
         logger.info("Hovering over element: {}", selector);
-        getPage().hover(selector);
+        timed("interaction", "hover", selector, () -> locator(selector).hover());
     }
 
     protected void doubleClick(String selector) {
         logger.info("Double clicking element: {}", selector);
-        getPage().locator(selector).dblclick();
+        timed("click", "doubleClick", selector, () -> locator(selector).dblclick());
     }
 
 
     protected void selectOption(String selector, String value) {
         logger.info("Selecting option: {} from: {}", value, selector);
-        getPage().selectOption(selector, value);
+        timed("fill", "selectOption", selector, () -> locator(selector).selectOption(value));
     }
 
     protected void check(String selector) {
         logger.info("Checking checkbox: {}", selector);
-        getPage().check(selector);
+        timed("click", "check", selector, () -> locator(selector).check());
     }
 
     protected void uncheck(String selector) {
         logger.info("Unchecking checkbox: {}", selector);
-        getPage().uncheck(selector);
+        timed("click", "uncheck", selector, () -> locator(selector).uncheck());
     }
 
     protected boolean isChecked(String selector) {
         logger.info("Checking if checkbox is checked: {}", selector);
-        return getPage().isChecked(selector);
+        return timedResult("query", "isChecked", selector, () -> locator(selector).isChecked());
     }
 
     public void waitForErrorMessage() {
         logger.info("Waiting for error message to appear");
         // Wait for the error element to be visible
-        getPage().waitForSelector("#login-error:not([style*='display: none'])", 
-            new Page.WaitForSelectorOptions().setTimeout(5000));
+        timed("wait", "waitForErrorMessage", "#login-error", () -> locator(
+                "#login-error:not([style*='display: none'])").waitFor(new Locator.WaitForOptions().setTimeout(5000)));
     }
 
     public void waitForSuccessMessage() {
         logger.info("Waiting for success message to appear");
         // Wait for the success element to be visible
-        getPage().waitForSelector("#login-success:not([style*='display: none'])", 
-            new Page.WaitForSelectorOptions().setTimeout(5000));
+        timed("wait", "waitForSuccessMessage", "#login-success", () -> locator(
+                "#login-success:not([style*='display: none'])").waitFor(new Locator.WaitForOptions().setTimeout(5000)));
     }
 }
@@ -5,6 +5,7 @@ import com.testautomation.utils.ExtentReportManager;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
+@ReadySignals("dashboard")
 public class DashboardPage extends BasePage {
     private static final Logger logger = LogManager.getLogger(DashboardPage.class);
 
@@ -19,6 +20,7 @@ public class DashboardPage extends BasePage {
     private static final String DASHBOARD_CONTENT = "#dashboard-page .dashboard-content";
     private static final String STATS_SECTION = "#dashboard-page .stats";
     private static final String RECENT_ACTIVITY = "#dashboard-page .recent-activity";
+    @SelectorExpectation(optional = true)
     private static final String NOTIFICATIONS = "#dashboard-page .notifications";
     private static final String SEARCH_BOX = "#dashboard-page #search";
     private static final String SEARCH_BUTTON = "#dashboard-page .search-form button[type='submit']";
@@ -29,7 +31,7 @@ public class DashboardPage extends BasePage {
 
     public boolean isPageLoaded() {
         logger.info("Checking if dashboard page is loaded");
-        boolean isLoaded = isVisible(DASHBOARD_TITLE) || isVisible(DASHBOARD_CONTENT);
+        boolean isLoaded = snapshot(DASHBOARD_TITLE, DASHBOARD_CONTENT).anyVisible(DASHBOARD_TITLE, DASHBOARD_CONTENT);
         ExtentReportManager.logInfo("Dashboard page loaded: " + isLoaded);
         return isLoaded;
     }
@@ -67,12 +69,7 @@ public class DashboardPage extends BasePage {
         logger.info("Clicking logout button");
         takeScreenshot("before_logout_click");
         click(LOGOUT_BUTTON);
-        
-        // Wait for the landing page section to become visible (since it's a single-page app)
-        waitForElementToBeVisible("#landing-page:not(.hidden)");
-        waitForElementToBeVisible("#landing-page h1");
-        waitForElementToBeVisible("#landing-page .login-btn");
-        
+        waitForNavigation(LandingPage.class);
         takeScreenshot("after_logout_click");
         ExtentReportManager.logInfo("Logout button clicked successfully");
         return new LandingPage();
@@ -196,11 +193,8 @@ public class DashboardPage extends BasePage {
 
     public void waitForPageToLoad() {
         logger.info("Waiting for dashboard page to load completely");
-        // Wait for the dashboard page section to be visible (not hidden)
-        waitForElementToBeVisible("#dashboard-page:not(.hidden)");
-        waitForElementToBeVisible(DASHBOARD_TITLE);
-        waitForElementToBeVisible(USER_MENU);
-        waitForElementToBeVisible(SEARCH_BOX);
+        waitForNavigation();
+        capturePagePerformance();
         takeScreenshot("dashboard_page_loaded");
         ExtentReportManager.logInfo("Dashboard page loaded completely");
     }
@@ -5,13 +5,17 @@ import com.testautomation.utils.ExtentReportManager;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
+@ReadySignals("landing")
 public class LandingPage extends BasePage {
     private static final Logger logger = LogManager.getLogger(LandingPage.class);
 
     // Page Elements
+    @SelectorExpectation(multiple = true)
     private static final String LOGIN_BUTTON = "a[href*='login'], button:has-text('Login'), .login-btn";
     private static final String SIGNUP_BUTTON = "a[href*='signup'], button:has-text('Sign Up'), .signup-btn";
+    @SelectorExpectation(multiple = true)
     private static final String PAGE_TITLE = "h1, .page-title, .hero-title";
+    @SelectorExpectation(multiple = true)
     private static final String NAVIGATION_MENU = ".nav-menu, .navigation, nav";
     private static final String HERO_SECTION = ".hero, .landing-hero, .banner";
     private static final String FOOTER = "footer, .footer";
@@ -22,7 +26,7 @@ public class LandingPage extends BasePage {
 
     public boolean isPageLoaded() {
         logger.info("Checking if landing page is loaded");
-        boolean isLoaded = isVisible(PAGE_TITLE) || isVisible(HERO_SECTION);
+        boolean isLoaded = snapshot(PAGE_TITLE, HERO_SECTION).anyVisible(PAGE_TITLE, HERO_SECTION);
         ExtentReportManager.logInfo("Landing page loaded: " + isLoaded);
         return isLoaded;
     }
@@ -52,12 +56,7 @@ public class LandingPage extends BasePage {
         logger.info("Clicking login button");
         takeScreenshot("before_login_click");
         click(LOGIN_BUTTON);
-        
-        // Wait for the login form to become visible (since it's a single-page app)
-        waitForElementToBeVisible("#login-page:not(.hidden)");
-        waitForElementToBeVisible("#email");
-        waitForElementToBeVisible("#password");
-        
+        waitForNavigation(LoginPage.class);
         takeScreenshot("after_login_click");
         ExtentReportManager.logInfo("Login button clicked successfully");
         return new LoginPage();
@@ -108,11 +107,8 @@ public class LandingPage extends BasePage {
 
     public void waitForPageToLoad() {
         logger.info("Waiting for landing page to load completely");
-        // Wait for the landing page section to be visible (not hidden)
-        waitForElementToBeVisible("#landing-page:not(.hidden)");
-        waitForElementToBeVisible(PAGE_TITLE);
-        waitForElementToBeVisible(LOGIN_BUTTON);
-        waitForElementToBeVisible(SIGNUP_BUTTON);
+        waitForNavigation();
+        capturePagePerformance();
         //takeScreenshot("landing_page_loaded");
         captureScreenshotAndCompareWithBaseline("landing_page");
         ExtentReportManager.logInfo("Landing page loaded completely");
@@ -4,6 +4,7 @@ import com.testautomation.utils.ExtentReportManager;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
+@ReadySignals("login")
 public class LoginPage extends BasePage {
     private static final Logger logger = LogManager.getLogger(LoginPage.class);
 
@@ -15,6 +16,7 @@ public class LoginPage extends BasePage {
     private static final String FORGOT_PASSWORD_LINK = "a[onclick='showForgotPassword()']";
     private static final String ERROR_MESSAGE = "#login-error";
     private static final String SUCCESS_MESSAGE = ".success, .alert-success, .login-success";
+    @SelectorExpectation(multiple = true)
     private static final String PAGE_TITLE = "h1, h2, .page-title, .login-title";
     private static final String BACK_TO_HOME_LINK = "a[onclick='showLanding()']";
 
@@ -24,7 +26,8 @@ public class LoginPage extends BasePage {
 
     public boolean isPageLoaded() {
         logger.info("Checking if login page is loaded");
-        boolean isLoaded = isVisible(EMAIL_FIELD) && isVisible(PASSWORD_FIELD) && isVisible(LOGIN_BUTTON);
+        boolean isLoaded = snapshot(EMAIL_FIELD, PASSWORD_FIELD, LOGIN_BUTTON)
+                .allVisible(EMAIL_FIELD, PASSWORD_FIELD, LOGIN_BUTTON);
         ExtentReportManager.logInfo("Login page loaded: " + isLoaded);
         return isLoaded;
     }
@@ -56,12 +59,8 @@ public class LoginPage extends BasePage {
         logger.info("Clicking login button");
         takeScreenshot("before_login_submit");
         click(LOGIN_BUTTON);
-        
-        // Wait for the dashboard section to become visible (since it's a single-page app)
-        waitForElementToBeVisible("#dashboard-page:not(.hidden)");
-        waitForElementToBeVisible("#dashboard-page h1");
-        waitForElementToBeVisible("#dashboard-page .user-menu button");
-        
+        // Resolves when the app raises the dashboard's readiness signal (after its post-login delay)
+        waitForNavigation(DashboardPage.class);
         takeScreenshot("after_login_submit");
         ExtentReportManager.logInfo("Login button clicked successfully");
         return new DashboardPage();
@@ -155,12 +154,7 @@ public class LoginPage extends BasePage {
         logger.info("Clicking back to home link");
         takeScreenshot("before_back_to_home");
         click(BACK_TO_HOME_LINK);
-        
-        // Wait for the landing page section to become visible (since it's a single-page app)
-        waitForElementToBeVisible("#landing-page:not(.hidden)");
-        waitForElementToBeVisible("#landing-page h1");
-        waitForElementToBeVisible("#landing-page .login-btn");
-        
+        waitForNavigation(LandingPage.class);
         takeScreenshot("after_back_to_home");
         ExtentReportManager.logInfo("Back to home link clicked");
         return new LandingPage();
@@ -184,12 +178,8 @@ public class LoginPage extends BasePage {
 
     public void waitForPageToLoad() {
         logger.info("Waiting for login page to load completely");
-        // Wait for the login page section to be visible (not hidden)
-        waitForElementToBeVisible("#login-page:not(.hidden)");
-        waitForElementToBeVisible(EMAIL_FIELD);
-        waitForElementToBeVisible(PASSWORD_FIELD);
-        waitForElementToBeVisible(LOGIN_BUTTON);
-        waitForElementToBeVisible(REMEMBER_ME_CHECKBOX);
+        waitForNavigation();
+        capturePagePerformance();
         takeScreenshot("login_page_loaded");
         ExtentReportManager.logInfo("Login page loaded completely");
     }
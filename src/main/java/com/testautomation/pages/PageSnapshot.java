@@ -0,0 +1,111 @@
+package com.testautomation.pages;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * State of a set of selectors read in one round-trip by {@link BasePage#snapshot}. Like the single-element
+ * queries on {@link BasePage}, each state describes the first element the selector matches.
+ */
+public class PageSnapshot {
+    private final Map<String, ElementState> elements;
+
+    PageSnapshot(Map<String, ElementState> elements) {
+        this.elements = Collections.unmodifiableMap(new LinkedHashMap<>(elements));
+    }
+
+    /**
+     * @throws IllegalArgumentException if {@code selector} was not part of the snapshot
+     */
+    public ElementState get(String selector) {
+        ElementState state = elements.get(selector);
+        if (state == null) {
+            throw new IllegalArgumentException("Selector not in snapshot: " + selector);
+        }
+        return state;
+    }
+
+    public boolean isVisible(String selector) {
+        return get(selector).isVisible();
+    }
+
+    public boolean allVisible(String... selectors) {
+        return Arrays.stream(selectors).allMatch(this::isVisible);
+    }
+
+    public boolean anyVisible(String... selectors) {
+        return Arrays.stream(selectors).anyMatch(this::isVisible);
+    }
+
+    public Map<String, ElementState> getElements() {
+        return elements;
+    }
+
+    @Override
+    public String toString() {
+        return elements.values().toString();
+    }
+
+    public static class ElementState {
+        private final String selector;
+        private final int count;
+        private final boolean visible;
+        private final boolean enabled;
+        private final String text;
+        private final Map<String, String> attributes;
+
+        ElementState(String selector, int count, boolean visible, boolean enabled, String text,
+                     Map<String, String> attributes) {
+            this.selector = selector;
+            this.count = count;
+            this.visible = visible;
+            this.enabled = enabled;
+            this.text = text;
+            this.attributes = Collections.unmodifiableMap(attributes);
+        }
+
+        public String getSelector() {
+            return selector;
+        }
+
+        /**
+         * @return how many elements the selector matched
+         */
+        public int getCount() {
+            return count;
+        }
+
+        public boolean isPresent() {
+            return count > 0;
+        }
+
+        public boolean isVisible() {
+            return visible;
+        }
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        /**
+         * @return the text content, or null when nothing matched
+         */
+        public String getText() {
+            return text;
+        }
+
+        /**
+         * @return the requested attribute, or null when it is absent or nothing matched
+         */
+        public String getAttribute(String name) {
+            return attributes.get(name);
+        }
+
+        @Override
+        public String toString() {
+            return selector + " [count=" + count + ", visible=" + visible + ", enabled=" + enabled + "]";
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package com.testautomation.pages;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Readiness signals the app raises once this page object's screen is usable, awaited by
+ * {@link BasePage#waitForNavigation()} (see {@link AppReadiness}). Page objects without signals use the
+ * configured load-state fallback.
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.TYPE)
+public @interface ReadySignals {
+    /**
+     * Signal names; all of them must have fired.
+     */
+    String[] value();
+}
@@ -0,0 +1,29 @@
+package com.testautomation.pages;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Relaxes the startup selector check ({@link SelectorPreflight}) for a selector constant, or for every
+ * constant of a page object when put on the class. By default a selector must match exactly one element.
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.FIELD, ElementType.TYPE})
+public @interface SelectorExpectation {
+    /**
+     * The element may be missing from the app page (e.g. only rendered after an action).
+     */
+    boolean optional() default false;
+
+    /**
+     * Several matches are expected; the page object uses the first.
+     */
+    boolean multiple() default false;
+
+    /**
+     * The constant is not a selector.
+     */
+    boolean skip() default false;
+}
@@ -0,0 +1,230 @@
+package com.testautomation.pages;
+
+import com.microsoft.playwright.Page;
+import com.microsoft.playwright.PlaywrightException;
+import com.testautomation.config.ConfigManager;
+import com.testautomation.server.AppServer;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.IOException;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.net.JarURLConnection;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Enumeration;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.jar.JarFile;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Pre-flight check run before the suite ({@code selector.preflight.enabled}): finds every {@link BasePage}
+ * subclass in {@code selector.preflight.packages}, collects its {@code static final String} selector
+ * constants and resolves them all against the loaded app in one evaluate. Selectors that match nothing
+ * or several elements fail the suite up front instead of each one costing an {@code app.timeout} later;
+ * {@link SelectorExpectation} marks the exceptions. Selectors that are not plain CSS are counted through
+ * Playwright one by one.
+ */
+public class SelectorPreflight {
+    private static final Logger logger = LogManager.getLogger(SelectorPreflight.class);
+    private static final String COUNT_SCRIPT = "selectors => selectors.map(selector => {"
+            + " try { return document.querySelectorAll(selector).length; } catch (e) { return null; }"
+            + " })";
+
+    public static boolean isEnabled() {
+        return ConfigManager.getBooleanProperty("selector.preflight.enabled", true);
+    }
+
+    /**
+     * Loads the app on {@code page} and checks every page object selector.
+     *
+     * @throws AssertionError listing every problem when {@code selector.preflight.fail=true}
+     */
+    public static void run(Page page) {
+        if (!isEnabled() || page == null) {
+            return;
+        }
+        long start = System.nanoTime();
+        List<SelectorConstant> constants = collect(findPageClasses());
+        if (constants.isEmpty()) {
+            logger.info("Selector preflight: no page object selectors found");
+            return;
+        }
+        String appUrl = AppServer.getAppUrl() != null ? AppServer.getAppUrl() : ConfigManager.getProperty("app.url");
+        try {
+            page.navigate(appUrl);
+            page.waitForLoadState();
+        } catch (PlaywrightException e) {
+            throw new AssertionError("Selector preflight could not load the app at " + appUrl, e);
+        }
+
+        List<String> problems = check(page, constants);
+        logger.info("Selector preflight checked {} selector(s) in {} ms: {} problem(s)", constants.size(),
+                (System.nanoTime() - start) / 1_000_000, problems.size());
+        problems.forEach(problem -> logger.error("Selector preflight: {}", problem));
+        if (!problems.isEmpty() && ConfigManager.getBooleanProperty("selector.preflight.fail", true)) {
+            throw new AssertionError(problems.size() + " broken page object selector(s): " + String.join("; ", problems));
+        }
+    }
+
+    static List<String> check(Page page, List<SelectorConstant> constants) {
+        List<String> selectors = constants.stream().map(constant -> constant.selector).distinct()
+                .collect(Collectors.toList());
+        Object result = page.evaluate(COUNT_SCRIPT, selectors);
+        List<?> counts = result instanceof List ? (List<?>) result : Collections.emptyList();
+        List<String> problems = new ArrayList<>();
+        for (SelectorConstant constant : constants) {
+            int index = selectors.indexOf(constant.selector);
+            Object count = index < counts.size() ? counts.get(index) : null;
+            int matches;
+            if (count instanceof Number) {
+                matches = ((Number) count).intValue();
+            } else {
+                try {
+                    matches = page.locator(constant.selector).count();
+                } catch (PlaywrightException e) {
+                    problems.add(constant + " is not a valid selector: " + firstLine(e.getMessage()));
+                    continue;
+                }
+            }
+            String problem = constant.problem(matches);
+            if (problem != null) {
+                problems.add(problem);
+            } else {
+                logger.debug("Selector preflight: {} matched {}", constant, matches);
+            }
+        }
+        return problems;
+    }
+
+    static List<SelectorConstant> collect(List<Class<?>> pageClasses) {
+        List<SelectorConstant> constants = new ArrayList<>();
+        for (Class<?> pageClass : pageClasses) {
+            SelectorExpectation classExpectation = pageClass.getAnnotation(SelectorExpectation.class);
+            for (Field field : pageClass.getDeclaredFields()) {
+                int modifiers = field.getModifiers();
+                if (!Modifier.isStatic(modifiers) || !Modifier.isFinal(modifiers) || field.getType() != String.class) {
+                    continue;
+                }
+                SelectorExpectation expectation = field.getAnnotation(SelectorExpectation.class);
+                if (expectation == null) {
+                    expectation = classExpectation;
+                }
+                if (expectation != null && expectation.skip()) {
+                    continue;
+                }
+                try {
+                    field.setAccessible(true);
+                    constants.add(new SelectorConstant(pageClass.getSimpleName() + "." + field.getName(),
+                            (String) field.get(null), expectation));
+                } catch (IllegalAccessException | RuntimeException e) {
+                    logger.warn("Cannot read selector {}.{}", pageClass.getSimpleName(), field.getName(), e);
+                }
+            }
+        }
+        return constants;
+    }
+
+    /**
+     * @return {@link BasePage} subclasses found on the classpath (directories and jars) in the configured packages
+     */
+    static List<Class<?>> findPageClasses() {
+        Set<String> classNames = new LinkedHashSet<>();
+        ClassLoader loader = SelectorPreflight.class.getClassLoader();
+        String packages = ConfigManager.getProperty("selector.preflight.packages", BasePage.class.getPackage().getName());
+        for (String packageName : Arrays.asList(packages.split("\\s*,\\s*"))) {
+            String path = packageName.replace('.', '/');
+            try {
+                Enumeration<URL> roots = loader.getResources(path);
+                while (roots.hasMoreElements()) {
+                    classNames.addAll(listClasses(roots.nextElement(), path));
+                }
+            } catch (IOException | URISyntaxException e) {
+                logger.warn("Could not scan package {} for page objects", packageName, e);
+            }
+        }
+        List<Class<?>> pageClasses = new ArrayList<>();
+        for (String className : classNames) {
+            try {
+                Class<?> type = Class.forName(className, false, loader);
+                if (BasePage.class.isAssignableFrom(type) && type != BasePage.class) {
+                    pageClasses.add(type);
+                }
+            } catch (ClassNotFoundException | LinkageError e) {
+                logger.debug("Skipping {}", className, e);
+            }
+        }
+        pageClasses.sort(Comparator.comparing(Class::getName));
+        return pageClasses;
+    }
+
+    private static List<String> listClasses(URL root, String path) throws IOException, URISyntaxException {
+        List<String> names = new ArrayList<>();
+        if ("file".equals(root.getProtocol())) {
+            Path dir = Paths.get(root.toURI());
+            try (Stream<Path> files = Files.walk(dir)) {
+                files.map(file -> dir.relativize(file).toString().replace('\\', '/'))
+                        .filter(name -> name.endsWith(".class") && !name.contains("$"))
+                        .forEach(name -> names.add(toClassName(path + "/" + name)));
+            }
+        } else if ("jar".equals(root.getProtocol())) {
+            JarURLConnection connection = (JarURLConnection) root.openConnection();
+            // Uncached, so closing it does not close the jar the class loader is reading from
+            connection.setUseCaches(false);
+            try (JarFile jar = connection.getJarFile()) {
+                jar.stream().map(entry -> entry.getName())
+                        .filter(name -> name.startsWith(path + "/") && name.endsWith(".class") && !name.contains("$"))
+                        .forEach(name -> names.add(toClassName(name)));
+            }
+        }
+        return names;
+    }
+
+    private static String toClassName(String resource) {
+        return resource.substring(0, resource.length() - ".class".length()).replace('/', '.');
+    }
+
+    private static String firstLine(String message) {
+        return message == null ? "" : message.split("\n")[0];
+    }
+
+    static class SelectorConstant {
+        private final String name;
+        private final String selector;
+        private final boolean optional;
+        private final boolean multiple;
+
+        SelectorConstant(String name, String selector, SelectorExpectation expectation) {
+            this.name = name;
+            this.selector = selector;
+            this.optional = expectation != null && expectation.optional();
+            this.multiple = expectation != null && expectation.multiple();
+        }
+
+        String problem(int matches) {
+            if (matches == 0 && !optional) {
+                return this + " matches nothing";
+            }
+            if (matches > 1 && !multiple) {
+                return this + " matches " + matches + " elements where one is expected";
+            }
+            return null;
+        }
+
+        @Override
+        public String toString() {
+            return name + " (" + selector + ")";
+        }
+    }
+}
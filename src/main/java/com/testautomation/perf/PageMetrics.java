@@ -0,0 +1,71 @@
+package com.testautomation.perf;
+
+import com.testautomation.base.EmulationManager;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.StringJoiner;
+
+/**
+ * One web performance sample taken at a page-object checkpoint.
+ */
+public class PageMetrics {
+    private final String pageClass;
+    private final String profile;
+    private final String url;
+    private final long timestamp;
+    private final Map<WebPerfMetric, Double> values;
+
+    public PageMetrics(String pageClass, String profile, String url, Map<WebPerfMetric, Double> values) {
+        this.pageClass = pageClass;
+        this.profile = profile;
+        this.url = url;
+        this.timestamp = System.currentTimeMillis();
+        this.values = values.isEmpty() ? new EnumMap<>(WebPerfMetric.class) : new EnumMap<>(values);
+    }
+
+    public String getPageClass() {
+        return pageClass;
+    }
+
+    /**
+     * Emulation profile active when the sample was taken ({@code none} when unthrottled).
+     */
+    public String getProfile() {
+        return profile;
+    }
+
+    /**
+     * Page class, qualified with the emulation profile when one was active, so throttled runs are
+     * compared only with runs under the same profile.
+     */
+    public String getHistoryKey() {
+        return EmulationManager.qualify(pageClass, profile);
+    }
+
+    public String getUrl() {
+        return url;
+    }
+
+    public long getTimestamp() {
+        return timestamp;
+    }
+
+    public Map<WebPerfMetric, Double> getValues() {
+        return Collections.unmodifiableMap(values);
+    }
+
+    /**
+     * @return the value, or null when the browser did not report it (e.g. JS heap outside Chromium)
+     */
+    public Double get(WebPerfMetric metric) {
+        return values.get(metric);
+    }
+
+    public String describe() {
+        StringJoiner joiner = new StringJoiner(", ");
+        values.forEach((metric, value) -> joiner.add(metric.getLabel() + " " + metric.format(value)));
+        return joiner.toString();
+    }
+}
@@ -0,0 +1,163 @@
+package com.testautomation.perf;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * One entry of the performance budget file. A budget is either
+ * <ul>
+ *     <li>a step budget: {@code step} (a page-object method such as {@code LoginPage.login} or an action
+ *     such as {@code click}) must take at most {@code maxMs};</li>
+ *     <li>a journey budget: from the start of {@code from} to the end of the next {@code to} must take at most
+ *     {@code maxMs};</li>
+ *     <li>a page metric budget: {@link WebPerfMetric} {@code metric} on {@code page} must stay at or under {@code max}.</li>
+ * </ul>
+ * Durations are compared at {@code percentile} over all occurrences in the test (the slowest one when unset).
+ * {@code excludeCategories} (e.g. {@code screenshot}) removes framework time from measured durations.
+ * {@code tests} limits the budget to {@code TestClass.method} patterns; {@code *} matches any part.
+ * {@code profiles} lists the emulation profiles the budget holds under; by default only unthrottled runs
+ * ({@code none}) are checked, {@code *} means every profile.
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class PerformanceBudget {
+    private String name;
+    private List<String> tests = Collections.singletonList("*");
+    private String step;
+    private String from;
+    private String to;
+    private Double percentile;
+    private Double maxMs;
+    private String page;
+    private String metric;
+    private Double max;
+    private List<String> excludeCategories = Collections.emptyList();
+    private List<String> profiles = Collections.singletonList("none");
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public List<String> getTests() {
+        return tests;
+    }
+
+    public void setTests(List<String> tests) {
+        this.tests = tests;
+    }
+
+    public String getStep() {
+        return step;
+    }
+
+    public void setStep(String step) {
+        this.step = step;
+    }
+
+    public String getFrom() {
+        return from;
+    }
+
+    public void setFrom(String from) {
+        this.from = from;
+    }
+
+    public String getTo() {
+        return to;
+    }
+
+    public void setTo(String to) {
+        this.to = to;
+    }
+
+    public Double getPercentile() {
+        return percentile;
+    }
+
+    public void setPercentile(Double percentile) {
+        this.percentile = percentile;
+    }
+
+    public Double getMaxMs() {
+        return maxMs;
+    }
+
+    public void setMaxMs(Double maxMs) {
+        this.maxMs = maxMs;
+    }
+
+    public String getPage() {
+        return page;
+    }
+
+    public void setPage(String page) {
+        this.page = page;
+    }
+
+    public String getMetric() {
+        return metric;
+    }
+
+    public void setMetric(String metric) {
+        this.metric = metric;
+    }
+
+    public Double getMax() {
+        return max;
+    }
+
+    public void setMax(Double max) {
+        this.max = max;
+    }
+
+    public List<String> getExcludeCategories() {
+        return excludeCategories;
+    }
+
+    public void setExcludeCategories(List<String> excludeCategories) {
+        this.excludeCategories = excludeCategories;
+    }
+
+    public List<String> getProfiles() {
+        return profiles;
+    }
+
+    public void setProfiles(List<String> profiles) {
+        this.profiles = profiles;
+    }
+
+    public boolean appliesToProfile(String profile) {
+        return profiles.contains("*") || profiles.contains(profile);
+    }
+
+    public boolean isPageMetricBudget() {
+        return metric != null;
+    }
+
+    public boolean isJourneyBudget() {
+        return from != null && to != null;
+    }
+
+    public boolean appliesTo(String testKey) {
+        for (String pattern : tests) {
+            String regex = ("\\Q" + pattern + "\\E").replace("*", "\\E.*\\Q");
+            if (testKey.matches(regex)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    String describe() {
+        if (isPageMetricBudget()) {
+            return String.format("%s %s <= %s", page, metric, max);
+        }
+        String subject = isJourneyBudget() ? from + " -> " + to : step;
+        return String.format("%s %s <= %.0f ms", subject, percentile != null ? "p" + percentile.intValue() : "max", maxMs);
+    }
+}
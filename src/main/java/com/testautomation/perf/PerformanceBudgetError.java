@@ -0,0 +1,11 @@
+package com.testautomation.perf;
+
+/**
+ * Thrown at suite end when performance budgets were breached, so budget failures are told apart from
+ * functional assertion failures.
+ */
+public class PerformanceBudgetError extends AssertionError {
+    public PerformanceBudgetError(String message) {
+        super(message);
+    }
+}
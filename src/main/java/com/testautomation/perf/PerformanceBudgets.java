@@ -0,0 +1,260 @@
+package com.testautomation.perf;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.testautomation.base.EmulationManager;
+import com.testautomation.config.ConfigManager;
+import com.testautomation.metrics.StepTracker;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.stream.Collectors;
+
+/**
+ * Loads the performance budget file ({@code perf.budget.file}, classpath first, then file system) when
+ * {@code perf.budget.enabled=true} and evaluates it against a finished test's step timeline and page metrics.
+ * <p>
+ * Breaches are collected for the whole run; {@link #enforce()} fails the suite with a
+ * {@link PerformanceBudgetError} when {@code perf.budget.fail=true}.
+ */
+public class PerformanceBudgets {
+    private static final Logger logger = LogManager.getLogger(PerformanceBudgets.class);
+    private static final ObjectMapper objectMapper = new ObjectMapper();
+    private static final List<Breach> breaches = Collections.synchronizedList(new ArrayList<>());
+    private static List<PerformanceBudget> budgets;
+
+    public static synchronized List<PerformanceBudget> getBudgets() {
+        if (budgets == null) {
+            budgets = load();
+        }
+        return budgets;
+    }
+
+    /**
+     * Checks every budget that applies to {@code testKey} ({@code TestClass.method}) under the emulation
+     * {@code profile}; breaches are recorded against the profile-qualified key.
+     * Budgets with nothing to measure in this test (step never ran, no page samples) are skipped.
+     */
+    public static List<Breach> evaluate(String testKey, String profile, StepTracker.Timeline timeline,
+                                        List<PageMetrics> samples) {
+        List<Breach> found = new ArrayList<>();
+        String breachKey = EmulationManager.qualify(testKey, profile);
+        for (PerformanceBudget budget : getBudgets()) {
+            if (!budget.appliesTo(testKey) || !budget.appliesToProfile(profile)) {
+                continue;
+            }
+            if (budget.isPageMetricBudget()) {
+                evaluatePageMetric(budget, breachKey, samples, found);
+            } else if (timeline != null) {
+                evaluateDuration(budget, breachKey, timeline, found);
+            }
+        }
+        breaches.addAll(found);
+        return found;
+    }
+
+    public static List<Breach> getBreaches() {
+        synchronized (breaches) {
+            return new ArrayList<>(breaches);
+        }
+    }
+
+    public static void enforce() {
+        List<Breach> all = getBreaches();
+        if (all.isEmpty() || !ConfigManager.getBooleanProperty("perf.budget.fail", true)) {
+            return;
+        }
+        throw new PerformanceBudgetError(all.size() + " performance budget breach(es): "
+                + all.stream().map(Breach::toString).collect(Collectors.joining("; ")));
+    }
+
+    private static void evaluatePageMetric(PerformanceBudget budget, String testKey, List<PageMetrics> samples,
+                                           List<Breach> found) {
+        WebPerfMetric metric = WebPerfMetric.fromKey(budget.getMetric());
+        double worst = Double.NaN;
+        for (PageMetrics sample : samples) {
+            Double value = sample.get(metric);
+            if (value != null && sample.getPageClass().equals(budget.getPage()) && !(value <= worst)) {
+                worst = value;
+            }
+        }
+        if (!Double.isNaN(worst) && worst > budget.getMax()) {
+            found.add(new Breach(budget, testKey, metric.format(worst), metric.format(budget.getMax())));
+        }
+    }
+
+    private static void evaluateDuration(PerformanceBudget budget, String testKey, StepTracker.Timeline timeline,
+                                         List<Breach> found) {
+        List<StepTracker.Step> steps = new ArrayList<>();
+        flatten(timeline.getRoot().getChildren(), steps);
+        List<StepTracker.Step> excluded = new ArrayList<>();
+        collectExcluded(timeline.getRoot().getChildren(), budget.getExcludeCategories(), excluded);
+
+        List<Long> durations = new ArrayList<>();
+        if (budget.isJourneyBudget()) {
+            long searchFrom = Long.MIN_VALUE;
+            for (StepTracker.Step start : steps) {
+                if (!start.getName().equals(budget.getFrom()) || start.getStartNanos() < searchFrom) {
+                    continue;
+                }
+                for (StepTracker.Step end : steps) {
+                    if (end.getName().equals(budget.getTo()) && end.getStartNanos() >= start.getStartNanos()) {
+                        durations.add(end.getEndNanos() - start.getStartNanos()
+                                - excludedNanos(excluded, start.getStartNanos(), end.getEndNanos()));
+                        searchFrom = end.getEndNanos();
+                        break;
+                    }
+                }
+            }
+        } else {
+            for (StepTracker.Step step : steps) {
+                if (step.getName().equals(budget.getStep())) {
+                    durations.add(step.getDurationNanos()
+                            - excludedNanos(excluded, step.getStartNanos(), step.getEndNanos()));
+                }
+            }
+        }
+        if (durations.isEmpty()) {
+            return;
+        }
+        double measuredMs = percentile(durations, budget.getPercentile()) / 1_000_000.0;
+        if (measuredMs > budget.getMaxMs()) {
+            found.add(new Breach(budget, testKey, String.format(Locale.ENGLISH, "%.0f ms", measuredMs),
+                    String.format(Locale.ENGLISH, "%.0f ms", budget.getMaxMs())));
+        }
+    }
+
+    private static void flatten(List<StepTracker.Step> steps, List<StepTracker.Step> into) {
+        for (StepTracker.Step step : steps) {
+            into.add(step);
+            flatten(step.getChildren(), into);
+        }
+    }
+
+    private static void collectExcluded(List<StepTracker.Step> steps, List<String> categories,
+                                        List<StepTracker.Step> into) {
+        for (StepTracker.Step step : steps) {
+            if (categories.contains(step.getCategory())) {
+                // Outermost excluded step only, so nested steps are not subtracted twice
+                into.add(step);
+            } else {
+                collectExcluded(step.getChildren(), categories, into);
+            }
+        }
+    }
+
+    private static long excludedNanos(List<StepTracker.Step> excluded, long windowStart, long windowEnd) {
+        long total = 0;
+        for (StepTracker.Step step : excluded) {
+            if (step.getStartNanos() >= windowStart && step.getEndNanos() <= windowEnd) {
+                total += step.getDurationNanos();
+            }
+        }
+        return total;
+    }
+
+    private static long percentile(List<Long> values, Double percentile) {
+        List<Long> sorted = new ArrayList<>(values);
+        Collections.sort(sorted);
+        if (percentile == null) {
+            return sorted.get(sorted.size() - 1);
+        }
+        int rank = (int) Math.ceil(percentile / 100.0 * sorted.size());
+        return sorted.get(Math.max(0, Math.min(sorted.size(), rank) - 1));
+    }
+
+    private static List<PerformanceBudget> load() {
+        if (!ConfigManager.getBooleanProperty("perf.budget.enabled", false)) {
+            return Collections.emptyList();
+        }
+        String location = ConfigManager.getProperty("perf.budget.file", "perf-budgets.json");
+        try (InputStream input = open(location)) {
+            if (input == null) {
+                logger.info("No performance budget file found at {}; budgets disabled", location);
+                return Collections.emptyList();
+            }
+            JsonNode root = objectMapper.readTree(input);
+            List<PerformanceBudget> loaded = objectMapper.convertValue(root.path("budgets"),
+                    new TypeReference<List<PerformanceBudget>>() {
+                    });
+            if (loaded == null) {
+                return Collections.emptyList();
+            }
+            loaded.forEach(PerformanceBudgets::validate);
+            logger.info("Loaded {} performance budget(s) from {}", loaded.size(), location);
+            return Collections.unmodifiableList(loaded);
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to load performance budgets from " + location, e);
+        }
+    }
+
+    private static InputStream open(String location) throws IOException {
+        InputStream resource = PerformanceBudgets.class.getClassLoader().getResourceAsStream(location);
+        if (resource != null) {
+            return resource;
+        }
+        Path path = Paths.get(location);
+        return Files.isRegularFile(path) ? Files.newInputStream(path) : null;
+    }
+
+    private static void validate(PerformanceBudget budget) {
+        String name = budget.getName() != null ? budget.getName() : "<unnamed>";
+        if (budget.isPageMetricBudget()) {
+            if (budget.getPage() == null || budget.getMax() == null) {
+                throw new IllegalArgumentException("Performance budget '" + name + "' needs 'page' and 'max' with 'metric'");
+            }
+            WebPerfMetric.fromKey(budget.getMetric());
+        } else if ((budget.getStep() == null && !budget.isJourneyBudget()) || budget.getMaxMs() == null) {
+            throw new IllegalArgumentException("Performance budget '" + name
+                    + "' needs 'maxMs' with either 'step' or 'from' and 'to'");
+        }
+        if (budget.getName() == null) {
+            budget.setName(budget.describe());
+        }
+    }
+
+    public static class Breach {
+        private final PerformanceBudget budget;
+        private final String test;
+        private final String measured;
+        private final String limit;
+
+        private Breach(PerformanceBudget budget, String test, String measured, String limit) {
+            this.budget = budget;
+            this.test = test;
+            this.measured = measured;
+            this.limit = limit;
+        }
+
+        public PerformanceBudget getBudget() {
+            return budget;
+        }
+
+        public String getTest() {
+            return test;
+        }
+
+        public String getMeasured() {
+            return measured;
+        }
+
+        public String getLimit() {
+            return limit;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%s in %s: %s (limit %s, %s)", budget.getName(), test, measured, limit, budget.describe());
+        }
+    }
+}
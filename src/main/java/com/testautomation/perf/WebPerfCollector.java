@@ -0,0 +1,127 @@
+package com.testautomation.perf;
+
+import com.microsoft.playwright.BrowserContext;
+import com.microsoft.playwright.Page;
+import com.testautomation.base.EmulationManager;
+import com.testautomation.config.ConfigManager;
+import com.testautomation.utils.ExtentReportManager;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * Reads Navigation Timing, paint timings, long tasks, layout shift, JS heap and resource transfer sizes
+ * from the page at page-object checkpoints. Enabled with {@code perf.metrics.enabled=true}.
+ * <p>
+ * Long tasks, layout shifts and LCP are only observable while the page runs, so {@link #install} adds an
+ * init script that accumulates them from the first document onwards. Samples are kept per test (for
+ * budgets) and for the whole suite (for the per-build history).
+ */
+public class WebPerfCollector {
+    private static final Logger logger = LogManager.getLogger(WebPerfCollector.class);
+    private static final boolean ENABLED = ConfigManager.getBooleanProperty("perf.metrics.enabled", false);
+
+    private static final String INIT_SCRIPT = "(() => {"
+            + "  if (window.__perfMetrics) { return; }"
+            + "  const m = window.__perfMetrics = { longTaskCount: 0, longTaskTotal: 0, cls: 0, lcp: 0 };"
+            + "  const observe = (type, callback) => {"
+            + "    try {"
+            + "      new PerformanceObserver(list => list.getEntries().forEach(callback)).observe({ type: type, buffered: true });"
+            + "    } catch (e) { /* entry type not supported by this browser */ }"
+            + "  };"
+            + "  observe('longtask', e => { m.longTaskCount++; m.longTaskTotal += e.duration; });"
+            + "  observe('layout-shift', e => { if (!e.hadRecentInput) { m.cls += e.value; } });"
+            + "  observe('largest-contentful-paint', e => { m.lcp = e.renderTime || e.startTime; });"
+            + "})();";
+
+    private static final String COLLECT_SCRIPT = "() => {"
+            + "  const value = v => (v === undefined || v === null || Number.isNaN(v)) ? null : v;"
+            + "  const nav = performance.getEntriesByType('navigation')[0];"
+            + "  const paints = {};"
+            + "  performance.getEntriesByType('paint').forEach(p => { paints[p.name] = p.startTime; });"
+            + "  const resources = performance.getEntriesByType('resource');"
+            + "  let transfer = nav ? (nav.transferSize || 0) : 0;"
+            + "  resources.forEach(r => { transfer += r.transferSize || 0; });"
+            + "  const observed = window.__perfMetrics;"
+            + "  return {"
+            + "    ttfb: nav ? value(nav.responseStart - nav.requestStart) : null,"
+            + "    domContentLoaded: nav && nav.domContentLoadedEventEnd > 0 ? nav.domContentLoadedEventEnd - nav.startTime : null,"
+            + "    load: nav && nav.loadEventEnd > 0 ? nav.loadEventEnd - nav.startTime : null,"
+            + "    firstPaint: value(paints['first-paint']),"
+            + "    firstContentfulPaint: value(paints['first-contentful-paint']),"
+            + "    largestContentfulPaint: observed && observed.lcp > 0 ? observed.lcp : null,"
+            + "    longTaskCount: observed ? observed.longTaskCount : null,"
+            + "    longTaskTotal: observed ? observed.longTaskTotal : null,"
+            + "    cumulativeLayoutShift: observed ? observed.cls : null,"
+            + "    jsHeapUsed: performance.memory ? performance.memory.usedJSHeapSize : null,"
+            + "    resourceCount: resources.length,"
+            + "    transferBytes: transfer"
+            + "  };"
+            + "}";
+
+    private static final Queue<PageMetrics> suiteSamples = new ConcurrentLinkedQueue<>();
+    private static final ThreadLocal<List<PageMetrics>> testSamples = ThreadLocal.withInitial(ArrayList::new);
+
+    public static boolean isEnabled() {
+        return ENABLED;
+    }
+
+    public static void install(BrowserContext context) {
+        if (ENABLED) {
+            context.addInitScript(INIT_SCRIPT);
+        }
+    }
+
+    /**
+     * Takes a sample from the page and logs it on the current test's report node.
+     *
+     * @return the sample, or null when collection is disabled or the page could not be read
+     */
+    @SuppressWarnings("unchecked")
+    public static PageMetrics capture(Page page, String pageClass) {
+        if (!ENABLED || page == null) {
+            return null;
+        }
+        try {
+            Map<String, Object> raw = (Map<String, Object>) page.evaluate(COLLECT_SCRIPT);
+            Map<WebPerfMetric, Double> values = new EnumMap<>(WebPerfMetric.class);
+            for (WebPerfMetric metric : WebPerfMetric.values()) {
+                Object value = raw.get(metric.getKey());
+                if (value instanceof Number) {
+                    values.put(metric, ((Number) value).doubleValue());
+                }
+            }
+            PageMetrics sample = new PageMetrics(pageClass, EmulationManager.getActiveProfile().getId(), page.url(), values);
+            testSamples.get().add(sample);
+            suiteSamples.add(sample);
+            ExtentReportManager.logInfo("Web performance (" + sample.getHistoryKey() + "): " + sample.describe());
+            return sample;
+        } catch (RuntimeException e) {
+            logger.warn("Could not collect web performance metrics for {}", pageClass, e);
+            return null;
+        }
+    }
+
+    public static void startTest() {
+        testSamples.get().clear();
+    }
+
+    public static List<PageMetrics> getTestSamples() {
+        return Collections.unmodifiableList(testSamples.get());
+    }
+
+    public static void finishTest() {
+        testSamples.remove();
+    }
+
+    public static List<PageMetrics> getSuiteSamples() {
+        return new ArrayList<>(suiteSamples);
+    }
+}
@@ -0,0 +1,276 @@
+package com.testautomation.perf;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.testautomation.config.ConfigManager;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Aggregates a run's web performance samples per page class (median of each metric), stores them per
+ * build under {@code perf.history.dir} and compares them with the median of the previous
+ * {@code perf.regression.window} builds.
+ * <p>
+ * A metric regresses when it is more than {@code perf.regression.tolerance} above its baseline and by at
+ * least the metric's {@link WebPerfMetric#getRegressionFloor() floor}. {@link #enforce()} fails the run on
+ * regressions when {@code perf.regression.fail=true}.
+ */
+public class WebPerfHistory {
+    private static final Logger logger = LogManager.getLogger(WebPerfHistory.class);
+    private static final ObjectMapper objectMapper = new ObjectMapper();
+    private static final List<Regression> regressions = Collections.synchronizedList(new ArrayList<>());
+
+    /**
+     * Writes this build's aggregate, adds it to the history and returns the regressions found against
+     * earlier builds.
+     */
+    public static Result recordBuild(List<PageMetrics> samples) {
+        Map<String, Map<WebPerfMetric, Double>> current = aggregate(samples);
+        if (current.isEmpty()) {
+            return new Result(current, Collections.emptyMap(), Collections.emptyList());
+        }
+        String buildId = ConfigManager.getBuildId();
+        Path historyDir = Paths.get(ConfigManager.getProperty("perf.history.dir", "perf-history/"));
+        Map<String, Map<WebPerfMetric, Double>> baseline = loadBaseline(historyDir, buildId);
+        List<Regression> found = compare(current, baseline);
+        regressions.addAll(found);
+
+        Map<String, Object> document = toDocument(buildId, current, samples);
+        try {
+            Path metricsDir = Files.createDirectories(Paths.get(ConfigManager.getProperty("metrics.dir", "test-output/metrics/")));
+            objectMapper.writer(SerializationFeature.INDENT_OUTPUT)
+                    .writeValue(metricsDir.resolve("web-perf.json").toFile(), document);
+            if (ConfigManager.getBooleanProperty("perf.history.record", true)) {
+                Files.createDirectories(historyDir);
+                objectMapper.writer(SerializationFeature.INDENT_OUTPUT)
+                        .writeValue(historyDir.resolve(safeFileName(buildId) + ".json").toFile(), document);
+            }
+        } catch (IOException e) {
+            logger.error("Failed to write web performance history", e);
+        }
+        for (Regression regression : found) {
+            logger.warn("Web performance regression: {}", regression);
+        }
+        return new Result(current, baseline, found);
+    }
+
+    /**
+     * Throws when regressions were recorded and {@code perf.regression.fail=true}.
+     */
+    public static void enforce() {
+        if (regressions.isEmpty() || !ConfigManager.getBooleanProperty("perf.regression.fail", true)) {
+            return;
+        }
+        throw new AssertionError("Web performance regressed against previous builds: "
+                + regressions.stream().map(Regression::toString).collect(Collectors.joining("; ")));
+    }
+
+    static Map<String, Map<WebPerfMetric, Double>> aggregate(List<PageMetrics> samples) {
+        Map<String, Map<WebPerfMetric, List<Double>>> grouped = new TreeMap<>();
+        for (PageMetrics sample : samples) {
+            Map<WebPerfMetric, List<Double>> byMetric =
+                    grouped.computeIfAbsent(sample.getHistoryKey(), k -> new EnumMap<>(WebPerfMetric.class));
+            sample.getValues().forEach((metric, value) -> byMetric.computeIfAbsent(metric, k -> new ArrayList<>()).add(value));
+        }
+        Map<String, Map<WebPerfMetric, Double>> medians = new TreeMap<>();
+        grouped.forEach((page, byMetric) -> {
+            Map<WebPerfMetric, Double> values = new EnumMap<>(WebPerfMetric.class);
+            byMetric.forEach((metric, list) -> values.put(metric, median(list)));
+            medians.put(page, values);
+        });
+        return medians;
+    }
+
+    private static List<Regression> compare(Map<String, Map<WebPerfMetric, Double>> current,
+                                            Map<String, Map<WebPerfMetric, Double>> baseline) {
+        double tolerance = ConfigManager.getDoubleProperty("perf.regression.tolerance", 0.2);
+        List<Regression> found = new ArrayList<>();
+        current.forEach((page, values) -> {
+            Map<WebPerfMetric, Double> previous = baseline.get(page);
+            if (previous == null) {
+                return;
+            }
+            values.forEach((metric, value) -> {
+                Double base = previous.get(metric);
+                if (base != null && value > base * (1 + tolerance) && value - base >= metric.getRegressionFloor()) {
+                    found.add(new Regression(page, metric, base, value));
+                }
+            });
+        });
+        return found;
+    }
+
+    private static Map<String, Map<WebPerfMetric, Double>> loadBaseline(Path historyDir, String buildId) {
+        if (!Files.isDirectory(historyDir)) {
+            return Collections.emptyMap();
+        }
+        int window = ConfigManager.getIntProperty("perf.regression.window", 5);
+        List<Path> files;
+        try (Stream<Path> stream = Files.list(historyDir)) {
+            files = stream.filter(path -> path.getFileName().toString().endsWith(".json"))
+                    .filter(path -> !path.getFileName().toString().equals(safeFileName(buildId) + ".json"))
+                    .sorted(Comparator.comparing(WebPerfHistory::lastModified).reversed())
+                    .limit(window)
+                    .collect(Collectors.toList());
+        } catch (IOException e) {
+            logger.warn("Could not read web performance history from {}", historyDir, e);
+            return Collections.emptyMap();
+        }
+
+        Map<String, Map<WebPerfMetric, List<Double>>> collected = new TreeMap<>();
+        for (Path file : files) {
+            try {
+                JsonNode pages = objectMapper.readTree(file.toFile()).path("pages");
+                Iterator<Map.Entry<String, JsonNode>> pageEntries = pages.fields();
+                while (pageEntries.hasNext()) {
+                    Map.Entry<String, JsonNode> pageEntry = pageEntries.next();
+                    Iterator<Map.Entry<String, JsonNode>> metricEntries = pageEntry.getValue().path("metrics").fields();
+                    while (metricEntries.hasNext()) {
+                        Map.Entry<String, JsonNode> metricEntry = metricEntries.next();
+                        WebPerfMetric metric;
+                        try {
+                            metric = WebPerfMetric.fromKey(metricEntry.getKey());
+                        } catch (IllegalArgumentException e) {
+                            continue;
+                        }
+                        collected.computeIfAbsent(pageEntry.getKey(), k -> new EnumMap<>(WebPerfMetric.class))
+                                .computeIfAbsent(metric, k -> new ArrayList<>())
+                                .add(metricEntry.getValue().asDouble());
+                    }
+                }
+            } catch (IOException e) {
+                logger.warn("Skipping unreadable web performance history file {}", file, e);
+            }
+        }
+        Map<String, Map<WebPerfMetric, Double>> baseline = new TreeMap<>();
+        collected.forEach((page, byMetric) -> {
+            Map<WebPerfMetric, Double> values = new EnumMap<>(WebPerfMetric.class);
+            byMetric.forEach((metric, list) -> values.put(metric, median(list)));
+            baseline.put(page, values);
+        });
+        return baseline;
+    }
+
+    private static Map<String, Object> toDocument(String buildId, Map<String, Map<WebPerfMetric, Double>> current,
+                                                  List<PageMetrics> samples) {
+        Map<String, Object> document = new LinkedHashMap<>();
+        document.put("buildId", buildId);
+        document.put("generatedAt", Instant.now().toString());
+        Map<String, Object> pages = new LinkedHashMap<>();
+        current.forEach((page, values) -> {
+            Map<String, Object> pageNode = new LinkedHashMap<>();
+            pageNode.put("samples", samples.stream().filter(sample -> sample.getHistoryKey().equals(page)).count());
+            Map<String, Double> metrics = new LinkedHashMap<>();
+            values.forEach((metric, value) -> metrics.put(metric.getKey(), value));
+            pageNode.put("metrics", metrics);
+            pages.put(page, pageNode);
+        });
+        document.put("pages", pages);
+        return document;
+    }
+
+    private static double median(List<Double> values) {
+        List<Double> sorted = new ArrayList<>(values);
+        Collections.sort(sorted);
+        int middle = sorted.size() / 2;
+        return sorted.size() % 2 == 1 ? sorted.get(middle) : (sorted.get(middle - 1) + sorted.get(middle)) / 2;
+    }
+
+    private static long lastModified(Path path) {
+        try {
+            return Files.getLastModifiedTime(path).toMillis();
+        } catch (IOException e) {
+            return 0;
+        }
+    }
+
+    private static String safeFileName(String buildId) {
+        return buildId.replaceAll("[^A-Za-z0-9._-]", "_");
+    }
+
+    public static class Result {
+        private final Map<String, Map<WebPerfMetric, Double>> current;
+        private final Map<String, Map<WebPerfMetric, Double>> baseline;
+        private final List<Regression> regressions;
+
+        private Result(Map<String, Map<WebPerfMetric, Double>> current,
+                       Map<String, Map<WebPerfMetric, Double>> baseline, List<Regression> regressions) {
+            this.current = current;
+            this.baseline = baseline;
+            this.regressions = regressions;
+        }
+
+        public Map<String, Map<WebPerfMetric, Double>> getCurrent() {
+            return current;
+        }
+
+        public Map<String, Map<WebPerfMetric, Double>> getBaseline() {
+            return baseline;
+        }
+
+        public List<Regression> getRegressions() {
+            return regressions;
+        }
+
+        public boolean isRegressed(String page, WebPerfMetric metric) {
+            return regressions.stream().anyMatch(r -> r.getPage().equals(page) && r.getMetric() == metric);
+        }
+    }
+
+    public static class Regression {
+        private final String page;
+        private final WebPerfMetric metric;
+        private final double baseline;
+        private final double current;
+
+        private Regression(String page, WebPerfMetric metric, double baseline, double current) {
+            this.page = page;
+            this.metric = metric;
+            this.baseline = baseline;
+            this.current = current;
+        }
+
+        public String getPage() {
+            return page;
+        }
+
+        public WebPerfMetric getMetric() {
+            return metric;
+        }
+
+        public double getBaseline() {
+            return baseline;
+        }
+
+        public double getCurrent() {
+            return current;
+        }
+
+        @Override
+        public String toString() {
+            String change = baseline > 0
+                    ? String.format(Locale.ENGLISH, "+%.0f%%", (current / baseline - 1) * 100) : "was zero";
+            return String.format(Locale.ENGLISH, "%s %s %s -> %s (%s)", page, metric.getLabel(),
+                    metric.format(baseline), metric.format(current), change);
+        }
+    }
+}
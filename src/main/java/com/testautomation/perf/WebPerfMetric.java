@@ -0,0 +1,75 @@
+package com.testautomation.perf;
+
+import java.util.Locale;
+
+/**
+ * Page performance values collected at page-object checkpoints. All of them are "lower is better";
+ * {@code regressionFloor} is the smallest absolute increase that counts as a regression, so
+ * sub-millisecond noise on a fast page does not fail a build.
+ */
+public enum WebPerfMetric {
+    TTFB("ttfb", "TTFB", "ms", 50),
+    DOM_CONTENT_LOADED("domContentLoaded", "DOMContentLoaded", "ms", 50),
+    LOAD("load", "Load", "ms", 50),
+    FIRST_PAINT("firstPaint", "First paint", "ms", 50),
+    FIRST_CONTENTFUL_PAINT("firstContentfulPaint", "FCP", "ms", 50),
+    LARGEST_CONTENTFUL_PAINT("largestContentfulPaint", "LCP", "ms", 50),
+    LONG_TASK_COUNT("longTaskCount", "Long tasks", "", 2),
+    LONG_TASK_TOTAL("longTaskTotal", "Long task time", "ms", 50),
+    CUMULATIVE_LAYOUT_SHIFT("cumulativeLayoutShift", "CLS", "", 0.05),
+    JS_HEAP_USED("jsHeapUsed", "JS heap", "bytes", 5 * 1024 * 1024),
+    RESOURCE_COUNT("resourceCount", "Resources", "", 5),
+    TRANSFER_BYTES("transferBytes", "Transferred", "bytes", 50 * 1024);
+
+    private final String key;
+    private final String label;
+    private final String unit;
+    private final double regressionFloor;
+
+    WebPerfMetric(String key, String label, String unit, double regressionFloor) {
+        this.key = key;
+        this.label = label;
+        this.unit = unit;
+        this.regressionFloor = regressionFloor;
+    }
+
+    public String getKey() {
+        return key;
+    }
+
+    public String getLabel() {
+        return label;
+    }
+
+    public String getUnit() {
+        return unit;
+    }
+
+    public double getRegressionFloor() {
+        return regressionFloor;
+    }
+
+    public static WebPerfMetric fromKey(String key) {
+        for (WebPerfMetric metric : values()) {
+            if (metric.key.equals(key)) {
+                return metric;
+            }
+        }
+        throw new IllegalArgumentException("Unknown web performance metric: " + key);
+    }
+
+    public String format(double value) {
+        switch (unit) {
+            case "ms":
+                return String.format(Locale.ENGLISH, "%.0f ms", value);
+            case "bytes":
+                return value >= 1024 * 1024
+                        ? String.format(Locale.ENGLISH, "%.1f MB", value / (1024 * 1024))
+                        : String.format(Locale.ENGLISH, "%.1f KB", value / 1024);
+            default:
+                return this == CUMULATIVE_LAYOUT_SHIFT
+                        ? String.format(Locale.ENGLISH, "%.3f", value)
+                        : String.format(Locale.ENGLISH, "%.0f", value);
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package com.testautomation.reporting;
+
+import com.testautomation.config.ConfigManager;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.zip.Deflater;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+/**
+ * Packages the HTML report together with the screenshots and diffs it links to, so a report using
+ * reference-based attachments can be shared or stored as a single compressed file. Only files the report
+ * references by a relative {@code href} or {@code src} inside the report directory are included.
+ */
+public class ReportArchiver {
+    private static final Logger logger = LogManager.getLogger(ReportArchiver.class);
+    // Attribute values may be quote-escaped when the report embeds log markup in script
+    private static final Pattern LINK = Pattern.compile("(?:href|src)\\s*=\\s*\\\\?['\"]([^'\"\\\\]+)");
+    private static final Pattern SCHEME = Pattern.compile("^[a-zA-Z][a-zA-Z0-9+.-]*:|^//|^#");
+
+    public static Path archive() {
+        Path reportFile = Paths.get(ConfigManager.getProperty("report.path", "test-output/ExtentReport.html")).toAbsolutePath();
+        Path archivePath = Paths.get(ConfigManager.getProperty("report.archive.path", "test-output/report-bundle.zip")).toAbsolutePath();
+        return archive(reportFile, archivePath);
+    }
+
+    private static Path archive(Path reportFile, Path archivePath) {
+        Path reportDirectory = reportFile.getParent();
+        try {
+            List<Path> files = new ArrayList<>();
+            files.add(reportFile);
+            files.addAll(linkedFiles(reportFile));
+
+            Path temporary = archivePath.resolveSibling(archivePath.getFileName() + ".tmp");
+            try (OutputStream output = Files.newOutputStream(temporary);
+                 ZipOutputStream zip = new ZipOutputStream(output)) {
+                zip.setLevel(Deflater.BEST_SPEED);
+                for (Path file : files) {
+                    zip.putNextEntry(new ZipEntry(reportDirectory.relativize(file).toString().replace('\\', '/')));
+                    Files.copy(file, zip);
+                    zip.closeEntry();
+                }
+            }
+            Files.move(temporary, archivePath, java.nio.file.StandardCopyOption.REPLACE_EXISTING);
+            logger.info("Report archived with {} file(s): {}", files.size(), archivePath);
+            return archivePath;
+        } catch (IOException e) {
+            logger.error("Failed to archive report {}", reportFile, e);
+            return null;
+        }
+    }
+
+    /**
+     * @return existing files under the report directory that the report links by relative path, sorted
+     */
+    static Set<Path> linkedFiles(Path reportFile) throws IOException {
+        Path reportDirectory = reportFile.getParent();
+        String html = new String(Files.readAllBytes(reportFile), StandardCharsets.UTF_8);
+        Set<Path> linked = new TreeSet<>();
+        Matcher matcher = LINK.matcher(html);
+        while (matcher.find()) {
+            String reference = matcher.group(1).trim();
+            if (reference.isEmpty() || SCHEME.matcher(reference).find()) {
+                continue;
+            }
+            int suffix = reference.indexOf('?');
+            Path file = reportDirectory.resolve(suffix >= 0 ? reference.substring(0, suffix) : reference).normalize();
+            if (file.startsWith(reportDirectory) && !file.equals(reportFile) && Files.isRegularFile(file)) {
+                linked.add(file);
+            } else {
+                logger.debug("Not archiving report link outside the report directory or missing: {}", reference);
+            }
+        }
+        return linked;
+    }
+}
@@ -0,0 +1,144 @@
+package com.testautomation.reporting;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+/**
+ * One line of a per-thread report event log. Kept flat so logs from any fork or CI shard
+ * can be concatenated and merged without knowing where they came from.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class ReportEvent {
+    public static final String TEST_STARTED = "TEST_STARTED";
+    public static final String LOG = "LOG";
+    public static final String MEDIA = "MEDIA";
+    public static final String CATEGORY = "CATEGORY";
+
+    private String type;
+    private String testId;
+    private String name;
+    private String description;
+    private String status;
+    private String message;
+    private String path;
+    private String thread;
+    private String shard;
+    private long timestamp;
+
+    public ReportEvent() {
+        // Required for JSON deserialization
+    }
+
+    private ReportEvent(String type, String testId) {
+        this.type = type;
+        this.testId = testId;
+        this.thread = Thread.currentThread().getName();
+        this.shard = ReportEventLog.getShardId();
+        this.timestamp = System.currentTimeMillis();
+    }
+
+    public static ReportEvent testStarted(String testId, String name, String description) {
+        ReportEvent event = new ReportEvent(TEST_STARTED, testId);
+        event.name = name;
+        event.description = description;
+        return event;
+    }
+
+    public static ReportEvent log(String testId, String status, String message) {
+        ReportEvent event = new ReportEvent(LOG, testId);
+        event.status = status;
+        event.message = message;
+        return event;
+    }
+
+    public static ReportEvent media(String testId, String path) {
+        ReportEvent event = new ReportEvent(MEDIA, testId);
+        event.path = path;
+        return event;
+    }
+
+    public static ReportEvent category(String testId, String category) {
+        ReportEvent event = new ReportEvent(CATEGORY, testId);
+        event.name = category;
+        return event;
+    }
+
+    public String getType() {
+        return type;
+    }
+
+    public void setType(String type) {
+        this.type = type;
+    }
+
+    public String getTestId() {
+        return testId;
+    }
+
+    public void setTestId(String testId) {
+        this.testId = testId;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    public void setDescription(String description) {
+        this.description = description;
+    }
+
+    public String getStatus() {
+        return status;
+    }
+
+    public void setStatus(String status) {
+        this.status = status;
+    }
+
+    public String getMessage() {
+        return message;
+    }
+
+    public void setMessage(String message) {
+        this.message = message;
+    }
+
+    public String getPath() {
+        return path;
+    }
+
+    public void setPath(String path) {
+        this.path = path;
+    }
+
+    public String getThread() {
+        return thread;
+    }
+
+    public void setThread(String thread) {
+        this.thread = thread;
+    }
+
+    public String getShard() {
+        return shard;
+    }
+
+    public void setShard(String shard) {
+        this.shard = shard;
+    }
+
+    public long getTimestamp() {
+        return timestamp;
+    }
+
+    public void setTimestamp(long timestamp) {
+        this.timestamp = timestamp;
+    }
+}
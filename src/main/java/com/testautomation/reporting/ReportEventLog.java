@@ -0,0 +1,166 @@
+package com.testautomation.reporting;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.testautomation.config.ConfigManager;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Append-only JSON-lines event log owned by a single worker thread.
+ * Each thread writes to its own file under {@code <report.events.dir>/<shard>/}, so recording a test
+ * event never takes a lock shared with other workers. {@link ReportEventMerger} turns the logs into
+ * the HTML report once the run is over.
+ * <p>
+ * The shard id ({@code report.shard.id}) defaults to one unique per run, and a shard directory left over from an
+ * earlier run with the same id is emptied before the first log is opened, so the end-of-run merge of
+ * {@link #getShardDirectory()} only ever sees this run's events.
+ */
+public class ReportEventLog {
+    private static final Logger logger = LogManager.getLogger(ReportEventLog.class);
+    private static final ObjectMapper objectMapper = new ObjectMapper();
+    private static final Path EVENTS_ROOT = Paths.get(ConfigManager.getProperty("report.events.dir", "test-output/report-events/"));
+    private static final String SHARD_ID = ConfigManager.getProperty("report.shard.id", 
+            "pid-" + ProcessHandle.current().pid() + "-" + ProcessHandle.current().info().startInstant()
+                    .map(Instant::toEpochMilli).orElse(System.currentTimeMillis()));
+
+    private static final Queue<ReportEventLog> openLogs = new ConcurrentLinkedQueue<>();
+    private static final ThreadLocal<ReportEventLog> current = ThreadLocal.withInitial(ReportEventLog::open);
+    private static final AtomicLong testSequence = new AtomicLong();
+    private static boolean shardPrepared;
+
+    private final Path file;
+    private final BufferedWriter writer;
+    private volatile boolean closed;
+
+    private ReportEventLog(Path file, BufferedWriter writer) {
+        this.file = file;
+        this.writer = writer;
+    }
+
+    /**
+     * The calling thread's log. {@link #closeAll()} can only forget the closing thread's log, so a thread whose
+     * log was closed from elsewhere reopens its file (appending) instead of dropping its events.
+     */
+    public static ReportEventLog current() {
+        ReportEventLog log = current.get();
+        if (log.closed) {
+            log = open();
+            current.set(log);
+        }
+        return log;
+    }
+
+    public static String nextTestId() {
+        return SHARD_ID + "-" + testSequence.incrementAndGet();
+    }
+
+    public static String getShardId() {
+        return SHARD_ID;
+    }
+
+    public static Path getEventsRoot() {
+        return EVENTS_ROOT;
+    }
+
+    /**
+     * @return this run's logs under {@link #getEventsRoot()}
+     */
+    public static Path getShardDirectory() {
+        return EVENTS_ROOT.resolve(SHARD_ID);
+    }
+
+    private static synchronized void prepareShardDirectory() throws IOException {
+        if (shardPrepared) {
+            return;
+        }
+        Path shardDir = Files.createDirectories(getShardDirectory());
+        try (Stream<Path> stale = Files.list(shardDir)) {
+            for (Path file : stale.filter(path -> path.getFileName().toString().endsWith(".jsonl"))
+                    .collect(Collectors.toList())) {
+                Files.delete(file);
+                logger.debug("Removed report event log from an earlier run: {}", file);
+            }
+        }
+        shardPrepared = true;
+    }
+
+    private static ReportEventLog open() {
+        Thread thread = Thread.currentThread();
+        String safeThreadName = thread.getName().replaceAll("[^a-zA-Z0-9_.-]", "_");
+        Path file = getShardDirectory().resolve(safeThreadName + "-" + thread.getId() + ".jsonl");
+        try {
+            prepareShardDirectory();
+            BufferedWriter writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8,
+                    StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+            ReportEventLog log = new ReportEventLog(file, writer);
+            openLogs.add(log);
+            logger.debug("Opened report event log: {}", file);
+            return log;
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to open report event log: " + file, e);
+        }
+    }
+
+    // Only contended during the final flush, so the monitor stays uncontended for the owning thread
+    public synchronized void append(ReportEvent event) {
+        if (closed) {
+            logger.warn("Dropping report event for closed log {}: {}", file, event.getType());
+            return;
+        }
+        try {
+            writer.write(objectMapper.writeValueAsString(event));
+            writer.newLine();
+        } catch (IOException e) {
+            logger.error("Failed to append report event to {}", file, e);
+        }
+    }
+
+    private synchronized void flush() {
+        if (!closed) {
+            try {
+                writer.flush();
+            } catch (IOException e) {
+                logger.error("Failed to flush report event log {}", file, e);
+            }
+        }
+    }
+
+    private synchronized void close() {
+        if (!closed) {
+            try {
+                writer.close();
+            } catch (IOException e) {
+                logger.error("Failed to close report event log {}", file, e);
+            }
+            closed = true;
+        }
+    }
+
+    public static void flushAll() {
+        for (ReportEventLog log : openLogs) {
+            log.flush();
+        }
+    }
+
+    public static void closeAll() {
+        ReportEventLog log;
+        while ((log = openLogs.poll()) != null) {
+            log.close();
+        }
+        current.remove();
+    }
+}
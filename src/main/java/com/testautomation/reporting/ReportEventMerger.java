@@ -0,0 +1,176 @@
+package com.testautomation.reporting;
+
+import com.aventstack.extentreports.ExtentReports;
+import com.aventstack.extentreports.ExtentTest;
+import com.aventstack.extentreports.Status;
+import com.aventstack.extentreports.model.Log;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.testautomation.config.ConfigManager;
+import com.testautomation.utils.ExtentReportManager;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Builds the HTML report and a JSON summary from every event log found under one or more directories.
+ * Runs once at suite end for the local shard, and can be invoked from the command line to combine
+ * the event logs of several Surefire forks or CI shards:
+ * <pre>
+ * java -cp ... com.testautomation.reporting.ReportEventMerger shard-a/report-events shard-b/report-events
+ * </pre>
+ */
+public class ReportEventMerger {
+    private static final Logger logger = LogManager.getLogger(ReportEventMerger.class);
+    private static final ObjectMapper objectMapper = new ObjectMapper();
+
+    public static void merge(List<Path> eventDirectories) {
+        String reportPath = ConfigManager.getProperty("report.path", "test-output/ExtentReport.html");
+        Path summaryPath = Paths.get(ConfigManager.getProperty("report.summary.path", "test-output/report-summary.json"));
+        merge(eventDirectories, reportPath, summaryPath);
+    }
+
+    public static void merge(List<Path> eventDirectories, String reportPath, Path summaryPath) {
+        Map<String, List<ReportEvent>> eventsByTest = readEvents(eventDirectories);
+        List<List<ReportEvent>> tests = eventsByTest.values().stream()
+                .filter(events -> ReportEvent.TEST_STARTED.equals(events.get(0).getType()))
+                .sorted(Comparator.comparingLong(events -> events.get(0).getTimestamp()))
+                .collect(Collectors.toList());
+
+        ExtentReports extent = ExtentReportManager.createReports(reportPath);
+        TreeSet<String> shards = new TreeSet<>();
+        List<Map<String, Object>> testSummaries = new ArrayList<>();
+        Map<String, Integer> totals = new LinkedHashMap<>();
+
+        for (List<ReportEvent> events : tests) {
+            ReportEvent start = events.get(0);
+            ExtentTest extentTest = extent.createTest(start.getName(), start.getDescription());
+            for (ReportEvent event : events.subList(1, events.size())) {
+                replay(extentTest, event);
+            }
+            long endTimestamp = events.get(events.size() - 1).getTimestamp();
+            extentTest.getModel().setStartTime(new Date(start.getTimestamp()));
+            extentTest.getModel().setEndTime(new Date(endTimestamp));
+
+            String status = extentTest.getModel().getStatus().name();
+            totals.merge(status, 1, Integer::sum);
+            shards.add(start.getShard());
+
+            Map<String, Object> summary = new LinkedHashMap<>();
+            summary.put("name", start.getName());
+            summary.put("description", start.getDescription());
+            summary.put("status", status);
+            summary.put("shard", start.getShard());
+            summary.put("thread", start.getThread());
+            summary.put("startTime", start.getTimestamp());
+            summary.put("durationMs", endTimestamp - start.getTimestamp());
+            testSummaries.add(summary);
+        }
+
+        extent.setSystemInfo("Shards", String.join(", ", shards));
+        extent.flush();
+        writeSummary(summaryPath, shards, totals, testSummaries);
+        logger.info("Merged {} test(s) from {} shard(s) into {}", tests.size(), shards.size(), reportPath);
+    }
+
+    private static void replay(ExtentTest extentTest, ReportEvent event) {
+        if (ReportEvent.MEDIA.equals(event.getType())) {
+            ExtentReportManager.attachScreenshot(extentTest, event.getPath());
+            return;
+        }
+        if (ReportEvent.CATEGORY.equals(event.getType())) {
+            extentTest.assignCategory(event.getName());
+            return;
+        }
+        if (ReportEvent.LOG.equals(event.getType())) {
+            extentTest.log(Status.valueOf(event.getStatus()), event.getMessage());
+            List<Log> logs = extentTest.getModel().getLogs();
+            logs.get(logs.size() - 1).setTimestamp(new Date(event.getTimestamp()));
+        }
+    }
+
+    private static Map<String, List<ReportEvent>> readEvents(List<Path> eventDirectories) {
+        Map<String, List<ReportEvent>> eventsByTest = new LinkedHashMap<>();
+        for (Path directory : eventDirectories) {
+            if (!Files.isDirectory(directory)) {
+                logger.warn("Report event directory not found: {}", directory.toAbsolutePath());
+                continue;
+            }
+            try (Stream<Path> files = Files.walk(directory)) {
+                for (Path file : files.filter(p -> p.toString().endsWith(".jsonl")).sorted().collect(Collectors.toList())) {
+                    readFile(file, eventsByTest);
+                }
+            } catch (IOException e) {
+                throw new RuntimeException("Failed to read report events from " + directory, e);
+            }
+        }
+        // Logs are per-thread and append-only, so events of one test are already ordered; sort defensively
+        eventsByTest.values().forEach(events -> events.sort(Comparator
+                .comparing((ReportEvent event) -> !ReportEvent.TEST_STARTED.equals(event.getType()))
+                .thenComparingLong(ReportEvent::getTimestamp)));
+        return eventsByTest;
+    }
+
+    private static void readFile(Path file, Map<String, List<ReportEvent>> eventsByTest) throws IOException {
+        try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.isBlank()) {
+                    continue;
+                }
+                try {
+                    ReportEvent event = objectMapper.readValue(line, ReportEvent.class);
+                    eventsByTest.computeIfAbsent(event.getTestId(), id -> new ArrayList<>()).add(event);
+                } catch (IOException e) {
+                    // A fork killed mid-write leaves a truncated last line; skip it rather than lose the report
+                    logger.warn("Skipping malformed report event in {}: {}", file, e.getMessage());
+                }
+            }
+        }
+    }
+
+    private static void writeSummary(Path summaryPath, TreeSet<String> shards, Map<String, Integer> totals,
+                                     List<Map<String, Object>> tests) {
+        Map<String, Object> summary = new LinkedHashMap<>();
+        summary.put("generatedAt", System.currentTimeMillis());
+        summary.put("shards", shards);
+        summary.put("total", tests.size());
+        summary.put("statusCounts", totals);
+        summary.put("tests", tests);
+        try {
+            if (summaryPath.getParent() != null) {
+                Files.createDirectories(summaryPath.getParent());
+            }
+            objectMapper.writer(SerializationFeature.INDENT_OUTPUT).writeValue(summaryPath.toFile(), summary);
+            logger.info("Report summary written: {}", summaryPath.toAbsolutePath());
+        } catch (IOException e) {
+            logger.error("Failed to write report summary {}", summaryPath, e);
+        }
+    }
+
+    public static void main(String[] args) {
+        List<Path> directories = new ArrayList<>();
+        for (String arg : args) {
+            directories.add(Paths.get(arg));
+        }
+        if (directories.isEmpty()) {
+            directories.add(ReportEventLog.getEventsRoot());
+        }
+        merge(directories);
+    }
+}
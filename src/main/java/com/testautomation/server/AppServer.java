@@ -0,0 +1,313 @@
+package com.testautomation.server;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import com.testautomation.config.ConfigManager;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.zip.CRC32;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Embedded HTTP server for the demo app and other fixtures, so tests exercise a real origin (HTTP caching,
+ * compression, network metrics, route interception) instead of a {@code file://} page.
+ * <p>
+ * Serves classpath resources under {@code app.server.root} on 127.0.0.1 with an ephemeral port; {@code /}
+ * is {@code app.server.page}. Responses carry an ETag (answered with 304 on {@code If-None-Match}),
+ * {@code Cache-Control} ({@code no-cache} for HTML, {@code max-age=app.server.max.age} otherwise) and are
+ * gzipped for clients that accept it once they reach {@code app.server.gzip.min.bytes}.
+ * <p>
+ * With {@code app.server.per.worker=true} every test thread gets its own instance (and origin, so cookies and
+ * storage are not shared either); otherwise one instance started in {@code BaseTest.setUpSuite} serves all.
+ * <p>
+ * {@link #delayedResponseUrl} parks a canned response behind a one-shot URL that answers after a delay on the
+ * server's own threads, so a route handler can inject latency by resuming to it instead of sleeping.
+ */
+public class AppServer {
+    private static final Logger logger = LogManager.getLogger(AppServer.class);
+    private static final String DELAYED_PATH = "/__delayed/";
+    private static final Map<String, String> CONTENT_TYPES = new HashMap<>();
+    private static final List<AppServer> running = new CopyOnWriteArrayList<>();
+    private static final ThreadLocal<AppServer> perWorker = new ThreadLocal<>();
+    private static AppServer shared;
+    private static boolean sharedAttempted;
+
+    static {
+        CONTENT_TYPES.put("html", "text/html; charset=utf-8");
+        CONTENT_TYPES.put("css", "text/css; charset=utf-8");
+        CONTENT_TYPES.put("js", "application/javascript; charset=utf-8");
+        CONTENT_TYPES.put("json", "application/json; charset=utf-8");
+        CONTENT_TYPES.put("svg", "image/svg+xml");
+        CONTENT_TYPES.put("png", "image/png");
+        CONTENT_TYPES.put("jpg", "image/jpeg");
+        CONTENT_TYPES.put("gif", "image/gif");
+        CONTENT_TYPES.put("ico", "image/x-icon");
+        CONTENT_TYPES.put("woff2", "font/woff2");
+        CONTENT_TYPES.put("txt", "text/plain; charset=utf-8");
+    }
+
+    private final String root = ConfigManager.getProperty("app.server.root", "fixtures/").replaceAll("^/+|/+$", "");
+    private final String page = ConfigManager.getProperty("app.server.page", "demo-app.html");
+    private final int maxAgeSeconds = ConfigManager.getIntProperty("app.server.max.age", 3600);
+    private final int gzipMinBytes = ConfigManager.getIntProperty("app.server.gzip.min.bytes", 1024);
+    private final Map<String, Optional<Resource>> resources = new ConcurrentHashMap<>();
+    private final Map<String, DelayedResponse> delayedResponses = new ConcurrentHashMap<>();
+    private HttpServer server;
+    private ExecutorService executor;
+
+    public static boolean isEnabled() {
+        return ConfigManager.getBooleanProperty("app.server.enabled", true);
+    }
+
+    private static boolean isPerWorker() {
+        return ConfigManager.getBooleanProperty("app.server.per.worker", false);
+    }
+
+    /**
+     * Starts the shared instance (no-op when disabled, per worker or already running).
+     */
+    public static synchronized void startShared() {
+        if (!sharedAttempted && isEnabled() && !isPerWorker()) {
+            sharedAttempted = true;
+            shared = launch("app-server");
+        }
+    }
+
+    /**
+     * @return the app page on the server for the calling thread, starting its instance in per-worker
+     *         mode; null when the server is disabled or could not start
+     */
+    public static String getAppUrl() {
+        if (!isEnabled()) {
+            return null;
+        }
+        AppServer server;
+        if (isPerWorker()) {
+            server = perWorker.get();
+            if (server == null) {
+                server = launch("app-server-" + Thread.currentThread().getName());
+                perWorker.set(server);
+            }
+        } else {
+            startShared();
+            server = shared;
+        }
+        return server != null ? server.getBaseUrl() : null;
+    }
+
+    /**
+     * Parks a response on the calling thread's instance (the one {@link #getAppUrl()} returns).
+     *
+     * @return a one-shot URL answered with {@code status}, {@code headers} and {@code body} after {@code delayMs}
+     *         without tying up the caller, or null when no instance is running
+     */
+    public static String delayedResponseUrl(int status, Map<String, String> headers, byte[] body, long delayMs) {
+        AppServer server = isPerWorker() ? perWorker.get() : shared;
+        if (server == null) {
+            return null;
+        }
+        String token = UUID.randomUUID().toString();
+        server.delayedResponses.put(token, new DelayedResponse(status, headers, body, delayMs));
+        return "http://127.0.0.1:" + server.server.getAddress().getPort() + DELAYED_PATH + token;
+    }
+
+    /**
+     * Stops every instance, shared and per worker.
+     */
+    public static synchronized void stopAll() {
+        for (AppServer server : new ArrayList<>(running)) {
+            server.stop();
+        }
+        running.clear();
+        shared = null;
+        sharedAttempted = false;
+    }
+
+    private static AppServer launch(String threadName) {
+        AppServer server = new AppServer();
+        try {
+            server.start(threadName);
+            running.add(server);
+            return server;
+        } catch (IOException e) {
+            logger.warn("Could not start the app server; falling back to app.url", e);
+            return null;
+        }
+    }
+
+    private void start(String threadName) throws IOException {
+        if (load(page) == null) {
+            throw new IOException("Classpath resource " + root + "/" + page + " not found");
+        }
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        server.createContext("/", this::handle);
+        server.createContext(DELAYED_PATH, this::handleDelayed);
+        executor = Executors.newCachedThreadPool(runnable -> {
+            Thread thread = new Thread(runnable, threadName);
+            thread.setDaemon(true);
+            return thread;
+        });
+        server.setExecutor(executor);
+        server.start();
+        logger.info("App server serving classpath:{}/ at {}", root, getBaseUrl());
+    }
+
+    private void stop() {
+        int port = server.getAddress().getPort();
+        server.stop(0);
+        executor.shutdownNow();
+        logger.info("App server on port {} stopped", port);
+    }
+
+    public String getBaseUrl() {
+        return "http://127.0.0.1:" + server.getAddress().getPort() + "/" + page;
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try {
+            String method = exchange.getRequestMethod();
+            if (!"GET".equals(method) && !"HEAD".equals(method)) {
+                exchange.getResponseHeaders().set("Allow", "GET, HEAD");
+                exchange.sendResponseHeaders(405, -1);
+                return;
+            }
+            String path = URI.create(exchange.getRequestURI().getRawPath()).getPath();
+            Resource resource = path.contains("..") ? null : load(path.equals("/") ? page : path.substring(1));
+            if (resource == null) {
+                exchange.sendResponseHeaders(404, -1);
+                return;
+            }
+            exchange.getResponseHeaders().set("Content-Type", resource.contentType);
+            exchange.getResponseHeaders().set("ETag", resource.etag);
+            exchange.getResponseHeaders().set("Cache-Control", resource.contentType.startsWith("text/html")
+                    ? "no-cache" : "public, max-age=" + maxAgeSeconds);
+            exchange.getResponseHeaders().set("Vary", "Accept-Encoding");
+            if (resource.etag.equals(exchange.getRequestHeaders().getFirst("If-None-Match"))) {
+                exchange.sendResponseHeaders(304, -1);
+                return;
+            }
+            String acceptEncoding = exchange.getRequestHeaders().getFirst("Accept-Encoding");
+            byte[] body = resource.body;
+            if (resource.gzipped != null && acceptEncoding != null && acceptEncoding.contains("gzip")) {
+                exchange.getResponseHeaders().set("Content-Encoding", "gzip");
+                body = resource.gzipped;
+            }
+            if ("HEAD".equals(method)) {
+                exchange.getResponseHeaders().set("Content-Length", Integer.toString(body.length));
+                exchange.sendResponseHeaders(200, -1);
+                return;
+            }
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        } finally {
+            exchange.close();
+        }
+    }
+
+    // Runs on the server's cached pool, so concurrent delayed responses wait side by side
+    private void handleDelayed(HttpExchange exchange) throws IOException {
+        try {
+            String token = exchange.getRequestURI().getPath().substring(DELAYED_PATH.length());
+            DelayedResponse response = delayedResponses.remove(token);
+            if (response == null) {
+                exchange.sendResponseHeaders(404, -1);
+                return;
+            }
+            try {
+                Thread.sleep(response.delayMs);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            response.headers.forEach((name, value) -> exchange.getResponseHeaders().set(name, value));
+            if ("HEAD".equals(exchange.getRequestMethod()) || response.body.length == 0) {
+                exchange.sendResponseHeaders(response.status, -1);
+                return;
+            }
+            exchange.sendResponseHeaders(response.status, response.body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(response.body);
+            }
+        } finally {
+            exchange.close();
+        }
+    }
+
+    private Resource load(String relativePath) {
+        return resources.computeIfAbsent(relativePath, path -> {
+            try (InputStream in = AppServer.class.getClassLoader().getResourceAsStream(root + "/" + path)) {
+                if (in == null) {
+                    return Optional.empty();
+                }
+                return Optional.of(new Resource(path, in.readAllBytes()));
+            } catch (IOException e) {
+                logger.warn("Failed to read fixture {}", path, e);
+                return Optional.empty();
+            }
+        }).orElse(null);
+    }
+
+    private class Resource {
+        private final String contentType;
+        private final byte[] body;
+        private final byte[] gzipped;
+        private final String etag;
+
+        private Resource(String path, byte[] body) throws IOException {
+            String extension = path.substring(path.lastIndexOf('.') + 1).toLowerCase(Locale.ENGLISH);
+            this.contentType = CONTENT_TYPES.getOrDefault(extension, "application/octet-stream");
+            this.body = body;
+            this.gzipped = isCompressible(contentType) && body.length >= gzipMinBytes ? gzip(body) : null;
+            CRC32 crc = new CRC32();
+            crc.update(body);
+            this.etag = "\"" + Long.toHexString(crc.getValue()) + "-" + body.length + "\"";
+        }
+    }
+
+    private static class DelayedResponse {
+        private final int status;
+        private final Map<String, String> headers;
+        private final byte[] body;
+        private final long delayMs;
+
+        private DelayedResponse(int status, Map<String, String> headers, byte[] body, long delayMs) {
+            this.status = status;
+            this.headers = headers;
+            this.body = body;
+            this.delayMs = delayMs;
+        }
+    }
+
+    private static boolean isCompressible(String contentType) {
+        return contentType.startsWith("text/") || contentType.contains("javascript") || contentType.contains("json")
+                || contentType.contains("svg");
+    }
+
+    private static byte[] gzip(byte[] body) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(body.length / 3);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(body);
+        }
+        return out.toByteArray();
+    }
+}
@@ -2,18 +2,44 @@ package com.testautomation.utils;
 
 import com.aventstack.extentreports.ExtentReports;
 import com.aventstack.extentreports.ExtentTest;
+import com.aventstack.extentreports.Status;
 import com.aventstack.extentreports.reporter.ExtentSparkReporter;
 import com.aventstack.extentreports.reporter.configuration.Theme;
 import com.testautomation.config.ConfigManager;
+import com.testautomation.metrics.jfr.ReportFlushEvent;
+import com.testautomation.reporting.ReportArchiver;
+import com.testautomation.reporting.ReportEvent;
+import com.testautomation.reporting.ReportEventLog;
+import com.testautomation.reporting.ReportEventMerger;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
 import java.io.File;
+import java.util.Collections;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
 
 public class ExtentReportManager {
     private static final Logger logger = LogManager.getLogger(ExtentReportManager.class);
+    // "extent" renders straight into the shared ExtentReports; "eventlog" appends to per-thread logs merged at suite end
+    private static final boolean EVENT_LOG_BACKEND =
+            "eventlog".equalsIgnoreCase(ConfigManager.getProperty("report.backend", "extent"));
+    private static final boolean REFERENCE_SCREENSHOTS =
+            "reference".equalsIgnoreCase(ConfigManager.getProperty("report.screenshot.mode", "base64"));
+    private static final boolean EMBED_THUMBNAILS = ConfigManager.getBooleanProperty("report.screenshot.thumbnails", true);
+    private static final int THUMBNAIL_WIDTH = ConfigManager.getIntProperty("screenshot.thumbnail.width", 360);
     private static ExtentReports extent;
-    private static ThreadLocal<ExtentTest> test = new ThreadLocal<>();
+    private static ThreadLocal<TestHandle> test = new ThreadLocal<>();
+    private static final ThreadLocal<String> eventTestId = new ThreadLocal<>();
+    // ExtentReports iterates its test and log lists unguarded while rendering, so workers never touch them:
+    // report updates are queued here and applied by whichever thread renders, just before it renders
+    private static final Queue<Runnable> pendingUpdates = new ConcurrentLinkedQueue<>();
+    private static final Object RENDER_LOCK = new Object();
+
+    // The ExtentTest behind a worker's current test; created when the queued createTest is applied
+    private static final class TestHandle {
+        private ExtentTest node;
+    }
 
     public static ExtentReports getInstance() {
         if (extent == null) {
@@ -25,26 +51,7 @@ public class ExtentReportManager {
     private static void createInstance() {
         try {
             String reportPath = ConfigManager.getProperty("report.path", "test-output/ExtentReport.html");
-            
-            // Create test-output directory if it doesn't exist
-            File reportDir = new File("test-output");
-            if (!reportDir.exists()) {
-                reportDir.mkdirs();
-            }
-
-            ExtentSparkReporter sparkReporter = new ExtentSparkReporter(reportPath);
-            sparkReporter.config().setDocumentTitle(ConfigManager.getProperty("report.title", "Playwright Test Automation Report"));
-            sparkReporter.config().setReportName(ConfigManager.getProperty("report.name", "Test Execution Report"));
-            sparkReporter.config().setTheme(Theme.STANDARD);
-            sparkReporter.config().setTimeStampFormat("yyyy-MM-dd HH:mm:ss");
-
-            extent = new ExtentReports();
-            extent.attachReporter(sparkReporter);
-            extent.setSystemInfo("OS", System.getProperty("os.name"));
-            extent.setSystemInfo("Java Version", System.getProperty("java.version"));
-            extent.setSystemInfo("Browser", ConfigManager.getProperty("browser.name", "chromium"));
-            extent.setSystemInfo("Environment", "Test");
-
+            extent = createReports(reportPath);
             logger.info("ExtentReport instance created successfully");
         } catch (Exception e) {
             logger.error("Failed to create ExtentReport instance", e);
@@ -52,85 +59,293 @@ public class ExtentReportManager {
         }
     }
 
-    public static synchronized void createTest(String testName) {
-        ExtentTest extentTest = getInstance().createTest(testName);
-        test.set(extentTest);
-        logger.info("Created thread-safe test: {}", testName);
+    public static ExtentReports createReports(String reportPath) {
+        // Create test-output directory if it doesn't exist
+        File reportDir = new File("test-output");
+        if (!reportDir.exists()) {
+            reportDir.mkdirs();
+        }
+
+        ExtentSparkReporter sparkReporter = new ExtentSparkReporter(reportPath);
+        sparkReporter.config().setDocumentTitle(ConfigManager.getProperty("report.title", "Playwright Test Automation Report"));
+        sparkReporter.config().setReportName(ConfigManager.getProperty("report.name", "Test Execution Report"));
+        sparkReporter.config().setTheme(Theme.STANDARD);
+        sparkReporter.config().setTimeStampFormat("yyyy-MM-dd HH:mm:ss");
+
+        ExtentReports reports = new ExtentReports();
+        reports.attachReporter(sparkReporter);
+        reports.setSystemInfo("OS", System.getProperty("os.name"));
+        reports.setSystemInfo("Java Version", System.getProperty("java.version"));
+        reports.setSystemInfo("Browser", ConfigManager.getProperty("browser.name", "chromium"));
+        reports.setSystemInfo("Environment", "Test");
+        return reports;
     }
 
-    public static synchronized void createTest(String testName, String description) {
-        ExtentTest extentTest = getInstance().createTest(testName, description);
-        test.set(extentTest);
-        logger.info("Created thread-safe test: {} - {}", testName, description);
+    public static void createTest(String testName) {
+        createTest(testName, null);
     }
 
+    public static void createTest(String testName, String description) {
+        if (EVENT_LOG_BACKEND) {
+            String testId = ReportEventLog.nextTestId();
+            ReportEventLog.current().append(ReportEvent.testStarted(testId, testName, description));
+            eventTestId.set(testId);
+        } else {
+            TestHandle handle = new TestHandle();
+            pendingUpdates.add(() -> handle.node = getInstance().createTest(testName, description));
+            test.set(handle);
+        }
+        if (description != null) {
+            logger.info("Created thread-safe test: {} - {}", testName, description);
+        } else {
+            logger.info("Created thread-safe test: {}", testName);
+        }
+    }
+
+    /**
+     * The current thread's ExtentTest, or null until the next render has applied its queued creation.
+     */
     public static ExtentTest getTest() {
-        return test.get();
+        TestHandle handle = test.get();
+        if (handle == null) {
+            return null;
+        }
+        synchronized (RENDER_LOCK) {
+            return handle.node;
+        }
     }
 
-    public static synchronized void flush() {
-        if (extent != null) {
-            extent.flush();
-            logger.info("ExtentReport flushed successfully");
+    public static void flush() {
+        ReportFlushEvent event = new ReportFlushEvent(EVENT_LOG_BACKEND ? "eventlog" : "extent", false);
+        event.begin();
+        try {
+            if (EVENT_LOG_BACKEND) {
+                // Nothing to render until the end of the run; just make the logs durable
+                ReportEventLog.flushAll();
+                return;
+            }
+            synchronized (RENDER_LOCK) {
+                int applied = applyPendingUpdates();
+                if (extent != null) {
+                    extent.flush();
+                    logger.info("ExtentReport flushed successfully ({} queued update(s) applied)", applied);
+                }
+            }
+        } finally {
+            event.commit();
+        }
+    }
+
+    // Called with RENDER_LOCK held; updates from one thread keep their order because the queue is FIFO
+    private static int applyPendingUpdates() {
+        int applied = 0;
+        Runnable update;
+        while ((update = pendingUpdates.poll()) != null) {
+            try {
+                update.run();
+            } catch (RuntimeException e) {
+                logger.warn("Failed to apply queued report update: {}", e.getMessage());
+            }
+            applied++;
+        }
+        return applied;
+    }
+
+    /**
+     * Final render at the end of the run. With the event-log backend this closes the per-thread logs
+     * and merges this run's logs (its shard under {@code report.events.dir}) into the HTML report and JSON summary.
+     */
+    public static void finalizeReport() {
+        ReportFlushEvent event = new ReportFlushEvent(EVENT_LOG_BACKEND ? "eventlog" : "extent", true);
+        event.begin();
+        try {
+            if (EVENT_LOG_BACKEND) {
+                ReportEventLog.closeAll();
+                ReportEventMerger.merge(Collections.singletonList(ReportEventLog.getShardDirectory()));
+            } else {
+                flush();
+            }
+        } finally {
+            event.commit();
+        }
+        if (ConfigManager.getBooleanProperty("report.archive", false)) {
+            ReportArchiver.archive();
         }
     }
 
     public static void addScreenshot(String screenshotPath) {
-        ExtentTest currentTest = test.get();
-        if (currentTest != null && screenshotPath != null) {
+        if (screenshotPath == null) {
+            return;
+        }
+        if (EVENT_LOG_BACKEND) {
+            String testId = eventTestId.get();
+            if (testId != null) {
+                ReportEventLog.current().append(ReportEvent.media(testId, screenshotPath));
+            }
+            return;
+        }
+        TestHandle handle = test.get();
+        if (handle != null) {
+            pendingUpdates.add(() -> attachScreenshot(handle.node, screenshotPath));
+        }
+    }
+
+    public static void attachScreenshot(ExtentTest extentTest, String screenshotPath) {
+        if (REFERENCE_SCREENSHOTS) {
+            attachScreenshotReference(extentTest, screenshotPath);
+            return;
+        }
+        try {
+            // Read the screenshot file and convert to base64
+            java.nio.file.Path path = java.nio.file.Paths.get(screenshotPath);
+            byte[] imageBytes = java.nio.file.Files.readAllBytes(path);
+            String base64Image = java.util.Base64.getEncoder().encodeToString(imageBytes);
+
+            // Add as base64 image (this creates clickable thumbnails)
+            extentTest.addScreenCaptureFromBase64String(base64Image);
+            logger.info("Screenshot added to report as base64: {}", screenshotPath);
+        } catch (Exception e) {
+            logger.error("Failed to add screenshot as base64: {}", e.getMessage());
+            // Fallback to relative path
+            String relativePath = screenshotPath.replace("\\", "/");
+            extentTest.addScreenCaptureFromPath(relativePath);
+            logger.info("Screenshot added to report as relative path: {}", relativePath);
+        }
+    }
+
+    /**
+     * Links the full-size screenshot by its path relative to the report. Only a small JPEG thumbnail
+     * is embedded (or, with thumbnails disabled, the full image is lazy-loaded from disk).
+     */
+    private static void attachScreenshotReference(ExtentTest extentTest, String screenshotPath) {
+        java.nio.file.Path path = java.nio.file.Paths.get(screenshotPath);
+        String relativePath = toReportRelativePath(path);
+        String imageSource = relativePath;
+        if (EMBED_THUMBNAILS) {
             try {
-                // Read the screenshot file and convert to base64
-                java.nio.file.Path path = java.nio.file.Paths.get(screenshotPath);
-                byte[] imageBytes = java.nio.file.Files.readAllBytes(path);
-                String base64Image = java.util.Base64.getEncoder().encodeToString(imageBytes);
-                
-                // Add as base64 image (this creates clickable thumbnails)
-                currentTest.addScreenCaptureFromBase64String(base64Image);
-                logger.info("Screenshot added to report as base64: {}", screenshotPath);
+                byte[] thumbnail = ImageArtifactProcessor.thumbnailBytes(path, THUMBNAIL_WIDTH);
+                imageSource = "data:image/jpeg;base64," + java.util.Base64.getEncoder().encodeToString(thumbnail);
             } catch (Exception e) {
-                logger.error("Failed to add screenshot as base64: {}", e.getMessage());
-                // Fallback to relative path
-                String relativePath = screenshotPath.replace("\\", "/");
-                currentTest.addScreenCaptureFromPath(relativePath);
-                logger.info("Screenshot added to report as relative path: {}", relativePath);
+                logger.warn("Failed to create thumbnail for {}, linking full image: {}", screenshotPath, e.getMessage());
             }
         }
+        extentTest.info("<a href='" + relativePath + "' target='_blank'><img src='" + imageSource
+                + "' loading='lazy' style='max-width:" + THUMBNAIL_WIDTH + "px' alt='screenshot'/></a>");
+        logger.info("Screenshot added to report as reference: {}", relativePath);
+    }
+
+    /**
+     * Adds the downscaled diff thumbnail to the report, linked to the side-by-side strip, heatmap and
+     * full-size diff. Paths are referenced relative to the report so nothing full-size is embedded.
+     */
+    public static void addDiffArtifacts(String baselineKey, ImageArtifactProcessor.DiffArtifacts artifacts) {
+        if (artifacts != null) {
+            StringBuilder html = new StringBuilder();
+            html.append("Visual diff for '").append(baselineKey).append("'<br/>")
+                    .append("<a href='").append(toReportRelativePath(artifacts.getStripPath())).append("' target='_blank'>")
+                    .append("<img src='").append(toReportRelativePath(artifacts.getThumbnailPath()))
+                    .append("' loading='lazy' alt='diff thumbnail'/></a><br/>")
+                    .append("<a href='").append(toReportRelativePath(artifacts.getHeatmapPath()))
+                    .append("' target='_blank'>heatmap</a>");
+            if (artifacts.getFullDiffPath() != null) {
+                html.append(" | <a href='").append(toReportRelativePath(artifacts.getFullDiffPath()))
+                        .append("' target='_blank'>full-size diff</a>");
+            }
+            if (record(Status.FAIL, html.toString())) {
+                logger.info("Diff artifacts linked in report for: {}", baselineKey);
+            }
+        }
+    }
+
+    static String toReportRelativePath(java.nio.file.Path file) {
+        java.nio.file.Path reportDir = java.nio.file.Paths.get(
+                ConfigManager.getProperty("report.path", "test-output/ExtentReport.html")).toAbsolutePath().getParent();
+        return reportDir.relativize(file.toAbsolutePath()).toString().replace("\\", "/");
     }
 
     public static void logInfo(String message) {
-        ExtentTest currentTest = test.get();
-        if (currentTest != null) {
-            currentTest.info(message);
+        if (record(Status.INFO, message)) {
             logger.info("ExtentReport - INFO: {}", message);
         }
     }
 
     public static void logPass(String message) {
-        ExtentTest currentTest = test.get();
-        if (currentTest != null) {
-            currentTest.pass(message);
+        if (record(Status.PASS, message)) {
             logger.info("ExtentReport - PASS: {}", message);
         }
     }
 
     public static void logFail(String message) {
-        ExtentTest currentTest = test.get();
-        if (currentTest != null) {
-            currentTest.fail(message);
+        if (record(Status.FAIL, message)) {
             logger.error("ExtentReport - FAIL: {}", message);
         }
     }
 
     public static void logSkip(String message) {
-        ExtentTest currentTest = test.get();
-        if (currentTest != null) {
-            currentTest.skip(message);
+        if (record(Status.SKIP, message)) {
             logger.warn("ExtentReport - SKIP: {}", message);
         }
     }
     
+    private static boolean record(Status status, String message) {
+        if (EVENT_LOG_BACKEND) {
+            String testId = eventTestId.get();
+            if (testId == null) {
+                return false;
+            }
+            ReportEventLog.current().append(ReportEvent.log(testId, status.name(), message));
+            return true;
+        }
+        TestHandle handle = test.get();
+        if (handle == null) {
+            return false;
+        }
+        pendingUpdates.add(() -> handle.node.log(status, message));
+        return true;
+    }
+
+    /**
+     * Tags the current test with a report category, e.g. to tell performance budget breaches
+     * apart from functional failures.
+     */
+    public static void assignCategory(String category) {
+        if (EVENT_LOG_BACKEND) {
+            String testId = eventTestId.get();
+            if (testId != null) {
+                ReportEventLog.current().append(ReportEvent.category(testId, category));
+            }
+            return;
+        }
+        TestHandle handle = test.get();
+        if (handle != null) {
+            pendingUpdates.add(() -> handle.node.assignCategory(category));
+        }
+    }
+
+    public static void logWarning(String message) {
+        if (record(Status.WARNING, message)) {
+            logger.warn("ExtentReport - WARNING: {}", message);
+        }
+    }
+
+    /**
+     * Adds a suite-level node (aggregate metrics and the like) to the report. Call it from a thread
+     * that is not running a test, e.g. at suite end.
+     */
+    public static void addReportSection(String title, String html) {
+        addReportSection(title, html, Status.INFO);
+    }
+
+    public static void addReportSection(String title, String html, Status status) {
+        createTest(title);
+        record(status, html);
+        logger.info("Added report section: {} ({})", title, status);
+        cleanup();
+    }
+
     // Clean up thread-local data
     public static void cleanup() {
         test.remove();
+        eventTestId.remove();
     }
 }
@@ -0,0 +1,281 @@
+package com.testautomation.utils;
+
+import com.testautomation.config.ConfigManager;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.stream.ImageInputStream;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Iterator;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Renders visual-diff artifacts (full-size overlay, downscaled heatmap, side-by-side strip and thumbnail)
+ * on a single background thread so a failing visual check does not pay for PNG encoding on the test thread.
+ */
+public class ImageArtifactProcessor {
+    private static final Logger logger = LogManager.getLogger(ImageArtifactProcessor.class);
+    private static final String DIFF_DIR = "test-output/screenshot-diffs/";
+    private static final int PREVIEW_WIDTH = ConfigManager.getIntProperty("screenshot.preview.width", 480);
+    private static final int THUMBNAIL_WIDTH = ConfigManager.getIntProperty("screenshot.thumbnail.width", 360);
+    private static final boolean ASYNC = ConfigManager.getBooleanProperty("screenshot.artifacts.async", true);
+    private static final boolean WRITE_FULL_DIFF = ConfigManager.getBooleanProperty("screenshot.diff.full.resolution", true);
+    private static final int DIFF_COLOR = 0xFFFF0000;
+
+    private static final ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "image-artifacts");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private static final Set<Future<?>> pending = ConcurrentHashMap.newKeySet();
+
+    /**
+     * Reserves the artifact paths for a failed comparison and schedules their rendering.
+     * The returned paths are final immediately; the files appear once the background stage catches up.
+     */
+    public static DiffArtifacts submitDiff(String baselineKey, BufferedImage baselineImage, BufferedImage actualImage) {
+        String sanitizedKey = baselineKey.replaceAll("[^a-zA-Z0-9_/.-]", "_").replace('/', '_').replace('\\', '_');
+        String timestamp = LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd_HHmmss"));
+        Path diffDirectory = Paths.get(DIFF_DIR);
+        String prefix = String.format("%s_%s", sanitizedKey, timestamp);
+        DiffArtifacts artifacts = new DiffArtifacts(
+                WRITE_FULL_DIFF ? diffDirectory.resolve(prefix + "_diff.png") : null,
+                diffDirectory.resolve(prefix + "_heatmap.png"),
+                diffDirectory.resolve(prefix + "_strip.png"),
+                diffDirectory.resolve(prefix + "_thumb.png"));
+
+        Runnable task = () -> renderDiff(baselineKey, baselineImage, actualImage, artifacts);
+        if (ASYNC) {
+            Future<?> future = executor.submit(task);
+            pending.add(future);
+        } else {
+            task.run();
+        }
+        return artifacts;
+    }
+
+    /**
+     * Blocks until every scheduled artifact has been written, or the timeout elapses.
+     * Called at suite end so the JVM does not exit with half-written images.
+     */
+    public static void awaitCompletion(long timeoutMs) {
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMs);
+        for (Future<?> future : pending) {
+            long remaining = deadline - System.nanoTime();
+            try {
+                future.get(Math.max(0, remaining), TimeUnit.NANOSECONDS);
+            } catch (TimeoutException e) {
+                logger.warn("Timed out waiting for {} pending image artifact(s)", pending.size());
+                return;
+            } catch (ExecutionException e) {
+                logger.error("Image artifact rendering failed", e.getCause());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                logger.warn("Interrupted while waiting for image artifacts", e);
+                return;
+            }
+            pending.remove(future);
+        }
+    }
+
+    /**
+     * Encodes a small JPEG thumbnail of an image file for embedding in the report.
+     * The PNG is decoded with source subsampling, so the full-resolution raster is never materialised.
+     */
+    public static byte[] thumbnailBytes(Path source, int targetWidth) throws IOException {
+        try (ImageInputStream input = ImageIO.createImageInputStream(source.toFile())) {
+            Iterator<ImageReader> readers = input != null ? ImageIO.getImageReaders(input) : null;
+            if (readers == null || !readers.hasNext()) {
+                throw new IOException("No image reader available for " + source);
+            }
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(input, true, true);
+                int step = Math.max(1, reader.getWidth(0) / targetWidth);
+                ImageReadParam param = reader.getDefaultReadParam();
+                param.setSourceSubsampling(step, step, 0, 0);
+                BufferedImage subsampled = reader.read(0, param);
+
+                BufferedImage thumbnail = new BufferedImage(subsampled.getWidth(), subsampled.getHeight(),
+                        BufferedImage.TYPE_INT_RGB);
+                Graphics2D graphics = thumbnail.createGraphics();
+                graphics.drawImage(subsampled, 0, 0, null);
+                graphics.dispose();
+
+                ByteArrayOutputStream output = new ByteArrayOutputStream();
+                ImageIO.write(scaleToWidth(thumbnail, targetWidth), "jpg", output);
+                return output.toByteArray();
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    private static void renderDiff(String baselineKey, BufferedImage baselineImage, BufferedImage actualImage,
+                                   DiffArtifacts artifacts) {
+        try {
+            Files.createDirectories(Paths.get(DIFF_DIR));
+
+            if (artifacts.getFullDiffPath() != null) {
+                ImageIO.write(renderOverlay(baselineImage, actualImage), "png", artifacts.getFullDiffPath().toFile());
+            }
+
+            BufferedImage heatmap = renderHeatmap(baselineImage, actualImage, PREVIEW_WIDTH);
+            ImageIO.write(heatmap, "png", artifacts.getHeatmapPath().toFile());
+
+            BufferedImage strip = renderStrip(
+                    scaleToWidth(baselineImage, heatmap.getWidth()),
+                    scaleToWidth(actualImage, heatmap.getWidth()),
+                    heatmap);
+            ImageIO.write(strip, "png", artifacts.getStripPath().toFile());
+            ImageIO.write(scaleToWidth(strip, THUMBNAIL_WIDTH), "png", artifacts.getThumbnailPath().toFile());
+
+            logger.warn("Diff artifacts generated for '{}': {}", baselineKey, artifacts.getStripPath().toAbsolutePath());
+        } catch (IOException e) {
+            logger.error("Failed to write diff artifacts for '{}'", baselineKey, e);
+        }
+    }
+
+    private static BufferedImage renderOverlay(BufferedImage baselineImage, BufferedImage actualImage) {
+        int width = baselineImage.getWidth();
+        int height = baselineImage.getHeight();
+        int[] baselineRow = new int[width];
+        int[] actualRow = new int[width];
+        BufferedImage overlay = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+        for (int y = 0; y < height; y++) {
+            baselineImage.getRGB(0, y, width, 1, baselineRow, 0, width);
+            actualImage.getRGB(0, y, width, 1, actualRow, 0, width);
+            for (int x = 0; x < width; x++) {
+                if (baselineRow[x] != actualRow[x]) {
+                    baselineRow[x] = DIFF_COLOR;
+                }
+            }
+            overlay.setRGB(0, y, width, 1, baselineRow, 0, width);
+        }
+        return overlay;
+    }
+
+    /**
+     * Builds a downscaled heatmap: every output pixel covers a block of source pixels and is tinted
+     * red in proportion to the share of mismatched pixels in that block, over a dimmed greyscale baseline.
+     */
+    private static BufferedImage renderHeatmap(BufferedImage baselineImage, BufferedImage actualImage, int targetWidth) {
+        int width = baselineImage.getWidth();
+        int height = baselineImage.getHeight();
+        int block = Math.max(1, (int) Math.ceil((double) width / targetWidth));
+        int outWidth = (width + block - 1) / block;
+        int outHeight = (height + block - 1) / block;
+
+        int[] mismatches = new int[outWidth * outHeight];
+        long[] luminance = new long[outWidth * outHeight];
+        int[] samples = new int[outWidth * outHeight];
+        int[] baselineRow = new int[width];
+        int[] actualRow = new int[width];
+
+        for (int y = 0; y < height; y++) {
+            baselineImage.getRGB(0, y, width, 1, baselineRow, 0, width);
+            actualImage.getRGB(0, y, width, 1, actualRow, 0, width);
+            int rowOffset = (y / block) * outWidth;
+            for (int x = 0; x < width; x++) {
+                int cell = rowOffset + x / block;
+                int rgb = baselineRow[x];
+                luminance[cell] += ((rgb >> 16 & 0xFF) * 299 + (rgb >> 8 & 0xFF) * 587 + (rgb & 0xFF) * 114) / 1000;
+                samples[cell]++;
+                if (rgb != actualRow[x]) {
+                    mismatches[cell]++;
+                }
+            }
+        }
+
+        BufferedImage heatmap = new BufferedImage(outWidth, outHeight, BufferedImage.TYPE_INT_RGB);
+        for (int cell = 0; cell < mismatches.length; cell++) {
+            int grey = (int) (luminance[cell] / samples[cell]) / 2 + 64;
+            double intensity = (double) mismatches[cell] / samples[cell];
+            int red = (int) (grey + (255 - grey) * intensity);
+            int other = (int) (grey * (1 - intensity));
+            heatmap.setRGB(cell % outWidth, cell / outWidth, red << 16 | other << 8 | other);
+        }
+        return heatmap;
+    }
+
+    private static BufferedImage renderStrip(BufferedImage... panels) {
+        int width = 0;
+        int height = 0;
+        for (BufferedImage panel : panels) {
+            width += panel.getWidth();
+            height = Math.max(height, panel.getHeight());
+        }
+        BufferedImage strip = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = strip.createGraphics();
+        int x = 0;
+        for (BufferedImage panel : panels) {
+            graphics.drawImage(panel, x, 0, null);
+            x += panel.getWidth();
+        }
+        graphics.dispose();
+        return strip;
+    }
+
+    static BufferedImage scaleToWidth(BufferedImage source, int targetWidth) {
+        if (source.getWidth() <= targetWidth) {
+            return source;
+        }
+        int targetHeight = Math.max(1, (int) Math.round((double) source.getHeight() * targetWidth / source.getWidth()));
+        BufferedImage scaled = new BufferedImage(targetWidth, targetHeight, BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = scaled.createGraphics();
+        graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+        graphics.drawImage(source, 0, 0, targetWidth, targetHeight, null);
+        graphics.dispose();
+        return scaled;
+    }
+
+    @SuppressWarnings("LombokGetterMayBeUsed")
+    public static class DiffArtifacts {
+        private final Path fullDiffPath;
+        private final Path heatmapPath;
+        private final Path stripPath;
+        private final Path thumbnailPath;
+
+        private DiffArtifacts(Path fullDiffPath, Path heatmapPath, Path stripPath, Path thumbnailPath) {
+            this.fullDiffPath = fullDiffPath;
+            this.heatmapPath = heatmapPath;
+            this.stripPath = stripPath;
+            this.thumbnailPath = thumbnailPath;
+        }
+
+        public Path getFullDiffPath() {
+            return fullDiffPath;
+        }
+
+        public Path getHeatmapPath() {
+            return heatmapPath;
+        }
+
+        public Path getStripPath() {
+            return stripPath;
+        }
+
+        public Path getThumbnailPath() {
+            return thumbnailPath;
+        }
+    }
+}
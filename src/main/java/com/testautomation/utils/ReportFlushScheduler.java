@@ -0,0 +1,82 @@
+package com.testautomation.utils;
+
+import com.testautomation.config.ConfigManager;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Coalesces report flush requests onto a single background thread.
+ * Workers only queue report updates and bump a counter, so they never wait on a render;
+ * the queued updates are applied and the Spark report is re-rendered every {@code report.flush.interval.ms}
+ * or once {@code report.flush.every.tests} requests have piled up, whichever comes first.
+ * A final synchronous flush runs at suite end and from a JVM shutdown hook.
+ */
+public class ReportFlushScheduler {
+    private static final Logger logger = LogManager.getLogger(ReportFlushScheduler.class);
+    private static final long INTERVAL_MS = ConfigManager.getIntProperty("report.flush.interval.ms", 5000);
+    private static final int EVERY_TESTS = ConfigManager.getIntProperty("report.flush.every.tests", 10);
+
+    private static final AtomicInteger pendingRequests = new AtomicInteger();
+    private static final AtomicBoolean started = new AtomicBoolean(false);
+    private static volatile boolean finalFlushDone;
+    private static final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "report-flusher");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    /**
+     * Records that the report has changed. Never blocks on rendering.
+     */
+    public static void requestFlush() {
+        start();
+        finalFlushDone = false;
+        if (pendingRequests.incrementAndGet() >= EVERY_TESTS) {
+            scheduler.execute(ReportFlushScheduler::flushIfPending);
+        }
+    }
+
+    /**
+     * Renders the report on the calling thread, regardless of pending requests.
+     * Used for the final flush at suite end.
+     */
+    public static void flushNow() {
+        pendingRequests.set(0);
+        ExtentReportManager.finalizeReport();
+        finalFlushDone = true;
+    }
+
+    private static void start() {
+        if (started.compareAndSet(false, true)) {
+            scheduler.scheduleWithFixedDelay(ReportFlushScheduler::flushIfPending,
+                    INTERVAL_MS, INTERVAL_MS, TimeUnit.MILLISECONDS);
+            Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+                if (!finalFlushDone) {
+                    flushNow();
+                }
+            }, "report-final-flush"));
+            logger.info("Report flush scheduler started (interval: {} ms, every {} tests)", INTERVAL_MS, EVERY_TESTS);
+        }
+    }
+
+    private static void flushIfPending() {
+        int pending = pendingRequests.getAndSet(0);
+        if (pending == 0) {
+            return;
+        }
+        try {
+            ExtentReportManager.flush();
+            logger.debug("Coalesced {} flush request(s) into one report render", pending);
+        } catch (Exception e) {
+            // Keep the updates pending so the next tick renders them again
+            pendingRequests.addAndGet(pending);
+            logger.error("Background report flush failed, retrying on the next tick", e);
+        }
+    }
+}
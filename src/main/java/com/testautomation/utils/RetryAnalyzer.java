@@ -1,6 +1,8 @@
 package com.testautomation.utils;
 
 import com.testautomation.config.ConfigManager;
+import com.testautomation.metrics.FrameworkMetrics;
+import com.testautomation.metrics.jfr.RetrySleepEvent;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.testng.IRetryAnalyzer;
@@ -22,12 +24,18 @@ public class RetryAnalyzer implements IRetryAnalyzer {
             logger.warn("Retrying test: {} - Attempt: {}/{}", 
                 result.getMethod().getMethodName(), retryCount, maxRetryCount);
             
+            FrameworkMetrics.retryScheduled();
+
             // Add delay before retry
+            RetrySleepEvent event = new RetrySleepEvent(result.getMethod().getQualifiedName(), retryCount);
+            event.begin();
             try {
                 Thread.sleep(retryDelayMs);
             } catch (InterruptedException e) {
                 Thread.currentThread().interrupt();
                 logger.warn("Retry delay interrupted", e);
+            } finally {
+                event.commit();
             }
             
             return true;
@@ -2,6 +2,8 @@ package com.testautomation.utils;
 
 import com.microsoft.playwright.Page;
 import com.testautomation.config.ConfigManager;
+import com.testautomation.metrics.FrameworkMetrics;
+import com.testautomation.metrics.jfr.ScreenshotEvent;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
@@ -19,7 +21,6 @@ public class ScreenshotUtil {
     private static final Logger logger = LogManager.getLogger(ScreenshotUtil.class);
     private static final String SCREENSHOT_DIR = ConfigManager.getProperty("screenshot.path", "test-output/screenshots/");
     private static final String BASELINE_DIR = ConfigManager.getProperty("screenshot.baseline.dir", "src/test/resources/baseline-screenshots/");
-    private static final String DIFF_DIR = "test-output/screenshot-diffs/";
 
     public static String takeScreenshot(Page page, String testName, String stepName) {
         try {
@@ -27,7 +28,13 @@ public class ScreenshotUtil {
             String timestamp = LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd_HHmmss"));
             String fileName = buildFileName(testName, stepName, timestamp);
             Path filePath = screenshotDirectory.resolve(fileName);
+            ScreenshotEvent event = new ScreenshotEvent(ScreenshotEvent.CAPTURE, fileName);
+            event.begin();
             page.screenshot(new Page.ScreenshotOptions().setPath(filePath));
+            long bytes = Files.size(filePath);
+            FrameworkMetrics.screenshotWritten(bytes);
+            event.setBytes(bytes);
+            event.commit();
 
             logger.info("Screenshot saved: {}", filePath);
             return filePath.toString();
@@ -56,6 +63,8 @@ public class ScreenshotUtil {
                     baselineKey, baselinePath.toAbsolutePath()));
         }
 
+        ScreenshotEvent event = new ScreenshotEvent(ScreenshotEvent.COMPARE, baselineKey);
+        event.begin();
         try {
             BufferedImage baselineImage = ImageIO.read(baselinePath.toFile());
             Path path = Paths.get(actualScreenshotPath);
@@ -81,11 +90,12 @@ public class ScreenshotUtil {
 
             ComparisonResult comparisonResult = compareImages(baselineImage, actualImage);
             double diffRatio = comparisonResult.getDiffRatio();
+            event.setDiffRatio(diffRatio);
 
             if (diffRatio > allowedDiffPercentage) {
-                Path diffPath = comparisonResult.getDiffImage() != null
-                        ? writeDiffImage(comparisonResult.getDiffImage(), baselineKey)
-                        : null;
+                ImageArtifactProcessor.DiffArtifacts artifacts =
+                        ImageArtifactProcessor.submitDiff(baselineKey, baselineImage, actualImage);
+                ExtentReportManager.addDiffArtifacts(baselineKey, artifacts);
                 String message = String.format(Locale.ENGLISH,
                         "Visual regression detected for '%s'. Diff ratio: %.4f%% (allowed: %.4f%%). " +
                                 "Baseline: %s, Actual: %s, Diff: %s",
@@ -94,7 +104,8 @@ public class ScreenshotUtil {
                         allowedDiffPercentage * 100,
                         baselinePath.toAbsolutePath(),
                         path.toAbsolutePath(),
-                        diffPath != null ? diffPath.toAbsolutePath() : "n/a");
+                        (artifacts.getFullDiffPath() != null ? artifacts.getFullDiffPath() : artifacts.getStripPath())
+                                .toAbsolutePath());
                 throw new AssertionError(message);
             }
 
@@ -104,6 +115,8 @@ public class ScreenshotUtil {
             throw new RuntimeException(String.format(Locale.ENGLISH,
                     "Failed to compare screenshots for '%s'. Baseline: %s, Actual: %s",
                     baselineKey, baselinePath, actualScreenshotPath), e);
+        } finally {
+            event.commit();
         }
     }
 
@@ -113,38 +126,21 @@ public class ScreenshotUtil {
         int height = baselineImage.getHeight();
         long mismatchedPixels = 0;
 
-        BufferedImage diffImage = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
-
+        // Only count mismatches here; diff images are rendered off the test thread by ImageArtifactProcessor
+        int[] baselineRow = new int[width];
+        int[] actualRow = new int[width];
         for (int y = 0; y < height; y++) {
+            baselineImage.getRGB(0, y, width, 1, baselineRow, 0, width);
+            actualImage.getRGB(0, y, width, 1, actualRow, 0, width);
             for (int x = 0; x < width; x++) {
-                int baselineRgb = baselineImage.getRGB(x, y);
-                int actualRgb = actualImage.getRGB(x, y);
-                if (baselineRgb != actualRgb) {
+                if (baselineRow[x] != actualRow[x]) {
                     mismatchedPixels++;
-                    diffImage.setRGB(x, y, 0xFFFF0000);
-                } else {
-                    diffImage.setRGB(x, y, baselineRgb);
                 }
             }
         }
 
-        double diffRatio = (double) mismatchedPixels / (width * height);
-
-        if (diffRatio == 0) {
-            diffImage = null;
-        }
-
-        return new ComparisonResult(diffRatio, diffImage);
-    }
-
-    private static Path writeDiffImage(BufferedImage diffImage, String baselineKey) throws IOException {
-        Path diffDirectory = ensureDirectory(Paths.get(DIFF_DIR));
-        String sanitizedKey = baselineKey.replaceAll("[^a-zA-Z0-9_/.-]", "_").replace('/', '_').replace('\\', '_');
-        String timestamp = LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd_HHmmss"));
-        Path diffPath = diffDirectory.resolve(String.format("%s_diff_%s.png", sanitizedKey, timestamp));
-        ImageIO.write(diffImage, "png", diffPath.toFile());
-        logger.warn("Diff image generated for '{}': {}", baselineKey, diffPath.toAbsolutePath());
-        return diffPath;
+        double diffRatio = (double) mismatchedPixels / ((long) width * height);
+        return new ComparisonResult(diffRatio);
     }
 
     private static Path resolveBaselinePath(String baselineKey) {
@@ -179,20 +175,14 @@ public class ScreenshotUtil {
     @SuppressWarnings("LombokGetterMayBeUsed")
     private static class ComparisonResult {
         private final double diffRatio;
-        private final BufferedImage diffImage;
 
-        private ComparisonResult(double diffRatio, BufferedImage diffImage) {
+        private ComparisonResult(double diffRatio) {
             this.diffRatio = diffRatio;
-            this.diffImage = diffImage;
         }
 
         public double getDiffRatio() {
             return diffRatio;
         }
 
-        public BufferedImage getDiffImage() {
-            return diffImage;
-        }
-
     }
 }
@@ -0,0 +1,55 @@
+package com.testautomation.load;
+
+import org.testng.annotations.Test;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
+
+public class TrendLineTest {
+
+    @Test
+    public void perfectLineIsRecovered() {
+        TrendLine line = TrendLine.fit(new double[]{0, 10, 20, 30}, new double[]{100, 125, 150, 175});
+        assertEquals(line.getSlope(), 2.5, 1e-9);
+        assertEquals(line.getIntercept(), 100, 1e-9);
+        assertEquals(line.getRSquared(), 1.0, 1e-9);
+        assertEquals(line.getPoints(), 4);
+    }
+
+    @Test
+    public void flatSeriesHasNoSlopeAndExplainsNothing() {
+        TrendLine line = TrendLine.fit(new double[]{1, 2, 3}, new double[]{64, 64, 64});
+        assertEquals(line.getSlope(), 0.0, 1e-9);
+        assertEquals(line.getIntercept(), 64, 1e-9);
+        assertEquals(line.getRSquared(), 0.0);
+    }
+
+    @Test
+    public void noisySeriesHasALowFit() {
+        TrendLine line = TrendLine.fit(new double[]{1, 2, 3, 4, 5, 6}, new double[]{10, 30, 10, 30, 10, 30});
+        assertTrue(line.getRSquared() < 0.3, "r2 " + line.getRSquared());
+    }
+
+    @Test
+    public void leastSquaresSlopeOfAKnownSample() {
+        // Textbook sample: slope 0.6, intercept 2.2, r2 0.6
+        TrendLine line = TrendLine.fit(new double[]{1, 2, 3, 4, 5}, new double[]{2, 4, 5, 4, 5});
+        assertEquals(line.getSlope(), 0.6, 1e-9);
+        assertEquals(line.getIntercept(), 2.2, 1e-9);
+        assertEquals(line.getRSquared(), 0.6, 1e-9);
+    }
+
+    @Test
+    public void extraValuesBeyondTheShorterArrayAreIgnored() {
+        TrendLine line = TrendLine.fit(new double[]{0, 1}, new double[]{5, 7, 1000});
+        assertEquals(line.getSlope(), 2.0, 1e-9);
+        assertEquals(line.getPoints(), 2);
+    }
+
+    @Test
+    public void degenerateInputsHaveNoLine() {
+        assertNull(TrendLine.fit(new double[]{1}, new double[]{1}));
+        assertNull(TrendLine.fit(new double[]{3, 3, 3}, new double[]{1, 2, 3}));
+    }
+}
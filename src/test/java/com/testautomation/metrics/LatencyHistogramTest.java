@@ -0,0 +1,101 @@
+package com.testautomation.metrics;
+
+import org.testng.annotations.Test;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+public class LatencyHistogramTest {
+    // Log-linear buckets keep values within about 6% (1/16) of what was recorded
+    private static final double RELATIVE_ERROR = 1.0 / 16;
+
+    private static void assertClose(double actual, double expected) {
+        assertEquals(actual, expected, expected * RELATIVE_ERROR, "expected ~" + expected + " but was " + actual);
+    }
+
+    @Test
+    public void emptyHistogramReportsZero() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        assertEquals(histogram.getCount(), 0);
+        assertEquals(histogram.getPercentileMillis(99), 0.0);
+        assertEquals(histogram.getMeanMillis(), 0.0);
+        assertEquals(histogram.getMinMillis(), 0.0);
+    }
+
+    @Test
+    public void percentilesOfAUniformRange() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (int ms = 1; ms <= 1000; ms++) {
+            histogram.recordMicros(ms * 1_000L);
+        }
+        assertEquals(histogram.getCount(), 1000);
+        assertClose(histogram.getPercentileMillis(50), 500);
+        assertClose(histogram.getPercentileMillis(95), 950);
+        assertClose(histogram.getPercentileMillis(99), 990);
+        assertClose(histogram.getPercentileMillis(100), 1000);
+        assertEquals(histogram.getMinMillis(), 1.0);
+        assertEquals(histogram.getMaxMillis(), 1000.0);
+        assertEquals(histogram.getMeanMillis(), 500.5, 1e-9);
+    }
+
+    @Test
+    public void smallValuesAreExact() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (int micros = 0; micros < 32; micros++) {
+            histogram.recordMicros(micros);
+        }
+        assertEquals(histogram.getPercentileMillis(50), 0.015);
+        assertEquals(histogram.getPercentileMillis(100), 0.031);
+    }
+
+    @Test
+    public void percentileNeverExceedsTheRecordedMaximum() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.recordNanos(1_234_567_000L);
+        assertEquals(histogram.getMaxMillis(), 1234.567);
+        assertTrue(histogram.getPercentileMillis(99) <= histogram.getMaxMillis());
+        assertClose(histogram.getPercentileMillis(99), 1234.567);
+
+        // A bucket midpoint above the only value recorded is capped at that value
+        LatencyHistogram low = new LatencyHistogram();
+        low.recordMicros(1_000);
+        assertEquals(low.getPercentileMillis(50), 1.0);
+    }
+
+    @Test
+    public void outliersMoveOnlyTheTail() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (int i = 0; i < 99; i++) {
+            histogram.recordMicros(10_000);
+        }
+        histogram.recordMicros(5_000_000);
+        assertClose(histogram.getPercentileMillis(50), 10);
+        assertClose(histogram.getPercentileMillis(99), 10);
+        assertClose(histogram.getPercentileMillis(100), 5000);
+    }
+
+    @Test
+    public void negativeValuesAreClampedToZero() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.recordMicros(-5);
+        assertEquals(histogram.getMaxMillis(), 0.0);
+        assertEquals(histogram.getPercentileMillis(50), 0.0);
+    }
+
+    @Test
+    public void mergeCombinesCountsAndExtremes() {
+        LatencyHistogram fast = new LatencyHistogram();
+        LatencyHistogram slow = new LatencyHistogram();
+        for (int i = 0; i < 50; i++) {
+            fast.recordMicros(2_000);
+            slow.recordMicros(200_000);
+        }
+        fast.merge(slow);
+        assertEquals(fast.getCount(), 100);
+        assertEquals(fast.getMinMillis(), 2.0);
+        assertEquals(fast.getMaxMillis(), 200.0);
+        assertEquals(fast.getTotalMillis(), 10_100.0, 1e-9);
+        assertClose(fast.getPercentileMillis(50), 2);
+        assertClose(fast.getPercentileMillis(51), 200);
+    }
+}
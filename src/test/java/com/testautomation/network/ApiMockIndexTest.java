@@ -0,0 +1,90 @@
+package com.testautomation.network;
+
+import org.testng.annotations.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertSame;
+
+public class ApiMockIndexTest {
+
+    private static ApiMock named(String name, String method, String path) {
+        ApiMock mock = ApiMock.of(method, path, 200, name);
+        mock.setName(name);
+        return mock;
+    }
+
+    @Test
+    public void singleStarStaysWithinAPathSegment() {
+        ApiMock user = named("user", "GET", "/api/users/*");
+        ApiMockIndex index = new ApiMockIndex(Collections.singletonList(user));
+        assertSame(index.find(null, "GET", "/api/users/42", null), user);
+        assertNull(index.find(null, "GET", "/api/users/42/orders", null));
+        assertNull(index.find(null, "GET", "/api/users", null));
+    }
+
+    @Test
+    public void doubleStarSpansSegments() {
+        ApiMock any = named("any", "GET", "/api/**");
+        ApiMockIndex index = new ApiMockIndex(Collections.singletonList(any));
+        assertSame(index.find(null, "GET", "/api/users/42/orders", null), any);
+        assertNull(index.find(null, "GET", "/static/app.js", null));
+    }
+
+    @Test
+    public void patternCharactersOtherThanStarAreLiteral() {
+        ApiMock dotted = named("dotted", "GET", "/api/v1.0/*");
+        ApiMockIndex index = new ApiMockIndex(Collections.singletonList(dotted));
+        assertSame(index.find(null, "GET", "/api/v1.0/items", null), dotted);
+        assertNull(index.find(null, "GET", "/api/v1x0/items", null));
+    }
+
+    @Test
+    public void methodMustMatch() {
+        ApiMock login = named("login", "POST", "/api/login");
+        ApiMockIndex index = new ApiMockIndex(Collections.singletonList(login));
+        assertSame(index.find(null, "POST", "/api/login", null), login);
+        assertNull(index.find(null, "GET", "/api/login", null));
+    }
+
+    @Test
+    public void fileOrderDecidesBetweenUnscopedMocks() {
+        ApiMock pattern = named("pattern", "GET", "/api/*");
+        ApiMock exact = named("exact", "GET", "/api/status");
+        assertSame(new ApiMockIndex(Arrays.asList(pattern, exact)).find(null, "GET", "/api/status", null), pattern);
+        assertSame(new ApiMockIndex(Arrays.asList(exact, pattern)).find(null, "GET", "/api/status", null), exact);
+    }
+
+    @Test
+    public void scopedMocksWinForTheirTestsOnly() {
+        ApiMock general = named("general", "POST", "/api/login");
+        ApiMock failing = named("failing", "POST", "/api/**");
+        failing.setTests(Collections.singletonList("LoginPageTest.*Invalid*"));
+        ApiMockIndex index = new ApiMockIndex(Arrays.asList(general, failing));
+
+        assertSame(index.find("LoginPageTest.testLoginWithInvalidCredentials", "POST", "/api/login", null), failing);
+        assertSame(index.find("LoginPageTest.testValidLogin", "POST", "/api/login", null), general);
+        assertSame(index.find(null, "POST", "/api/login", null), general);
+    }
+
+    @Test
+    public void bodyContainsNarrowsTheMatch() {
+        ApiMock locked = named("locked", "POST", "/api/login");
+        locked.setBodyContains("locked@example.com");
+        ApiMock fallback = named("fallback", "POST", "/api/login");
+        ApiMockIndex index = new ApiMockIndex(Arrays.asList(locked, fallback));
+
+        assertSame(index.find(null, "POST", "/api/login", "{\"email\":\"locked@example.com\"}"), locked);
+        assertSame(index.find(null, "POST", "/api/login", "{\"email\":\"test@example.com\"}"), fallback);
+        assertSame(index.find(null, "POST", "/api/login", null), fallback);
+        assertEquals(index.size(), 2);
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void mocksNeedAPath() {
+        new ApiMockIndex(Collections.singletonList(new ApiMock()));
+    }
+}
@@ -0,0 +1,112 @@
+package com.testautomation.network;
+
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Base64;
+import java.util.Collections;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNull;
+
+public class HarIndexTest {
+    private final HarMatcher matcher = new HarMatcher(false, "sorted", Collections.singleton("_"), true);
+    private Path harFile;
+
+    @BeforeMethod
+    public void writeHar() throws IOException {
+        String png = Base64.getEncoder().encodeToString(new byte[]{(byte) 0x89, 'P', 'N', 'G'});
+        harFile = Files.createTempFile("har-index", ".har");
+        Files.write(harFile, ("{\"log\":{\"version\":\"1.2\",\"entries\":["
+                + entry("GET", "https://qa.example.com/api/status?b=2&a=1", null, 200, "first", null,
+                "{\"name\":\"Content-Type\",\"value\":\"text/plain\"},{\"name\":\"Content-Encoding\",\"value\":\"gzip\"},"
+                        + "{\"name\":\"Content-Length\",\"value\":\"99\"},{\"name\":\"Set-Cookie\",\"value\":\"a=1\"},"
+                        + "{\"name\":\"Set-Cookie\",\"value\":\"b=2\"}") + ","
+                + entry("GET", "https://qa.example.com/api/status?a=1&b=2", null, 503, "second", null, "") + ","
+                + entry("POST", "https://qa.example.com/api/login", "{\"user\":\"alice\"}", 200, "alice", null, "") + ","
+                + entry("POST", "https://qa.example.com/api/login", "{\"user\":\"bob\"}", 401, "bob", null, "") + ","
+                + entry("GET", "https://qa.example.com/logo.png?_=123", null, 200, png, "base64", "")
+                + "]}}").getBytes(StandardCharsets.UTF_8));
+    }
+
+    @AfterMethod(alwaysRun = true)
+    public void deleteHar() throws IOException {
+        Files.deleteIfExists(harFile);
+    }
+
+    private static String entry(String method, String url, String postData, int status, String text, String encoding,
+                                String headers) {
+        return "{\"request\":{\"method\":\"" + method + "\",\"url\":\"" + url + "\""
+                + (postData != null ? ",\"postData\":{\"mimeType\":\"application/json\",\"text\":"
+                + quote(postData) + "}" : "") + "},"
+                + "\"response\":{\"status\":" + status + ",\"headers\":[" + headers + "],"
+                + "\"content\":{\"text\":" + quote(text) + (encoding != null ? ",\"encoding\":\"" + encoding + "\"" : "")
+                + "}}}";
+    }
+
+    private static String quote(String text) {
+        return "\"" + text.replace("\\", "\\\\").replace("\"", "\\\"") + "\"";
+    }
+
+    private static String body(HarIndex.Response response) {
+        return new String(response.getBody(), StandardCharsets.UTF_8);
+    }
+
+    @Test
+    public void repeatedRequestsGetRecordedResponsesInOrderThenTheLastOneRepeats() throws IOException {
+        HarIndex index = HarIndex.load(harFile, matcher);
+        String key = matcher.key("GET", "http://localhost:4000/api/status?a=1&b=2", null);
+
+        HarIndex.Response first = index.next(key);
+        assertEquals(first.getStatus(), 200);
+        assertEquals(body(first), "first");
+        assertEquals(index.next(key).getStatus(), 503);
+        assertEquals(body(index.next(key)), "second");
+        assertEquals(body(index.next(key)), "second");
+    }
+
+    @Test
+    public void requestBodiesSelectTheirOwnRecording() throws IOException {
+        HarIndex index = HarIndex.load(harFile, matcher);
+        HarIndex.Response bob = index.next(matcher.key("POST", "https://qa.example.com/api/login",
+                "{\"user\":\"bob\"}".getBytes(StandardCharsets.UTF_8)));
+        assertEquals(bob.getStatus(), 401);
+        assertEquals(body(bob), "bob");
+        assertEquals(body(index.next(matcher.key("POST", "https://qa.example.com/api/login",
+                "{\"user\":\"alice\"}".getBytes(StandardCharsets.UTF_8)))), "alice");
+        assertNull(index.next(matcher.key("POST", "https://qa.example.com/api/login",
+                "{\"user\":\"carol\"}".getBytes(StandardCharsets.UTF_8))));
+    }
+
+    @Test
+    public void base64BodiesAreDecodedAndIgnoredParamsMatch() throws IOException {
+        HarIndex index = HarIndex.load(harFile, matcher);
+        HarIndex.Response logo = index.next(matcher.key("GET", "https://qa.example.com/logo.png?_=999", null));
+        assertEquals(logo.getBody(), new byte[]{(byte) 0x89, 'P', 'N', 'G'});
+    }
+
+    @Test
+    public void wireEncodingHeadersAreDroppedAndRepeatedHeadersJoined() throws IOException {
+        HarIndex index = HarIndex.load(harFile, matcher);
+        HarIndex.Response first = index.next(matcher.key("GET", "https://qa.example.com/api/status?a=1&b=2", null));
+        assertEquals(first.getHeaders().get("Content-Type"), "text/plain");
+        assertEquals(first.getHeaders().get("Set-Cookie"), "a=1, b=2");
+        assertFalse(first.getHeaders().containsKey("Content-Encoding"));
+        assertFalse(first.getHeaders().containsKey("Content-Length"));
+    }
+
+    @Test
+    public void unknownRequestsAndEmptyIndexesAnswerNothing() throws IOException {
+        HarIndex index = HarIndex.load(harFile, matcher);
+        assertEquals(index.size(), 5);
+        assertNull(index.next(matcher.key("GET", "https://qa.example.com/api/other", null)));
+        assertNull(HarIndex.empty().next("GET /api/status"));
+        assertEquals(HarIndex.empty().size(), 0);
+    }
+}
@@ -0,0 +1,94 @@
+package com.testautomation.network;
+
+import org.testng.annotations.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotEquals;
+import static org.testng.Assert.assertTrue;
+
+public class HarMatcherTest {
+
+    private static HarMatcher matcher(boolean host, String query, boolean body, String... ignored) {
+        return new HarMatcher(host, query, new HashSet<>(Arrays.asList(ignored)), body);
+    }
+
+    @Test
+    public void hostIsPartOfTheKeyUnlessDisabled() {
+        HarMatcher withHost = matcher(true, "exact", false);
+        assertEquals(withHost.key("get", "https://qa.example.com:8443/api/users", null),
+                "GET https://qa.example.com:8443/api/users");
+        assertNotEquals(withHost.key("GET", "https://qa.example.com/api/users", null),
+                withHost.key("GET", "https://prod.example.com/api/users", null));
+
+        HarMatcher withoutHost = matcher(false, "exact", false);
+        assertEquals(withoutHost.key("GET", "https://qa.example.com/api/users", null),
+                withoutHost.key("GET", "http://localhost:4000/api/users", null));
+        assertEquals(withoutHost.key("GET", "https://qa.example.com", null), "GET /");
+    }
+
+    @Test
+    public void loopbackPortIsIgnoredSoAppServerRecordingsReplayOnAnotherPort() {
+        // Default config: har.match.host=true against the app server's ephemeral port
+        HarMatcher withHost = matcher(true, "sorted", true);
+        assertEquals(withHost.key("GET", "http://127.0.0.1:53211/demo-app.html", null),
+                withHost.key("GET", "http://127.0.0.1:40987/demo-app.html", null));
+        assertEquals(withHost.key("GET", "http://127.0.0.1:53211/demo-app.html", null), "GET http://127.0.0.1/demo-app.html");
+        assertEquals(withHost.key("GET", "http://localhost:4000/api/users", null),
+                withHost.key("GET", "http://localhost:4001/api/users", null));
+        assertEquals(withHost.key("GET", "http://[::1]:4000/api/users", null), "GET http://[::1]/api/users");
+        assertNotEquals(withHost.key("GET", "http://127.0.0.1:4000/api/users", null),
+                withHost.key("GET", "https://127.0.0.1:4000/api/users", null));
+    }
+
+    @Test
+    public void exactQueryKeepsParameterOrder() {
+        HarMatcher exact = matcher(false, "exact", false);
+        assertNotEquals(exact.key("GET", "http://h/search?a=1&b=2", null), exact.key("GET", "http://h/search?b=2&a=1", null));
+    }
+
+    @Test
+    public void sortedQueryIgnoresParameterOrder() {
+        HarMatcher sorted = matcher(false, "sorted", false);
+        assertEquals(sorted.key("GET", "http://h/search?b=2&a=1", null), "GET /search?a=1&b=2");
+        assertEquals(sorted.key("GET", "http://h/search?a=1&b=2", null), sorted.key("GET", "http://h/search?b=2&a=1", null));
+        assertNotEquals(sorted.key("GET", "http://h/search?a=1", null), sorted.key("GET", "http://h/search?a=2", null));
+    }
+
+    @Test
+    public void ignoredQueryModeDropsTheWholeQuery() {
+        HarMatcher ignore = matcher(false, "ignore", false);
+        assertEquals(ignore.key("GET", "http://h/search?a=1&b=2", null), "GET /search");
+    }
+
+    @Test
+    public void ignoredParamsAreNeverCompared() {
+        HarMatcher sorted = matcher(false, "sorted", false, "_", "cacheBust");
+        assertEquals(sorted.key("GET", "http://h/app.js?v=3&_=1700000000&cacheBust", null), "GET /app.js?v=3");
+        assertEquals(sorted.key("GET", "http://h/app.js?_=1", null), "GET /app.js");
+    }
+
+    @Test
+    public void bodyHashDistinguishesPayloadsWhenEnabled() {
+        byte[] alice = "{\"user\":\"alice\"}".getBytes(StandardCharsets.UTF_8);
+        byte[] bob = "{\"user\":\"bob\"}".getBytes(StandardCharsets.UTF_8);
+        HarMatcher withBody = matcher(false, "sorted", true);
+        String aliceKey = withBody.key("POST", "http://h/api/login", alice);
+        assertTrue(aliceKey.matches("POST /api/login #[0-9a-f]{16}"), aliceKey);
+        assertEquals(withBody.key("POST", "http://h/api/login", alice.clone()), aliceKey);
+        assertNotEquals(withBody.key("POST", "http://h/api/login", bob), aliceKey);
+        assertEquals(withBody.key("POST", "http://h/api/login", new byte[0]), "POST /api/login");
+
+        HarMatcher withoutBody = matcher(false, "sorted", false);
+        assertEquals(withoutBody.key("POST", "http://h/api/login", alice), withoutBody.key("POST", "http://h/api/login", bob));
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void unknownQueryModeIsRejected() {
+        new HarMatcher(true, "fuzzy", Collections.emptySet(), true);
+    }
+}
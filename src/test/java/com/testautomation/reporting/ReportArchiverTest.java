@@ -0,0 +1,58 @@
+package com.testautomation.reporting;
+
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.TreeSet;
+import java.util.stream.Stream;
+
+import static org.testng.Assert.assertEquals;
+
+public class ReportArchiverTest {
+    private Path workDir;
+
+    @BeforeMethod
+    public void createWorkDir() throws IOException {
+        workDir = Files.createTempDirectory("report-archive");
+    }
+
+    @AfterMethod(alwaysRun = true)
+    public void deleteWorkDir() throws IOException {
+        try (Stream<Path> files = Files.walk(workDir)) {
+            for (Path path : (Iterable<Path>) files.sorted(Comparator.reverseOrder())::iterator) {
+                Files.delete(path);
+            }
+        }
+    }
+
+    private Path file(String relativePath) throws IOException {
+        Path file = workDir.resolve(relativePath);
+        Files.createDirectories(file.getParent());
+        return Files.write(file, new byte[]{1});
+    }
+
+    @Test
+    public void onlyFilesTheReportLinksInsideItsDirectoryAreArchived() throws IOException {
+        Path screenshot = file("out/screenshots/login.png");
+        Path thumbnail = file("out/diffs/login-thumb.jpg");
+        Path strip = file("out/diffs/login-strip.png");
+        file("out/metrics/action-latency.csv");
+        file("out/report-events/shard/worker-1.jsonl");
+        file("outside.png");
+        Path report = workDir.resolve("out/ExtentReport.html");
+        Files.write(report, ("<a href='screenshots/login.png' target='_blank'><img src='data:image/jpeg;base64,AAAA'/></a>"
+                + "<a href=\\'diffs/login-strip.png\\'><img src=\\\"diffs/login-thumb.jpg?v=1\\\"/></a>"
+                + "<a href='../outside.png'>x</a><a href='screenshots/missing.png'>x</a>"
+                + "<script src='https://cdn.example.com/spark.js'></script><a href='#top'>top</a>")
+                .getBytes(StandardCharsets.UTF_8));
+
+        assertEquals(ReportArchiver.linkedFiles(report), new TreeSet<>(Arrays.asList(screenshot, thumbnail, strip)));
+    }
+}
@@ -0,0 +1,104 @@
+package com.testautomation.reporting;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.stream.Stream;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+public class ReportEventMergerTest {
+    private Path workDir;
+
+    @BeforeMethod
+    public void createWorkDir() throws IOException {
+        workDir = Files.createTempDirectory("report-events");
+    }
+
+    @AfterMethod(alwaysRun = true)
+    public void deleteWorkDir() throws IOException {
+        try (Stream<Path> files = Files.walk(workDir)) {
+            for (Path path : (Iterable<Path>) files.sorted(Comparator.reverseOrder())::iterator) {
+                Files.delete(path);
+            }
+        }
+    }
+
+    private static String started(String shard, String testId, String name, long timestamp) {
+        return "{\"type\":\"TEST_STARTED\",\"testId\":\"" + testId + "\",\"name\":\"" + name + "\",\"shard\":\""
+                + shard + "\",\"thread\":\"worker-1\",\"timestamp\":" + timestamp + "}";
+    }
+
+    private static String log(String shard, String testId, String status, long timestamp) {
+        return "{\"type\":\"LOG\",\"testId\":\"" + testId + "\",\"status\":\"" + status + "\",\"message\":\"" + status
+                + "\",\"shard\":\"" + shard + "\",\"thread\":\"worker-1\",\"timestamp\":" + timestamp + "}";
+    }
+
+    private Path write(String shard, String file, String... lines) throws IOException {
+        Path shardDir = Files.createDirectories(workDir.resolve("events").resolve(shard));
+        Files.write(shardDir.resolve(file), String.join("\n", lines).getBytes(StandardCharsets.UTF_8));
+        return shardDir;
+    }
+
+    private JsonNode merge(Path... directories) throws IOException {
+        Path summary = workDir.resolve("summary.json");
+        ReportEventMerger.merge(Arrays.asList(directories), workDir.resolve("report.html").toString(), summary);
+        return new ObjectMapper().readTree(summary.toFile());
+    }
+
+    @Test
+    public void shardsAreCombinedInStartOrderWithStatusCounts() throws IOException {
+        Path shardA = write("a", "worker-1.jsonl",
+                started("a", "a-1", "LoginPageTest.testValidLogin", 2000),
+                log("a", "a-1", "PASS", 2100));
+        Path shardB = write("b", "worker-1.jsonl",
+                started("b", "b-1", "LandingPageTest.testTitle", 1000),
+                log("b", "b-1", "INFO", 1050),
+                log("b", "b-1", "FAIL", 1500));
+
+        JsonNode summary = merge(shardA, shardB);
+
+        assertEquals(summary.path("total").asInt(), 2);
+        assertEquals(summary.path("shards").toString(), "[\"a\",\"b\"]");
+        assertEquals(summary.path("statusCounts").path("PASS").asInt(), 1);
+        assertEquals(summary.path("statusCounts").path("FAIL").asInt(), 1);
+        JsonNode first = summary.path("tests").get(0);
+        assertEquals(first.path("name").asText(), "LandingPageTest.testTitle");
+        assertEquals(first.path("status").asText(), "FAIL");
+        assertEquals(first.path("durationMs").asLong(), 500);
+        assertEquals(summary.path("tests").get(1).path("shard").asText(), "a");
+        assertTrue(Files.size(workDir.resolve("report.html")) > 0);
+    }
+
+    @Test
+    public void parentDirectoryMergesEveryShardBelowIt() throws IOException {
+        write("a", "worker-1.jsonl", started("a", "a-1", "E2ETest.journey", 1000), log("a", "a-1", "PASS", 1100));
+        write("b", "worker-2.jsonl", started("b", "b-1", "E2ETest.journey", 1200), log("b", "b-1", "PASS", 1300));
+
+        assertEquals(merge(workDir.resolve("events")).path("total").asInt(), 2);
+    }
+
+    @Test
+    public void truncatedLinesAndOrphanEventsAreSkipped() throws IOException {
+        Path shard = write("a", "worker-1.jsonl",
+                log("a", "a-0", "PASS", 900),
+                started("a", "a-1", "DashboardPageTest.testSearch", 1000),
+                log("a", "a-1", "PASS", 1100),
+                "{\"type\":\"LOG\",\"testId\":\"a-1\",\"sta");
+
+        JsonNode summary = merge(shard, workDir.resolve("missing"));
+
+        assertEquals(summary.path("total").asInt(), 1);
+        assertEquals(summary.path("tests").get(0).path("status").asText(), "PASS");
+    }
+}
@@ -0,0 +1,90 @@
+package com.testautomation.server;
+
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertTrue;
+
+public class AppServerTest {
+
+    @BeforeClass
+    public void startServer() {
+        AppServer.startShared();
+        assertNotNull(AppServer.getAppUrl(), "app server did not start");
+    }
+
+    @AfterClass(alwaysRun = true)
+    public void stopServer() {
+        AppServer.stopAll();
+    }
+
+    private static String delayed(String body, long delayMs) {
+        return AppServer.delayedResponseUrl(201, Collections.singletonMap("Content-Type", "application/json"),
+                body.getBytes(StandardCharsets.UTF_8), delayMs);
+    }
+
+    private static String fetch(String url) throws IOException {
+        HttpURLConnection connection = (HttpURLConnection) new URL(url).openConnection();
+        try (InputStream in = connection.getInputStream()) {
+            return connection.getResponseCode() + " " + connection.getContentType() + " "
+                    + new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        } finally {
+            connection.disconnect();
+        }
+    }
+
+    @Test
+    public void delayedResponsesAreServedWithTheParkedStatusHeadersAndBody() throws IOException {
+        assertEquals(fetch(delayed("{\"id\":1}", 0)), "201 application/json {\"id\":1}");
+    }
+
+    @Test
+    public void delayedResponseUrlsAreOneShot() throws IOException {
+        String url = delayed("{}", 0);
+        fetch(url);
+        HttpURLConnection connection = (HttpURLConnection) new URL(url).openConnection();
+        assertEquals(connection.getResponseCode(), 404);
+        connection.disconnect();
+    }
+
+    @Test
+    public void concurrentDelaysOverlapInsteadOfQueueing() throws Exception {
+        int calls = 4;
+        long delayMs = 500;
+        List<String> urls = new ArrayList<>();
+        for (int i = 0; i < calls; i++) {
+            urls.add(delayed("{\"call\":" + i + "}", delayMs));
+        }
+        ExecutorService clients = Executors.newFixedThreadPool(calls);
+        try {
+            long start = System.nanoTime();
+            List<Future<String>> responses = new ArrayList<>();
+            for (String url : urls) {
+                responses.add(clients.submit(() -> fetch(url)));
+            }
+            for (int i = 0; i < calls; i++) {
+                assertEquals(responses.get(i).get(), "201 application/json {\"call\":" + i + "}");
+            }
+            long elapsedMs = (System.nanoTime() - start) / 1_000_000;
+            assertTrue(elapsedMs >= delayMs, "answered before the delay: " + elapsedMs + " ms");
+            assertTrue(elapsedMs < 2 * delayMs, calls + " delayed calls took " + elapsedMs + " ms, so they ran one after another");
+        } finally {
+            clients.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package com.testautomation.tests;
+
+import com.testautomation.base.BaseTest;
+import com.testautomation.config.ConfigManager;
+import com.testautomation.load.LoadResult;
+import com.testautomation.load.LoadRunner;
+import com.testautomation.load.LoadSettings;
+import com.testautomation.utils.ExtentReportManager;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.testng.Assert;
+import org.testng.ITestContext;
+import org.testng.annotations.Listeners;
+import org.testng.annotations.Test;
+
+import java.util.Locale;
+
+/**
+ * Runs a journey under load with the settings from testng-load.xml (or {@code load.*} properties).
+ * Not part of testng.xml: {@code mvn test -Dsurefire.suiteXmlFiles=testng-load.xml}
+ */
+@Listeners(com.testautomation.listeners.TestListener.class)
+public class LoadTest extends BaseTest {
+    private static final Logger logger = LogManager.getLogger(LoadTest.class);
+
+    @Test(description = "Run a user journey with concurrent virtual users")
+    public void testJourneyUnderLoad(ITestContext context) {
+        LoadSettings settings = LoadSettings.fromConfig(context.getCurrentXmlTest().getAllParameters());
+        logger.info("Testing journey under load: {}", settings.describe());
+
+        LoadResult result = LoadRunner.run(settings);
+        result.export();
+        ExtentReportManager.logInfo(result.toHtml());
+
+        double maxErrorRate = ConfigManager.getDoubleProperty("load.max.error.rate", 0.01);
+        try {
+            Assert.assertTrue(result.getIterations() > 0, "Load run should complete at least one iteration");
+            Assert.assertTrue(result.getErrorRate() <= maxErrorRate, String.format(Locale.ENGLISH,
+                    "Error rate %.1f%% exceeds %.1f%%", result.getErrorRate() * 100, maxErrorRate * 100));
+            ExtentReportManager.logPass("Load run passed: " + result.summary());
+        } catch (AssertionError e) {
+            ExtentReportManager.logFail("Load run failed: " + e.getMessage());
+            throw e;
+        }
+    }
+}
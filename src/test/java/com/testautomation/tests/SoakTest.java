@@ -0,0 +1,42 @@
+package com.testautomation.tests;
+
+import com.testautomation.base.BaseTest;
+import com.testautomation.load.SoakResult;
+import com.testautomation.load.SoakRunner;
+import com.testautomation.load.SoakSettings;
+import com.testautomation.utils.ExtentReportManager;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.testng.Assert;
+import org.testng.ITestContext;
+import org.testng.annotations.Listeners;
+import org.testng.annotations.Test;
+
+/**
+ * Loops a journey for hours and fails on steady memory growth, with the settings from testng-soak.xml
+ * (or {@code soak.*} properties). Not part of testng.xml: {@code mvn test -Dsurefire.suiteXmlFiles=testng-soak.xml}
+ */
+@Listeners(com.testautomation.listeners.TestListener.class)
+public class SoakTest extends BaseTest {
+    private static final Logger logger = LogManager.getLogger(SoakTest.class);
+
+    @Test(description = "Loop a user journey and check JVM, browser and page memory trends")
+    public void testJourneyMemoryTrend(ITestContext context) {
+        SoakSettings settings = SoakSettings.fromConfig(context.getCurrentXmlTest().getAllParameters());
+        logger.info("Testing memory trend under soak: {}", settings.describe());
+
+        SoakResult result = SoakRunner.run(settings);
+        result.export();
+        ExtentReportManager.logInfo(result.toHtml());
+
+        try {
+            Assert.assertNull(result.getAbortReason(), "Soak run should not abort");
+            Assert.assertTrue(result.getViolations().isEmpty(), "Memory should not grow beyond the limits: "
+                    + result.getViolations());
+            ExtentReportManager.logPass("Soak run passed: " + result.summary());
+        } catch (AssertionError e) {
+            ExtentReportManager.logFail("Soak run failed: " + e.getMessage());
+            throw e;
+        }
+    }
+}